@@ -0,0 +1,11 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter;
+
+/**
+ * Tratador de um canal LISTEN/NOTIFY do PostgreSQL, atendido pelo PgNotificationListener.
+ * onListening(false) sinaliza que avisos podem ter sido perdidos: caches devem parar de servir da memória.
+ */
+public interface PgChannelHandler {
+    String channel();
+    void onListening(boolean listening);
+    void onNotification(String payload);
+}
@@ -0,0 +1,119 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Uma conexão do pool dedicada a LISTEN em todos os canais dos PgChannelHandler registrados,
+ * repassando cada aviso ao tratador do canal. Se a conexão cair, os tratadores são avisados
+ * (onListening(false)) e a escuta é refeita após PG_LISTEN_RETRY_MS.
+ * <p>
+ * Sem tráfego, uma conexão meio aberta (TCP descartado por NAT/firewall) não dá erro no poll e os avisos
+ * simplesmente param de chegar. A cada PG_LISTEN_HEARTBEAT_MS um SELECT 1 força uma ida e volta; com o
+ * timeout de rede no mesmo valor, a falta de resposta vira SQLException e a escuta é refeita.
+ */
+@Component
+public class PgNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PgNotificationListener.class);
+
+    private final DataSource dataSource;
+    private final Map<String, PgChannelHandler> handlers;
+    private final int pollMillis;
+    private final long retryMillis;
+    private final int heartbeatMillis;
+    private volatile boolean running;
+    private Thread worker;
+
+    public PgNotificationListener(DataSource dataSource,
+                                  List<PgChannelHandler> handlers,
+                                  @Value("${PG_LISTEN_POLL_MS:500}") int pollMillis,
+                                  @Value("${PG_LISTEN_RETRY_MS:5000}") long retryMillis,
+                                  @Value("${PG_LISTEN_HEARTBEAT_MS:30000}") int heartbeatMillis) {
+        this.dataSource = dataSource;
+        this.handlers = handlers.stream().collect(Collectors.toMap(PgChannelHandler::channel, Function.identity()));
+        this.pollMillis = pollMillis;
+        this.retryMillis = retryMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (handlers.isEmpty()) return;
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("pg-notification-listener").start(this::loop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) worker.join(pollMillis * 2L);
+    }
+
+    private void loop() {
+        while (running) {
+            try (Connection conn = dataSource.getConnection()) {
+                conn.setAutoCommit(true);
+                conn.setNetworkTimeout(Runnable::run, heartbeatMillis);
+                try (Statement st = conn.createStatement()) {
+                    for (String channel : handlers.keySet()) st.execute("LISTEN " + channel);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                handlers.values().forEach(h -> h.onListening(true));
+                log.info("pg.listen listening channels={}", handlers.keySet());
+                long lastBeat = System.nanoTime();
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(pollMillis);
+                    if (notifications != null) {
+                        for (PGNotification n : notifications) dispatch(n.getName(), n.getParameter());
+                    }
+                    if (System.nanoTime() - lastBeat >= heartbeatMillis * 1_000_000L) {
+                        heartbeat(conn);
+                        lastBeat = System.nanoTime();
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                log.warn("pg.listen disconnected, retrying in {} ms: {}", retryMillis, ex.getMessage());
+            } finally {
+                handlers.values().forEach(h -> h.onListening(false));
+            }
+            if (running) sleep();
+        }
+    }
+
+    private static void heartbeat(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("SELECT 1");
+        }
+    }
+
+    void dispatch(String channel, String payload) {
+        PgChannelHandler handler = handlers.get(channel);
+        if (handler != null) handler.onNotification(payload);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(retryMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reserva ids das sequências &lt;tabela&gt;_seq (V11) para gravações via JDBC puro.
+ * Segue o otimizador pooled-lo do Hibernate: cada nextval reserva [v, v + BLOCK).
+ * Usar o DEFAULT da coluna gastaria um bloco inteiro por linha.
+ */
+@Component
+public class SequenceIdAllocator {
+
+    // Deve coincidir com o INCREMENT BY das sequências criadas na V11
+    public static final int BLOCK = 50;
+
+    private final JdbcTemplate jdbc;
+
+    public SequenceIdAllocator(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public List<Integer> allocate(String sequence, int count) {
+        if (count == 0) return List.of();
+        int blocks = (count + BLOCK - 1) / BLOCK;
+        List<Integer> starts = jdbc.queryForList(
+                "SELECT nextval(?::regclass)::int FROM generate_series(1, ?)", Integer.class, "public." + sequence, blocks);
+        List<Integer> ids = new ArrayList<>(count);
+        for (Integer start : starts) {
+            for (int i = 0; i < BLOCK && ids.size() < count; i++) {
+                ids.add(start + i);
+            }
+        }
+        return ids;
+    }
+}
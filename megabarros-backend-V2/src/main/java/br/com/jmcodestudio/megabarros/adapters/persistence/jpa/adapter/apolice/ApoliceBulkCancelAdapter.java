@@ -0,0 +1,114 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.SequenceIdAllocator;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCancelSelection;
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceBulkCancelPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cancelamento em massa, um lote por transação: reserva os ids de status, trava as apólices, fecha os
+ * status abertos, insere CANCELADA e grava a auditoria do lote. apolice.status_atual acompanha via
+ * triggers de apolice_status (V10). Antes de alterar status o lote trava as linhas de apolice em ordem de id: a trigger atualiza apolice
+ * depois de apolice_status, e sem esse lock prévio o cancelamento travaria na ordem inversa à do
+ * job de vencimento (apolice, depois apolice_status), com risco de deadlock.
+ */
+@Component
+public class ApoliceBulkCancelAdapter implements ApoliceBulkCancelPort {
+
+    private static final String LOCK_CHUNK = """
+            SELECT a.id_apolice FROM public.apolice a
+             WHERE a.id_apolice = ANY (:ids)
+             ORDER BY a.id_apolice
+               FOR UPDATE
+            """;
+    private static final String CLOSE_OPEN = """
+            UPDATE public.apolice_status
+               SET data_fim = :at
+             WHERE id_apolice = ANY (:ids)
+               AND data_fim IS NULL
+               AND status <> 'CANCELADA'
+            """;
+    // NOT EXISTS: apólices que já tinham CANCELADA aberto (cancelamento concorrente) ficam de fora
+    private static final String INSERT_CANCELADA = """
+            INSERT INTO public.apolice_status (id_status, id_apolice, status, data_inicio)
+            SELECT t.id_status, t.id_apolice, 'CANCELADA', :at
+              FROM unnest(:statusIds, :ids) AS t(id_status, id_apolice)
+             WHERE NOT EXISTS (SELECT 1 FROM public.apolice_status s
+                                WHERE s.id_apolice = t.id_apolice AND s.data_fim IS NULL)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final SequenceIdAllocator sequenceIds;
+    private final AuditLogPort audit;
+
+    public ApoliceBulkCancelAdapter(NamedParameterJdbcTemplate jdbc, SequenceIdAllocator sequenceIds, AuditLogPort audit) {
+        this.jdbc = jdbc;
+        this.sequenceIds = sequenceIds;
+        this.audit = audit;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findCancellableIds(ApoliceCancelSelection selection, int afterId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT a.id_apolice FROM public.apolice a
+                 WHERE a.id_apolice > :afterId
+                   AND a.status_atual IS DISTINCT FROM 'CANCELADA'
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        if (selection.byIds()) {
+            sql.append(" AND a.id_apolice = ANY (:ids)");
+            params.addValue("ids", selection.ids().toArray(Integer[]::new));
+        }
+        if (selection.produtoId() != null) {
+            sql.append(" AND a.id_produto = :produtoId");
+            params.addValue("produtoId", selection.produtoId());
+        }
+        if (selection.seguradoraId() != null) {
+            sql.append(" AND a.id_seguradora = :seguradoraId");
+            params.addValue("seguradoraId", selection.seguradoraId());
+        }
+        sql.append(" ORDER BY a.id_apolice LIMIT :limit");
+        return jdbc.queryForList(sql.toString(), params, Integer.class);
+    }
+
+    @Override
+    @Transactional
+    public int cancelChunk(List<Integer> ids, LocalDateTime at, AuditLogPort.Entry entry) {
+        if (ids.isEmpty()) return 0;
+        Integer[] idArray = ids.toArray(Integer[]::new);
+        Integer[] statusIds = sequenceIds.allocate("apolice_status_seq", ids.size()).toArray(Integer[]::new);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", idArray)
+                .addValue("statusIds", statusIds)
+                .addValue("at", Timestamp.valueOf(at));
+        int count;
+        try {
+            jdbc.queryForList(LOCK_CHUNK, params, Integer.class);
+            jdbc.update(CLOSE_OPEN, params);
+            count = jdbc.update(INSERT_CANCELADA, params);
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalStateException("Lote de cancelamento rejeitado pelo banco: " + ex.getMostSpecificCause().getMessage(), ex);
+        }
+        // Mesma transação: lote confirmado sempre tem auditoria, e falha na auditoria desfaz o lote
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("count", count);
+        if (entry.metadata() != null) metadata.putAll(entry.metadata());
+        audit.record(new AuditLogPort.Entry(entry.occurredAt(), entry.userId(), entry.action(), entry.subject(),
+                entry.ip(), entry.userAgent(), metadata));
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.SequenceIdAllocator;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceExpiryPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Vencimento em lotes: trava as apólices do lote com SKIP LOCKED e faz a transição com dois comandos
+ * set-based. Execuções concorrentes do job pegam linhas distintas; apólices já travadas por um
+ * cancelamento ficam para o próximo lote. Os cancelamentos (unitário e em massa) travam apolice antes
+ * de apolice_status, a mesma ordem daqui, então o conflito vira espera e não deadlock.
+ * A busca usa o índice parcial idx_apolice_ativa_vigencia_fim (V13).
+ */
+@Component
+public class ApoliceExpiryAdapter implements ApoliceExpiryPort {
+
+    private static final String LOCK_DUE = """
+            SELECT a.id_apolice FROM public.apolice a
+             WHERE a.status_atual = 'ATIVA'
+               AND a.vigencia_fim < :hoje
+             ORDER BY a.vigencia_fim, a.id_apolice
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """;
+    private static final String CLOSE_OPEN = """
+            UPDATE public.apolice_status
+               SET data_fim = :at
+             WHERE id_apolice = ANY (:ids)
+               AND data_fim IS NULL
+            """;
+    private static final String INSERT_VENCIDA = """
+            INSERT INTO public.apolice_status (id_status, id_apolice, status, data_inicio)
+            SELECT t.id_status, t.id_apolice, 'VENCIDA', :at
+              FROM unnest(:statusIds, :ids) AS t(id_status, id_apolice)
+            """;
+    private static final String OLDEST_PENDING = """
+            SELECT min(a.vigencia_fim) FROM public.apolice a
+             WHERE a.status_atual = 'ATIVA'
+               AND a.vigencia_fim < :hoje
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final SequenceIdAllocator sequenceIds;
+
+    public ApoliceExpiryAdapter(NamedParameterJdbcTemplate jdbc, SequenceIdAllocator sequenceIds) {
+        this.jdbc = jdbc;
+        this.sequenceIds = sequenceIds;
+    }
+
+    @Override
+    @Transactional
+    public int expireChunk(LocalDate hoje, int limit, LocalDateTime at) {
+        List<Integer> ids = jdbc.queryForList(LOCK_DUE, new MapSqlParameterSource()
+                .addValue("hoje", Date.valueOf(hoje))
+                .addValue("limit", limit), Integer.class);
+        if (ids.isEmpty()) return 0;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids.toArray(Integer[]::new))
+                .addValue("statusIds", sequenceIds.allocate("apolice_status_seq", ids.size()).toArray(Integer[]::new))
+                .addValue("at", Timestamp.valueOf(at));
+        jdbc.update(CLOSE_OPEN, params);
+        return jdbc.update(INSERT_VENCIDA, params);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> oldestPending(LocalDate hoje) {
+        Date oldest = jdbc.queryForObject(OLDEST_PENDING,
+                new MapSqlParameterSource("hoje", Date.valueOf(hoje)), Date.class);
+        return Optional.ofNullable(oldest).map(Date::toLocalDate);
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceExportPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Exportação via JDBC puro: o PostgreSQL só usa cursor no servidor (fetchSize respeitado)
+ * com autocommit desligado, por isso o método exige transação somente leitura.
+ */
+@Component
+public class ApoliceExportAdapter implements ApoliceExportPort {
+
+    private static final String SELECT = """
+            SELECT a.id_apolice, a.numero_apolice, a.data_emissao, a.vigencia_inicio, a.vigencia_fim,
+                   a.valor, a.comissao_percentual, a.tipo_contrato,
+                   a.id_corretor_cliente, a.id_produto, a.id_seguradora, a.status_atual
+              FROM public.apolice a
+             WHERE 1 = 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ApoliceExportAdapter(DataSource dataSource,
+                                @Value("${APOLICE_EXPORT_FETCH_SIZE:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbc = new NamedParameterJdbcTemplate(template);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAll(ApoliceFilter filter, Consumer<ApoliceSummary> sink) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        appendFilter(filter, sql, params);
+        sql.append(" ORDER BY a.id_apolice");
+
+        AtomicLong rows = new AtomicLong();
+        jdbc.query(sql.toString(), params, (RowCallbackHandler) rs -> {
+            sink.accept(toSummary(rs));
+            rows.incrementAndGet();
+        });
+        return rows.get();
+    }
+
+    private static void appendFilter(ApoliceFilter f, StringBuilder sql, MapSqlParameterSource params) {
+        if (f.seguradoraId() != null) {
+            sql.append(" AND a.id_seguradora = :seguradoraId");
+            params.addValue("seguradoraId", f.seguradoraId());
+        }
+        if (f.produtoId() != null) {
+            sql.append(" AND a.id_produto = :produtoId");
+            params.addValue("produtoId", f.produtoId());
+        }
+        if (f.corretorClienteId() != null) {
+            sql.append(" AND a.id_corretor_cliente = :corretorClienteId");
+            params.addValue("corretorClienteId", f.corretorClienteId());
+        }
+        if (f.vigenciaDe() != null) {
+            sql.append(" AND a.vigencia_fim >= :vigenciaDe");
+            params.addValue("vigenciaDe", f.vigenciaDe());
+        }
+        if (f.vigenciaAte() != null) {
+            sql.append(" AND a.vigencia_inicio <= :vigenciaAte");
+            params.addValue("vigenciaAte", f.vigenciaAte());
+        }
+        if (f.emissaoDe() != null) {
+            sql.append(" AND a.data_emissao >= :emissaoDe");
+            params.addValue("emissaoDe", f.emissaoDe());
+        }
+        if (f.emissaoAte() != null) {
+            sql.append(" AND a.data_emissao <= :emissaoAte");
+            params.addValue("emissaoAte", f.emissaoAte());
+        }
+        if (f.status() != null) {
+            sql.append(" AND a.status_atual = :status");
+            params.addValue("status", f.status());
+        }
+        if (f.scope().isEmpty()) {
+            sql.append(" AND FALSE");
+        } else if (f.scope().hasInlineIds()) {
+            sql.append(" AND a.id_corretor_cliente IN (:scopeIds)");
+            params.addValue("scopeIds", f.scope().corretorClienteIds());
+        } else if (f.scope().restricted()) {
+            sql.append(" AND a.id_corretor_cliente IN (SELECT cc.id_corretor_cliente FROM public.corretor_cliente cc"
+                    + " WHERE cc.id_corretor = :scopeCorretorId)");
+            params.addValue("scopeCorretorId", f.scope().corretorId());
+        }
+    }
+
+    private static ApoliceSummary toSummary(ResultSet rs) throws SQLException {
+        return new ApoliceSummary(
+                rs.getInt("id_apolice"),
+                rs.getString("numero_apolice"),
+                rs.getObject("data_emissao", LocalDate.class),
+                rs.getObject("vigencia_inicio", LocalDate.class),
+                rs.getObject("vigencia_fim", LocalDate.class),
+                rs.getBigDecimal("valor"),
+                rs.getBigDecimal("comissao_percentual"),
+                rs.getString("tipo_contrato"),
+                rs.getInt("id_corretor_cliente"),
+                rs.getInt("id_produto"),
+                rs.getInt("id_seguradora"),
+                rs.getString("status_atual")
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.SequenceIdAllocator;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportReferences;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceImportPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Importação em massa via JDBC: ids pré-alocados das sequências ({@link SequenceIdAllocator})
+ * e inserts em batch, reescritos pelo driver em INSERTs multi-valores (reWriteBatchedInserts).
+ * apolice.status_atual já é gravado no insert: o trigger de apolice_status encontra o valor
+ * correto e não precisa reescrever a linha (evita um UPDATE por apólice).
+ */
+@Component
+public class ApoliceImportAdapter implements ApoliceImportPort {
+
+    private static final String INSERT_APOLICE = """
+            INSERT INTO public.apolice (id_apolice, numero_apolice, data_emissao, vigencia_inicio, vigencia_fim,
+                                        valor, comissao_percentual, tipo_contrato,
+                                        id_corretor_cliente, id_produto, id_seguradora, status_atual)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_STATUS = """
+            INSERT INTO public.apolice_status (id_status, id_apolice, status, data_inicio) VALUES (?, ?, ?, ?)
+            """;
+    private static final String INSERT_PARCELA = """
+            INSERT INTO public.parcela_apolice (id_parcela, id_apolice, numero_parcela, data_vencimento, valor_parcela,
+                                                status_pagamento, data_pagamento)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final SequenceIdAllocator ids;
+
+    public ApoliceImportAdapter(JdbcTemplate jdbc, SequenceIdAllocator ids) {
+        this.jdbc = jdbc;
+        this.ids = ids;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApoliceImportReferences loadReferences() {
+        Map<Integer, Integer> produtoSeguradora = new HashMap<>();
+        jdbc.query("SELECT id_produto, id_seguradora FROM public.produto",
+                rs -> { produtoSeguradora.put(rs.getInt(1), rs.getInt(2)); });
+        Set<Integer> seguradoras = new HashSet<>(jdbc.queryForList("SELECT id_seguradora FROM public.seguradora", Integer.class));
+        Set<Integer> corretorClientes = new HashSet<>(jdbc.queryForList("SELECT id_corretor_cliente FROM public.corretor_cliente", Integer.class));
+        return new ApoliceImportReferences(produtoSeguradora, seguradoras, corretorClientes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingNumeros(Collection<String> numeros) {
+        if (numeros.isEmpty()) return Set.of();
+        return new HashSet<>(jdbc.queryForList(
+                "SELECT numero_apolice FROM public.apolice WHERE numero_apolice = ANY (?)",
+                String.class, (Object) numeros.toArray(String[]::new)));
+    }
+
+    @Override
+    @Transactional
+    public void insertChunk(List<Apolice> apolices) {
+        if (apolices.isEmpty()) return;
+        List<Integer> apoliceIds = ids.allocate("apolice_seq", apolices.size());
+        List<Integer> statusIds = ids.allocate("apolice_status_seq", apolices.size());
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+        // Setters tipados: evita que o JdbcTemplate consulte metadados do parâmetro a cada valor nulo
+        List<ParcelaRow> parcelas = new ArrayList<>();
+        for (int i = 0; i < apolices.size(); i++) {
+            List<Parcela> ps = apolices.get(i).parcelas();
+            if (ps == null) continue;
+            for (Parcela p : ps) parcelas.add(new ParcelaRow(apoliceIds.get(i), p));
+        }
+        List<Integer> parcelaIds = ids.allocate("parcela_apolice_seq", parcelas.size());
+
+        try {
+            batch(INSERT_APOLICE, apolices.size(), (ps, i) -> {
+                Apolice a = apolices.get(i);
+                ps.setInt(1, apoliceIds.get(i));
+                ps.setString(2, a.numeroApolice());
+                ps.setObject(3, a.dataEmissao(), Types.DATE);
+                ps.setObject(4, a.vigenciaInicio(), Types.DATE);
+                ps.setObject(5, a.vigenciaFim(), Types.DATE);
+                ps.setBigDecimal(6, a.valor());
+                ps.setBigDecimal(7, a.comissaoPercentual());
+                ps.setString(8, a.tipoContrato());
+                ps.setInt(9, a.idCorretorCliente());
+                ps.setInt(10, a.idProduto());
+                ps.setInt(11, a.idSeguradora());
+                ps.setString(12, a.statusAtual());
+            });
+            batch(INSERT_STATUS, apolices.size(), (ps, i) -> {
+                ps.setInt(1, statusIds.get(i));
+                ps.setInt(2, apoliceIds.get(i));
+                ps.setString(3, apolices.get(i).statusAtual());
+                ps.setTimestamp(4, agora);
+            });
+            batch(INSERT_PARCELA, parcelas.size(), (ps, i) -> {
+                ParcelaRow r = parcelas.get(i);
+                ps.setInt(1, parcelaIds.get(i));
+                ps.setInt(2, r.idApolice());
+                ps.setInt(3, r.parcela().numeroParcela());
+                ps.setObject(4, r.parcela().dataVencimento(), Types.DATE);
+                ps.setBigDecimal(5, r.parcela().valorParcela());
+                ps.setString(6, r.parcela().statusPagamento());
+                ps.setObject(7, r.parcela().dataPagamento(), Types.DATE);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalStateException("Lote rejeitado pelo banco: " + ex.getMostSpecificCause().getMessage(), ex);
+        }
+    }
+
+    private record ParcelaRow(int idApolice, Parcela parcela) {}
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private void batch(String sql, int size, RowSetter setter) {
+        if (size == 0) return;
+        jdbc.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApolicePage;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApolicePortfolioPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * Carteira do corretor: junção corretor_cliente → apolice em uma consulta
+ * (idx_cc_corretor seguido de idx_apolice_cc_status), com o mesmo keyset da listagem de apólices.
+ * corretor_cliente não tem entidade JPA, por isso a consulta é SQL direto.
+ */
+@Component
+public class ApolicePortfolioAdapter implements ApolicePortfolioPort {
+
+    private static final String FIND_PORTFOLIO = """
+            SELECT a.id_apolice, a.numero_apolice, a.data_emissao, a.vigencia_inicio, a.vigencia_fim,
+                   a.valor, a.comissao_percentual, a.tipo_contrato, a.id_corretor_cliente,
+                   a.id_produto, a.id_seguradora, a.status_atual
+              FROM public.corretor_cliente cc
+              JOIN public.apolice a ON a.id_corretor_cliente = cc.id_corretor_cliente
+             WHERE cc.id_corretor = :corretorId
+            """;
+    private static final String STATUS = " AND a.status_atual = :status";
+    private static final String AFTER_ID = " AND a.id_apolice > :afterId";
+    private static final String AFTER_VIGENCIA = " AND (a.vigencia_fim, a.id_apolice) > (:afterVigencia, :afterId)";
+    private static final String ORDER_ID = " ORDER BY a.id_apolice LIMIT :limit";
+    private static final String ORDER_VIGENCIA = " ORDER BY a.vigencia_fim, a.id_apolice LIMIT :limit";
+
+    private static final RowMapper<ApoliceSummary> ROW = (rs, i) -> new ApoliceSummary(
+            rs.getInt("id_apolice"),
+            rs.getString("numero_apolice"),
+            rs.getDate("data_emissao").toLocalDate(),
+            rs.getDate("vigencia_inicio").toLocalDate(),
+            rs.getDate("vigencia_fim").toLocalDate(),
+            rs.getBigDecimal("valor"),
+            rs.getBigDecimal("comissao_percentual"),
+            rs.getString("tipo_contrato"),
+            rs.getInt("id_corretor_cliente"),
+            rs.getInt("id_produto"),
+            rs.getInt("id_seguradora"),
+            rs.getString("status_atual"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ApolicePortfolioAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApolicePage<ApoliceSummary> findPortfolio(Integer corretorId, String status, ApoliceSort sort, ApoliceCursor after, int limit) {
+        boolean porVigencia = sort == ApoliceSort.VIGENCIA_FIM;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("corretorId", corretorId)
+                .addValue("limit", limit + 1);
+        StringBuilder sql = new StringBuilder(FIND_PORTFOLIO);
+        if (status != null) {
+            sql.append(STATUS);
+            params.addValue("status", status);
+        }
+        if (after != null) {
+            sql.append(porVigencia ? AFTER_VIGENCIA : AFTER_ID);
+            params.addValue("afterId", after.id());
+            if (porVigencia) params.addValue("afterVigencia", Date.valueOf(after.vigenciaFim()));
+        }
+        sql.append(porVigencia ? ORDER_VIGENCIA : ORDER_ID);
+        List<ApoliceSummary> rows = jdbc.query(sql.toString(), params, ROW);
+        boolean hasNext = rows.size() > limit;
+        List<ApoliceSummary> items = hasNext ? rows.subList(0, limit) : rows;
+        return new ApolicePage<>(items, hasNext ? ApoliceCursor.of(sort, items.get(items.size() - 1)) : null);
+    }
+}
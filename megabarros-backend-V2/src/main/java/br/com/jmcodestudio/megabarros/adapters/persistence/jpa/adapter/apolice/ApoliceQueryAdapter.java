@@ -35,6 +35,11 @@ public class ApoliceQueryAdapter implements ApoliceQueryPort {
         return repo.existsByProdutoId(produtoId.value());
     }
 
+    @Override
+    public boolean existsBySeguradoraOrProdutos(SeguradoraId seguradoraId) {
+        return repo.existsBySeguradoraOrProdutos(seguradoraId.value());
+    }
+
     @Override
     public long countBySeguradoraId(SeguradoraId seguradoraId) {
         return repo.countBySeguradoraId(seguradoraId.value());
@@ -1,7 +1,9 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
 
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceCoberturaEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceStatusEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.BeneficiarioEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.parcela.ParcelaApoliceEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ApolicePersistenceMapper;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.*;
@@ -9,25 +11,45 @@ import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.parcel
 import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
 
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 
 @Component
 @Transactional
 public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
 
+    // Limite de ids por consulta IN na hidratação em lote
+    static final int HYDRATION_CHUNK_SIZE = 1000;
+
     private final ApoliceJpaRepository apoliceRepo;
     private final ApoliceStatusJpaRepository statusRepo;
     private final ParcelaApoliceJpaRepository parcelaRepo;
-    // Mantemos os repos abaixo para futuro, mas não usamos nesta fase:
     private final ApoliceCoberturaJpaRepository coberturaRepo;
     private final BeneficiarioJpaRepository beneficiarioRepo;
     private final ApolicePersistenceMapper mapper;
 
+    @PersistenceContext
+    private EntityManager em;
+
     public ApoliceRepositoryAdapter(ApoliceJpaRepository apoliceRepo,
                                     ApoliceStatusJpaRepository statusRepo,
                                     ParcelaApoliceJpaRepository parcelaRepo,
@@ -43,10 +65,55 @@ public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
     }
 
     private Apolice hydrate(ApoliceEntity e) {
-        String statusAtual = statusRepo.findCurrent(e.getId()).map(ApoliceStatusEntity::getStatus).orElse(null);
-        List<Parcela> parcelas = parcelaRepo.findByIdApolice(e.getId()).stream().map(mapper::toDomain).toList();
-        // Nesta fase, não carregamos coberturas e beneficiários
-        return mapper.toDomain(e, statusAtual, parcelas, List.of(), List.of());
+        return hydrateAll(List.of(e)).get(0);
+    }
+
+    private List<Apolice> hydrateAll(List<ApoliceEntity> entities) {
+        return hydrateAll(entities, ApoliceExpand.all());
+    }
+
+    /**
+     * Hidrata uma lista de apólices com custo constante de consultas: o status atual vem
+     * da própria linha (apolice.status_atual) e parcelas, coberturas e beneficiários de uma consulta
+     * por relação e bloco de ids, montadas em memória, evitando a hidratação por entidade.
+     * Partes fora de 'expand' não são consultadas.
+     */
+    private List<Apolice> hydrateAll(List<ApoliceEntity> entities, Set<ApoliceExpand> expand) {
+        if (entities.isEmpty()) return List.of();
+        List<Integer> ids = entities.stream().map(ApoliceEntity::getId).distinct().toList();
+
+        Map<Integer, List<Parcela>> parcelasPorApolice = expand.contains(ApoliceExpand.PARCELAS)
+                ? loadByApolice(ids, parcelaRepo::findByIdApoliceIn, mapper::toDomain, ParcelaApoliceEntity::getIdApolice)
+                : Map.of();
+        Map<Integer, List<ApoliceCobertura>> coberturasPorApolice = expand.contains(ApoliceExpand.COBERTURAS)
+                ? loadByApolice(ids, coberturaRepo::findByIdApoliceIn, mapper::toDomain, ApoliceCoberturaEntity::getIdApolice)
+                : Map.of();
+        Map<Integer, List<Beneficiario>> beneficiariosPorApolice = expand.contains(ApoliceExpand.BENEFICIARIOS)
+                ? loadByApolice(ids, beneficiarioRepo::findByIdApoliceIn, mapper::toDomain, BeneficiarioEntity::getIdApolice)
+                : Map.of();
+
+        return entities.stream()
+                .map(e -> mapper.toDomain(e,
+                        e.getStatusAtual(),
+                        parcelasPorApolice.getOrDefault(e.getId(), List.of()),
+                        coberturasPorApolice.getOrDefault(e.getId(), List.of()),
+                        beneficiariosPorApolice.getOrDefault(e.getId(), List.of())))
+                .toList();
+    }
+
+    // Uma consulta IN por bloco de ids; as linhas são agrupadas por apólice mantendo a ordem da consulta
+    private static <E, D> Map<Integer, List<D>> loadByApolice(List<Integer> ids,
+                                                             Function<List<Integer>, List<E>> query,
+                                                             Function<E, D> toDomain,
+                                                             Function<E, Integer> apoliceId) {
+        Map<Integer, List<D>> out = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += HYDRATION_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + HYDRATION_CHUNK_SIZE, ids.size()));
+            for (E row : query.apply(chunk)) {
+                out.computeIfAbsent(apoliceId.apply(row), k -> new ArrayList<>()).add(toDomain.apply(row));
+            }
+        }
+        return out;
     }
 
     @Override
@@ -56,34 +123,138 @@ public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
         return hydrate(s);
     }
 
+    @Override
+    public Apolice create(Apolice apolice, ApoliceStatus statusInicial) {
+        ApoliceEntity e = mapper.toEntity(apolice);
+        try {
+            e = apoliceRepo.save(e);
+            ApoliceStatusEntity status = mapper.toEntity(statusInicial);
+            status.setIdApolice(e.getId());
+            // Um único flush envia apólice e status; a trigger preenche apolice.status_atual
+            statusRepo.saveAndFlush(status);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, "uq_apolice_numero")) {
+                throw new IllegalStateException("Número de apólice já existente: " + apolice.numeroApolice());
+            }
+            throw ex;
+        }
+        // Resposta montada a partir do que foi escrito (sem reler): apólice nova não tem parcelas,
+        // coberturas e beneficiários do cadastro são gravados depois (saveCoberturas/saveBeneficiarios)
+        e.setStatusAtual(statusInicial.status());
+        return mapper.toDomain(e, statusInicial.status(), List.of(), List.of(), List.of());
+    }
+
+    // Identifica a constraint pelo nome informado pelo Hibernate ou, na falta dele, pelo SQLState de
+    // unicidade + nome da constraint no ServerErrorMessage do driver; nunca pelo texto da mensagem
+    private static boolean violates(Throwable ex, String constraint) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && constraint.equalsIgnoreCase(cve.getConstraintName())) {
+                return true;
+            }
+            if (t instanceof PSQLException pe
+                    && PSQLState.UNIQUE_VIOLATION.getState().equals(pe.getSQLState())
+                    && pe.getServerErrorMessage() != null
+                    && constraint.equalsIgnoreCase(pe.getServerErrorMessage().getConstraint())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Apolice> findById(ApoliceId id) {
         return apoliceRepo.findById(id.value()).map(this::hydrate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Apolice> findById(ApoliceId id, DataScope scope) {
+        if (!scope.restricted()) return findById(id);
+        if (scope.isEmpty()) return Optional.empty();
+        return apoliceRepo.findOne(ApoliceSpecifications.hasId(id.value()).and(ApoliceSpecifications.within(scope)))
+                .map(this::hydrate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Apolice> findAll() {
-        return apoliceRepo.findAll().stream().map(this::hydrate).toList();
+        return hydrateAll(apoliceRepo.findAll());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Apolice> findBySeguradoraId(Integer seguradoraId) {
-        return apoliceRepo.findByIdSeguradora(seguradoraId).stream().map(this::hydrate).toList();
+        return hydrateAll(apoliceRepo.findByIdSeguradora(seguradoraId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Apolice> findByProdutoId(Integer produtoId) {
-        return apoliceRepo.findByIdProduto(produtoId).stream().map(this::hydrate).toList();
+        return hydrateAll(apoliceRepo.findByIdProduto(produtoId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Apolice> findByCorretorClienteId(Integer corretorClienteId) {
-        return apoliceRepo.findByIdCorretorCliente(corretorClienteId).stream().map(this::hydrate).toList();
+        return hydrateAll(apoliceRepo.findByIdCorretorCliente(corretorClienteId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Apolice> findAll(ApoliceFilter filter, Set<ApoliceExpand> expand) {
+        return hydrateAll(apoliceRepo.findAll(ApoliceSpecifications.matching(filter), Sort.by("id")), expand);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApolicePage<Apolice> search(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit, Set<ApoliceExpand> expand) {
+        var spec = ApoliceSpecifications.matching(filter).and(ApoliceSpecifications.after(after));
+        // Busca limit + 1 linhas para saber se há próxima página sem COUNT
+        List<ApoliceEntity> rows = apoliceRepo.findBy(spec,
+                q -> q.sortBy(ApoliceSpecifications.sortOf(sort)).limit(limit + 1).all());
+        boolean hasNext = rows.size() > limit;
+        List<Apolice> items = hydrateAll(hasNext ? rows.subList(0, limit) : rows, expand);
+        return new ApolicePage<>(items, hasNext ? ApoliceCursor.of(sort, items.get(items.size() - 1)) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApoliceSummary> findSummaries(ApoliceFilter filter) {
+        return querySummaries(ApoliceSpecifications.matching(filter), ApoliceSort.ID, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApolicePage<ApoliceSummary> searchSummaries(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit) {
+        var spec = ApoliceSpecifications.matching(filter).and(ApoliceSpecifications.after(after));
+        List<ApoliceSummary> rows = querySummaries(spec, sort, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ApoliceSummary> items = hasNext ? rows.subList(0, limit) : rows;
+        return new ApolicePage<>(items, hasNext ? ApoliceCursor.of(sort, items.get(items.size() - 1)) : null);
+    }
+
+    // Projeção por construtor: lê só as colunas da apólice, sem gerenciar entidades
+    private List<ApoliceSummary> querySummaries(Specification<ApoliceEntity> spec, ApoliceSort sort, Integer maxResults) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ApoliceSummary> cq = cb.createQuery(ApoliceSummary.class);
+        Root<ApoliceEntity> a = cq.from(ApoliceEntity.class);
+        cq.select(cb.construct(ApoliceSummary.class,
+                a.get("id"), a.get("numero"), a.get("dataEmissao"), a.get("vigenciaInicio"), a.get("vigenciaFim"),
+                a.get("valor"), a.get("comissaoPercentual"), a.get("tipoContrato"),
+                a.get("idCorretorCliente"), a.get("idProduto"), a.get("idSeguradora"), a.get("statusAtual")));
+        Predicate where = spec.toPredicate(a, cq, cb);
+        if (where != null) cq.where(where);
+        cq.orderBy(ApoliceSpecifications.ordersOf(sort, a, cb));
+        TypedQuery<ApoliceSummary> q = em.createQuery(cq);
+        if (maxResults != null) q.setMaxResults(maxResults);
+        return q.getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(ApoliceId id) {
+        return apoliceRepo.existsById(id.value());
     }
 
     @Override
@@ -100,16 +271,38 @@ public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
     @Override
     public ApoliceStatus addStatus(ApoliceStatus status) {
         ApoliceStatusEntity e = mapper.toEntity(status);
-        ApoliceStatusEntity s = statusRepo.save(e);
+        // Flush imediato: o índice único parcial exige fechar o status anterior antes de abrir o próximo,
+        // e a trigger atualiza apolice.status_atual no mesmo comando
+        ApoliceStatusEntity s = statusRepo.saveAndFlush(e);
+        refreshIfManaged(s.getIdApolice());
         return mapper.toDomain(s);
     }
 
+    // Recarrega status_atual se a apólice já estiver no contexto de persistência (valor alterado pela trigger)
+    private void refreshIfManaged(Integer idApolice) {
+        ApoliceEntity ref = em.getReference(ApoliceEntity.class, idApolice);
+        if (Hibernate.isInitialized(ref)) {
+            em.refresh(ref);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<ApoliceStatus> findCurrentStatus(ApoliceId id) {
         return statusRepo.findCurrent(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public boolean lockById(ApoliceId id) {
+        return apoliceRepo.lockById(id.value()).isPresent();
+    }
+
+    @Override
+    public Optional<ApoliceStatus> lockCurrentStatus(ApoliceId id) {
+        if (!lockById(id)) return Optional.empty();
+        return statusRepo.findCurrent(id.value()).map(mapper::toDomain);
+    }
+
     // Parcela
     @Override
     public Parcela saveParcela(Parcela p) {
@@ -118,6 +311,13 @@ public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
         return mapper.toDomain(s);
     }
 
+    // Ids vêm da sequência (pooled-lo), então os inserts saem agrupados em batch no flush
+    @Override
+    public List<Parcela> saveParcelas(List<Parcela> parcelas) {
+        List<ParcelaApoliceEntity> entities = parcelas.stream().map(mapper::toEntity).toList();
+        return parcelaRepo.saveAll(entities).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Parcela> listParcelas(ApoliceId id) {
@@ -135,34 +335,80 @@ public class ApoliceRepositoryAdapter implements ApoliceRepositoryPort {
         parcelaRepo.deleteById(id);
     }
 
-    // Cobertura e Beneficiário: métodos permanecem, mas não serão usados nesta fase.
+    // Cobertura
     @Override
     public ApoliceCobertura saveCobertura(ApoliceCobertura c) {
-        throw new UnsupportedOperationException("Cobertura não suportada nesta fase");
+        return saveCoberturas(List.of(c)).get(0);
     }
 
+    // Inserts agrupados em batch num único flush; cobertura repetida na apólice -> IllegalStateException
     @Override
+    public List<ApoliceCobertura> saveCoberturas(List<ApoliceCobertura> coberturas) {
+        List<ApoliceCoberturaEntity> entities = coberturas.stream().map(mapper::toEntity).toList();
+        try {
+            return coberturaRepo.saveAllAndFlush(entities).stream().map(mapper::toDomain).toList();
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, "uq_ac_por_apolice_cobertura")) {
+                throw new IllegalStateException("Cobertura já contratada nesta apólice.");
+            }
+            if (violates(ex, "fk_ac_cobertura")) {
+                throw new IllegalArgumentException("Cobertura inexistente.");
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<ApoliceCobertura> listCoberturas(ApoliceId id) {
-        return List.of();
+        return coberturaRepo.findByIdApolice(id.value()).stream().map(mapper::toDomain).toList();
     }
 
     @Override
     public void deleteCoberturaById(Integer id) {
-        throw new UnsupportedOperationException("Cobertura não suportada nesta fase");
+        coberturaRepo.deleteById(id);
     }
 
+    @Override
+    public int deleteCoberturas(ApoliceId id, Collection<Integer> ids) {
+        if (ids.isEmpty()) return 0;
+        return coberturaRepo.deleteByIdApoliceAndIdIn(id.value(), ids);
+    }
+
+    // Beneficiário
     @Override
     public Beneficiario saveBeneficiario(Beneficiario b) {
-        throw new UnsupportedOperationException("Beneficiário não suportado nesta fase");
+        return saveBeneficiarios(List.of(b)).get(0);
+    }
+
+    // Inserts agrupados em batch num único flush
+    @Override
+    public List<Beneficiario> saveBeneficiarios(List<Beneficiario> beneficiarios) {
+        List<BeneficiarioEntity> entities = beneficiarios.stream().map(mapper::toEntity).toList();
+        try {
+            return beneficiarioRepo.saveAllAndFlush(entities).stream().map(mapper::toDomain).toList();
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, "fk_beneficiario_cliente")) {
+                throw new IllegalArgumentException("Cliente do beneficiário inexistente.");
+            }
+            throw ex;
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Beneficiario> listBeneficiarios(ApoliceId id) {
-        return List.of();
+        return beneficiarioRepo.findByIdApolice(id.value()).stream().map(mapper::toDomain).toList();
     }
 
     @Override
     public void deleteBeneficiarioById(Integer id) {
-        throw new UnsupportedOperationException("Beneficiário não suportado nesta fase");
+        beneficiarioRepo.deleteById(id);
+    }
+
+    @Override
+    public int deleteBeneficiarios(ApoliceId id, Collection<Integer> ids) {
+        if (ids.isEmpty()) return 0;
+        return beneficiarioRepo.deleteByIdApoliceAndIdIn(id.value(), ids);
     }
-}
\ No newline at end of file
+}
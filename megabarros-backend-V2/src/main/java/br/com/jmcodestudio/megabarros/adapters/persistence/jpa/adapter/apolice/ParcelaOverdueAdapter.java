@@ -0,0 +1,107 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasada;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasadaPage;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaCursor;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ParcelaOverduePort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Inadimplência de parcelas. As consultas repetem exatamente os predicados dos índices parciais
+ * de V14 para que o planner os use: a listagem percorre idx_parcela_em_aberto_vencimento e
+ * o job percorre idx_parcela_pendente_vencimento. Parcelas de apólices canceladas não são cobradas:
+ * o status da apólice é conferido pela PK de apolice para cada parcela lida do índice.
+ */
+@Component
+public class ParcelaOverdueAdapter implements ParcelaOverduePort {
+
+    private static final String FIND_OVERDUE = """
+            SELECT p.id_parcela, p.id_apolice, a.numero_apolice, p.numero_parcela,
+                   p.data_vencimento, p.valor_parcela, p.status_pagamento
+              FROM public.parcela_apolice p
+              JOIN public.apolice a ON a.id_apolice = p.id_apolice
+             WHERE p.status_pagamento IS DISTINCT FROM 'PAGA'
+               AND p.data_vencimento < :hoje
+               AND a.status_atual IS DISTINCT FROM 'CANCELADA'
+            """;
+    private static final String SCOPE_IDS = " AND a.id_corretor_cliente IN (:scopeIds)";
+    private static final String SCOPE_CORRETOR = " AND a.id_corretor_cliente IN (SELECT cc.id_corretor_cliente"
+            + " FROM public.corretor_cliente cc WHERE cc.id_corretor = :corretorId)";
+    private static final String AFTER = " AND (p.data_vencimento, p.id_parcela) > (:afterData, :afterId)";
+    private static final String ORDER = " ORDER BY p.data_vencimento, p.id_parcela LIMIT :limit";
+
+    private static final String MARK_OVERDUE = """
+            UPDATE public.parcela_apolice
+               SET status_pagamento = 'ATRASADA'
+             WHERE id_parcela IN (
+                   SELECT p.id_parcela FROM public.parcela_apolice p
+                    WHERE p.status_pagamento IS DISTINCT FROM 'PAGA'
+                      AND p.status_pagamento IS DISTINCT FROM 'ATRASADA'
+                      AND p.data_vencimento < :hoje
+                      AND EXISTS (SELECT 1 FROM public.apolice a
+                                   WHERE a.id_apolice = p.id_apolice
+                                     AND a.status_atual IS DISTINCT FROM 'CANCELADA')
+                    ORDER BY p.data_vencimento, p.id_parcela
+                    LIMIT :limit
+                      FOR UPDATE OF p SKIP LOCKED)
+            """;
+
+    private static final RowMapper<ParcelaAtrasada> ROW = (rs, i) -> new ParcelaAtrasada(
+            rs.getInt("id_parcela"),
+            rs.getInt("id_apolice"),
+            rs.getString("numero_apolice"),
+            rs.getInt("numero_parcela"),
+            rs.getDate("data_vencimento").toLocalDate(),
+            rs.getBigDecimal("valor_parcela"),
+            rs.getString("status_pagamento"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ParcelaOverdueAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ParcelaAtrasadaPage findOverdue(LocalDate hoje, DataScope scope, ParcelaCursor after, int limit) {
+        if (scope.isEmpty()) return new ParcelaAtrasadaPage(List.of(), null);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("hoje", Date.valueOf(hoje))
+                .addValue("limit", limit + 1);
+        StringBuilder sql = new StringBuilder(FIND_OVERDUE);
+        if (scope.hasInlineIds()) {
+            sql.append(SCOPE_IDS);
+            params.addValue("scopeIds", scope.corretorClienteIds());
+        } else if (scope.restricted()) {
+            sql.append(SCOPE_CORRETOR);
+            params.addValue("corretorId", scope.corretorId());
+        }
+        if (after != null) {
+            sql.append(AFTER);
+            params.addValue("afterData", Date.valueOf(after.dataVencimento()))
+                    .addValue("afterId", after.id());
+        }
+        sql.append(ORDER);
+        List<ParcelaAtrasada> rows = jdbc.query(sql.toString(), params, ROW);
+        boolean hasNext = rows.size() > limit;
+        List<ParcelaAtrasada> items = hasNext ? rows.subList(0, limit) : rows;
+        return new ParcelaAtrasadaPage(items, hasNext ? ParcelaCursor.of(items.get(items.size() - 1)) : null);
+    }
+
+    @Override
+    @Transactional
+    public int markOverdueChunk(LocalDate hoje, int limit) {
+        return jdbc.update(MARK_OVERDUE, new MapSqlParameterSource()
+                .addValue("hoje", Date.valueOf(hoje))
+                .addValue("limit", limit));
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.cliente;
 
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor.CorretorClienteLinkIndex;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEnderecoEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ClientePersistenceMapper;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente.ClienteEnderecoJpaRepository;
@@ -7,36 +9,64 @@ import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.client
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente.ClienteQueryRepository;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClientePage;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Endereco;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
 import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteRepositoryPort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @Transactional
 public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 
+    // Tamanho do bloco de ids por consulta de endereços (limita o IN)
+    static final int HYDRATION_CHUNK_SIZE = 1000;
+
     private final ClienteJpaRepository clienteRepo;
     private final ClienteEnderecoJpaRepository enderecoRepo;
     private final ClienteQueryRepository clienteQueryRepo;
     private final ClientePersistenceMapper mapper;
+    private final CorretorClienteLinkIndex links;
 
     public ClienteRepositoryAdapter(ClienteJpaRepository clienteRepo,
                                     ClienteEnderecoJpaRepository enderecoRepo,
                                     ClienteQueryRepository clienteQueryRepo,
-                                    ClientePersistenceMapper mapper) {
+                                    ClientePersistenceMapper mapper,
+                                    CorretorClienteLinkIndex links) {
         this.clienteRepo = clienteRepo;
         this.enderecoRepo = enderecoRepo;
         this.clienteQueryRepo = clienteQueryRepo;
         this.mapper = mapper;
+        this.links = links;
     }
 
     private Cliente hydrate(ClienteEntity e) {
-        List<Endereco> enderecos = enderecoRepo.findByIdCliente(e.getId()).stream().map(mapper::toDomain).toList();
-        return mapper.toDomain(e, enderecos);
+        return hydrateAll(List.of(e)).get(0);
+    }
+
+    // Endereços de uma consulta por bloco de ids, agrupados em memória (sem consulta por cliente)
+    private List<Cliente> hydrateAll(List<ClienteEntity> entities) {
+        if (entities.isEmpty()) return List.of();
+        List<Integer> ids = entities.stream().map(ClienteEntity::getId).distinct().toList();
+
+        Map<Integer, List<Endereco>> enderecosPorCliente = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += HYDRATION_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + HYDRATION_CHUNK_SIZE, ids.size()));
+            enderecosPorCliente.putAll(enderecoRepo.findByIdClienteIn(chunk).stream()
+                    .collect(Collectors.groupingBy(ClienteEnderecoEntity::getIdCliente,
+                            Collectors.mapping(mapper::toDomain, Collectors.toList()))));
+        }
+        return entities.stream()
+                .map(e -> mapper.toDomain(e, enderecosPorCliente.getOrDefault(e.getId(), List.of())))
+                .toList();
     }
 
     @Override
@@ -52,6 +82,15 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
         return clienteRepo.findById(id.value()).map(this::hydrate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Cliente> findById(ClienteId id, DataScope scope) {
+        if (!scope.restricted()) return findById(id);
+        // Vínculo conferido em memória; cliente não vinculado nem chega a ser lido
+        if (scope.isEmpty() || !links.isLinked(scope.corretorId(), id.value())) return Optional.empty();
+        return findById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Cliente> findByCpfCnpj(String cpfCnpj) {
@@ -61,15 +100,27 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
     @Override
     @Transactional(readOnly = true)
     public List<Cliente> findAll() {
-        return clienteRepo.findAll().stream().map(this::hydrate).toList();
+        return hydrateAll(clienteRepo.findAll());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Cliente> findByCorretorId(Integer corretorId) {
-        List<Integer> ids = clienteQueryRepo.findIdsByCorretorId(corretorId);
-        return ids.isEmpty() ? List.of()
-                : clienteRepo.findAllById(ids).stream().map(this::hydrate).toList();
+        return hydrateAll(clienteQueryRepo.findByCorretorId(corretorId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClientePage findPage(DataScope scope, Integer afterId, int limit) {
+        if (scope.isEmpty()) return new ClientePage(List.of(), null);
+        int after = afterId != null ? afterId : 0;
+        // limit + 1 indica se há próxima página sem COUNT
+        List<ClienteEntity> rows = scope.restricted()
+                ? clienteQueryRepo.findPageByCorretorId(scope.corretorId(), after, Limit.of(limit + 1))
+                : clienteRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<Cliente> items = hydrateAll(hasNext ? rows.subList(0, limit) : rows);
+        return new ClientePage(items, hasNext ? items.get(items.size() - 1).id().value() : null);
     }
 
     @Override
@@ -0,0 +1,149 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.cliente;
+
+import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteMatch;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchPage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteSearchPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca de clientes (autocompletar) em faixas, cada uma lida já na ordem de um índice:
+ * PREFIXO percorre idx_cliente_nome_prefixo (nome em minúsculas, collation "C") em ordem alfabética;
+ * SEMELHANTE usa os índices GIN pg_trgm (contém no nome/e-mail, ou nome parecido) em ordem de id.
+ * Ordenar todos os candidatos por similarity() obrigaria a pontuar dezenas de milhares de linhas
+ * para termos curtos; por faixa o custo fica proporcional à página.
+ * As expressões lower(...) precisam ser idênticas às dos índices da V17.
+ */
+@Component
+public class ClienteSearchAdapter implements ClienteSearchPort {
+
+    private static final String SELECT = """
+            SELECT c.id_cliente, c.nome_cliente, c.cpf_cnpj, c.data_nascimento, c.email, c.telefone, c.ativo,
+                   lower(c.nome_cliente) COLLATE "C" AS chave
+              FROM public.cliente c
+            """;
+    private static final String BY_DOCUMENTO = SELECT + " WHERE c.cpf_cnpj IN (:digitos, :informado)";
+    private static final String PREFIXO = SELECT + " WHERE lower(c.nome_cliente) COLLATE \"C\" LIKE :prefixo";
+    private static final String SEMELHANTE = SELECT + """
+             WHERE (lower(c.nome_cliente) LIKE :contem OR lower(c.email) LIKE :contem OR :termo <% lower(c.nome_cliente))
+               AND lower(c.nome_cliente) COLLATE "C" NOT LIKE :prefixo
+            """;
+    private static final String SCOPE = """
+             AND c.id_cliente IN (SELECT cc.id_cliente FROM public.corretor_cliente cc WHERE cc.id_corretor = :corretorId)
+            """;
+    private static final String AFTER_PREFIXO = " AND (lower(c.nome_cliente) COLLATE \"C\", c.id_cliente) > (:afterNome, :afterId)";
+    private static final String AFTER_ID = " AND c.id_cliente > :afterId";
+    private static final String ORDER_PREFIXO = " ORDER BY lower(c.nome_cliente) COLLATE \"C\", c.id_cliente LIMIT :limit";
+    private static final String ORDER_ID = " ORDER BY c.id_cliente LIMIT :limit";
+
+    private record Hit(Cliente cliente, String chave) {
+    }
+
+    private static final RowMapper<Hit> ROW = (rs, i) -> {
+        Date nascimento = rs.getDate("data_nascimento");
+        Cliente cliente = new Cliente(
+                new ClienteId(rs.getInt("id_cliente")),
+                rs.getString("nome_cliente"),
+                rs.getString("cpf_cnpj"),
+                nascimento != null ? nascimento.toLocalDate() : null,
+                rs.getString("email"),
+                rs.getString("telefone"),
+                (Boolean) rs.getObject("ativo"),
+                List.of());
+        return new Hit(cliente, rs.getString("chave"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ClienteSearchAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClienteSearchPage findByDocumento(String digitos, String informado, DataScope scope) {
+        if (scope.isEmpty()) return new ClienteSearchPage(List.of(), null);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("digitos", digitos)
+                .addValue("informado", informado);
+        List<Cliente> items = jdbc.query(scoped(BY_DOCUMENTO, scope, params), params, ROW).stream()
+                .map(Hit::cliente)
+                .toList();
+        return new ClienteSearchPage(items, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClienteSearchPage searchText(String termo, DataScope scope, ClienteSearchCursor after, int limit) {
+        if (scope.isEmpty()) return new ClienteSearchPage(List.of(), null);
+        String like = escapeLike(termo);
+        // limit + 1 indica se há próxima página; a faixa seguinte só é lida se a anterior não a completou
+        List<Hit> hits = new ArrayList<>();
+        List<ClienteMatch> faixas = new ArrayList<>();
+
+        if (after == null || after.match() == ClienteMatch.PREFIXO) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("prefixo", like + "%")
+                    .addValue("limit", limit + 1);
+            StringBuilder sql = new StringBuilder(scoped(PREFIXO, scope, params));
+            if (after != null) {
+                sql.append(AFTER_PREFIXO);
+                params.addValue("afterNome", after.nome()).addValue("afterId", after.id());
+            }
+            sql.append(ORDER_PREFIXO);
+            collect(jdbc.query(sql.toString(), params, ROW), ClienteMatch.PREFIXO, hits, faixas);
+        }
+
+        if (hits.size() <= limit) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("termo", termo)
+                    .addValue("contem", "%" + like + "%")
+                    .addValue("prefixo", like + "%")
+                    .addValue("limit", limit + 1 - hits.size());
+            StringBuilder sql = new StringBuilder(scoped(SEMELHANTE, scope, params));
+            if (after != null && after.match() == ClienteMatch.SEMELHANTE) {
+                sql.append(AFTER_ID);
+                params.addValue("afterId", after.id());
+            }
+            sql.append(ORDER_ID);
+            collect(jdbc.query(sql.toString(), params, ROW), ClienteMatch.SEMELHANTE, hits, faixas);
+        }
+
+        boolean hasNext = hits.size() > limit;
+        List<Hit> page = hasNext ? hits.subList(0, limit) : hits;
+        ClienteSearchCursor next = null;
+        if (hasNext) {
+            Hit last = page.get(page.size() - 1);
+            ClienteMatch match = faixas.get(page.size() - 1);
+            next = new ClienteSearchCursor(match, match == ClienteMatch.PREFIXO ? last.chave() : null, last.cliente().id().value());
+        }
+        return new ClienteSearchPage(page.stream().map(Hit::cliente).toList(), next);
+    }
+
+    private static void collect(List<Hit> rows, ClienteMatch match, List<Hit> hits, List<ClienteMatch> faixas) {
+        hits.addAll(rows);
+        rows.forEach(r -> faixas.add(match));
+    }
+
+    private static String scoped(String sql, DataScope scope, MapSqlParameterSource params) {
+        if (!scope.restricted()) return sql;
+        params.addValue("corretorId", scope.corretorId());
+        return sql + SCOPE;
+    }
+
+    // O termo entra literal no LIKE: curingas digitados pelo usuário não podem alargar a busca
+    static String escapeLike(String termo) {
+        return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
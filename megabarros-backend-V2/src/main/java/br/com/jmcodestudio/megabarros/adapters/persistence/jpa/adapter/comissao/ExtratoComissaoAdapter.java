@@ -0,0 +1,141 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.comissao;
+
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+import br.com.jmcodestudio.megabarros.application.port.out.comissao.ExtratoComissaoPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Comissão agregada no banco a partir de parcelas PAGA (corretor_cliente -> apolice -> parcela_apolice).
+ * Os índices de V16 cobrem o caminho inteiro; o período é filtrado por data_pagamento em [início, fim).
+ * Meses encerrados ficam em extrato_comissao_mensal até um trigger de V23 apagá-los (pagamento retroativo,
+ * parcela excluída, comissão ou vínculo alterados).
+ */
+@Component
+public class ExtratoComissaoAdapter implements ExtratoComissaoPort {
+
+    private static final String PAGAS = """
+              FROM public.corretor_cliente cc
+              JOIN public.apolice a ON a.id_corretor_cliente = cc.id_corretor_cliente
+              JOIN public.parcela_apolice p ON p.id_apolice = a.id_apolice
+             WHERE cc.id_corretor = :corretorId
+               AND p.status_pagamento = 'PAGA'
+               AND p.data_pagamento >= :inicio
+               AND p.data_pagamento < :fim
+            """;
+    private static final String MONTHS_SELECT = """
+            SELECT date_trunc('month', p.data_pagamento)::date AS mes, count(*) AS parcelas_pagas,
+                   sum(p.valor_parcela) AS valor_pago, sum(p.valor_parcela * a.comissao_percentual / 100) AS comissao_total
+            """;
+    private static final String MONTHS = MONTHS_SELECT + PAGAS + " GROUP BY 1 ORDER BY 1";
+    private static final String ITENS = """
+            SELECT date_trunc('month', p.data_pagamento)::date AS mes, a.id_apolice, a.numero_apolice, cc.id_cliente,
+                   a.comissao_percentual, count(*) AS parcelas_pagas, sum(p.valor_parcela) AS valor_pago,
+                   sum(p.valor_parcela * a.comissao_percentual / 100) AS comissao_total
+            """ + PAGAS + " GROUP BY 1, a.id_apolice, a.numero_apolice, cc.id_cliente, a.comissao_percentual ORDER BY 1, a.id_apolice";
+    private static final String CACHED = """
+            SELECT mes, parcelas_pagas, valor_pago, comissao_total
+              FROM public.extrato_comissao_mensal
+             WHERE id_corretor = :corretorId AND mes BETWEEN :inicio AND :ultimo
+             ORDER BY mes
+            """;
+    // Mesma chave dos triggers de V23; tomada em instrução própria, antes do snapshot do recálculo
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('extrato_comissao_mensal'), :corretorId)";
+    // Recalcula no próprio INSERT (não grava os valores lidos antes da trava); meses sem pagamento gravam zero
+    private static final String CACHE = """
+            INSERT INTO public.extrato_comissao_mensal (id_corretor, mes, parcelas_pagas, valor_pago, comissao_total)
+            SELECT :corretorId, m.mes, coalesce(t.parcelas_pagas, 0), coalesce(t.valor_pago, 0), coalesce(t.comissao_total, 0)
+              FROM (SELECT g::date AS mes
+                      FROM generate_series(CAST(:inicio AS date), CAST(:ultimo AS date), interval '1 month') g) m
+              LEFT JOIN (
+            """ + MONTHS_SELECT + PAGAS + """
+                     GROUP BY 1) t ON t.mes = m.mes
+             WHERE m.mes IN (:meses)
+            ON CONFLICT (id_corretor, mes) DO NOTHING
+            """;
+
+    private static final RowMapper<ExtratoComissaoMes> MES = (rs, i) -> new ExtratoComissaoMes(
+            YearMonth.from(rs.getDate("mes").toLocalDate()),
+            rs.getLong("parcelas_pagas"),
+            rs.getBigDecimal("valor_pago"),
+            rs.getBigDecimal("comissao_total"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streaming;
+
+    public ExtratoComissaoAdapter(NamedParameterJdbcTemplate jdbc, DataSource dataSource,
+                                  @Value("${EXTRATO_COMISSAO_FETCH_SIZE:1000}") int fetchSize) {
+        this.jdbc = jdbc;
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.streaming = new NamedParameterJdbcTemplate(template);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExtratoComissaoMes> computeMonths(Integer corretorId, YearMonth de, YearMonth ate) {
+        return jdbc.query(MONTHS, periodo(corretorId, de, ate), MES);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExtratoComissaoMes> findCachedMonths(Integer corretorId, YearMonth de, YearMonth ate) {
+        return jdbc.query(CACHED, new MapSqlParameterSource()
+                .addValue("corretorId", corretorId)
+                .addValue("inicio", Date.valueOf(de.atDay(1)))
+                .addValue("ultimo", Date.valueOf(ate.atDay(1))), MES);
+    }
+
+    @Override
+    @Transactional
+    public void cacheMonths(Integer corretorId, List<YearMonth> meses) {
+        if (meses.isEmpty()) return;
+        YearMonth primeiro = meses.stream().min(YearMonth::compareTo).orElseThrow();
+        YearMonth ultimo = meses.stream().max(YearMonth::compareTo).orElseThrow();
+        MapSqlParameterSource params = periodo(corretorId, primeiro, ultimo)
+                .addValue("ultimo", Date.valueOf(ultimo.atDay(1)))
+                .addValue("meses", meses.stream().map(m -> Date.valueOf(m.atDay(1))).toList());
+        jdbc.query(LOCK, params, (RowCallbackHandler) rs -> { });
+        jdbc.update(CACHE, params);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamItens(Integer corretorId, YearMonth de, YearMonth ate, Consumer<ExtratoComissaoItem> sink) {
+        AtomicLong rows = new AtomicLong();
+        streaming.query(ITENS, periodo(corretorId, de, ate), (RowCallbackHandler) rs -> {
+            sink.accept(new ExtratoComissaoItem(
+                    YearMonth.from(rs.getDate("mes").toLocalDate()),
+                    rs.getInt("id_apolice"),
+                    rs.getString("numero_apolice"),
+                    rs.getInt("id_cliente"),
+                    rs.getBigDecimal("comissao_percentual"),
+                    rs.getLong("parcelas_pagas"),
+                    rs.getBigDecimal("valor_pago"),
+                    rs.getBigDecimal("comissao_total")));
+            rows.incrementAndGet();
+        });
+        return rows.get();
+    }
+
+    private static MapSqlParameterSource periodo(Integer corretorId, YearMonth de, YearMonth ate) {
+        return new MapSqlParameterSource()
+                .addValue("corretorId", corretorId)
+                .addValue("inicio", Date.valueOf(de.atDay(1)))
+                .addValue("fim", Date.valueOf(ate.plusMonths(1).atDay(1)));
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.PgChannelHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal corretor_cliente_changed (trigger da V18): invalida o CorretorClienteLinkIndex.
+ * O payload é o id do corretor alterado, ou '*' em TRUNCATE. Enquanto a escuta
+ * (PgNotificationListener) estiver fora, o índice não serve da memória.
+ */
+@Component
+@ConditionalOnProperty(name = "CORRETOR_LINKS_CACHE_ENABLED", havingValue = "true", matchIfMissing = true)
+public class CorretorClienteChangeListener implements PgChannelHandler {
+
+    static final String CHANNEL = "corretor_cliente_changed";
+
+    private final CorretorClienteLinkIndex index;
+
+    public CorretorClienteChangeListener(CorretorClienteLinkIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onListening(boolean listening) {
+        index.setListening(listening);
+    }
+
+    @Override
+    public void onNotification(String payload) {
+        if (payload == null || payload.isBlank() || payload.equals("*")) {
+            index.invalidateAll();
+            return;
+        }
+        try {
+            index.invalidate(Integer.valueOf(payload.trim()));
+        } catch (NumberFormatException ex) {
+            index.invalidateAll();
+        }
+    }
+}
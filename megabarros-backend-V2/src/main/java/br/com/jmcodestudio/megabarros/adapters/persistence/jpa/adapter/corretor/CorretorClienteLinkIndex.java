@@ -0,0 +1,124 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.corretor.CorretorClienteEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.corretor.CorretorClienteQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vínculos corretor → cliente em memória, carregados sob demanda (uma consulta por corretor) e
+ * descartados quando corretor_cliente muda (CorretorClienteChangeListener, via LISTEN/NOTIFY).
+ * Os ids ficam em int[] ordenados: a checagem de vínculo é uma busca binária, sem consulta ao banco.
+ * <p>
+ * Só serve do cache enquanto o listener está conectado; sem ele uma alteração poderia passar
+ * despercebida, então cada leitura vai ao banco. Como salvaguarda para avisos perdidos sem queda detectada,
+ * nenhuma entrada é servida depois de CORRETOR_LINKS_MAX_AGE_MS desde a carga. Métricas:
+ * - corretor.links.hit / corretor.links.miss: leituras servidas da memória / do banco
+ * - corretor.links.size: corretores em memória
+ */
+@Component
+public class CorretorClienteLinkIndex {
+
+    // Vínculos de um corretor; ambos os arrays ordenados e sem repetição
+    record Links(int[] corretorClienteIds, int[] clienteIds, long loadedAtMillis) {
+
+        static Links of(List<CorretorClienteEntity> rows, long loadedAtMillis) {
+            int[] ccIds = rows.stream().mapToInt(CorretorClienteEntity::getId).sorted().toArray();
+            int[] clienteIds = rows.stream().mapToInt(CorretorClienteEntity::getIdCliente).sorted().distinct().toArray();
+            return new Links(ccIds, clienteIds, loadedAtMillis);
+        }
+
+        boolean containsCliente(int clienteId) {
+            return Arrays.binarySearch(clienteIds, clienteId) >= 0;
+        }
+
+        List<Integer> corretorClienteIds(int limit) {
+            return Arrays.stream(corretorClienteIds).limit(Math.max(0, limit)).boxed().toList();
+        }
+    }
+
+    private final CorretorClienteQueryRepository repo;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long maxAgeMillis;
+    private final Map<Integer, Links> byCorretor = new ConcurrentHashMap<>();
+    // Incrementado a cada invalidação: carga concorrente a uma invalidação não fica em memória
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean listening;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CorretorClienteLinkIndex(CorretorClienteQueryRepository repo,
+                                    MeterRegistry registry,
+                                    Clock clock,
+                                    @Value("${CORRETOR_LINKS_CACHE_ENABLED:true}") boolean enabled,
+                                    @Value("${CORRETOR_LINKS_MAX_AGE_MS:300000}") long maxAgeMillis) {
+        this.repo = repo;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxAgeMillis = maxAgeMillis;
+        this.hits = Counter.builder("corretor.links.hit")
+                .description("Checagens de vínculo corretor/cliente servidas da memória")
+                .register(registry);
+        this.misses = Counter.builder("corretor.links.miss")
+                .description("Checagens de vínculo corretor/cliente que consultaram o banco")
+                .register(registry);
+        Gauge.builder("corretor.links.size", byCorretor, Map::size)
+                .description("Corretores com vínculos em memória")
+                .register(registry);
+    }
+
+    Links get(Integer corretorId) {
+        if (enabled && listening) {
+            Links cached = byCorretor.get(corretorId);
+            if (cached != null && clock.millis() - cached.loadedAtMillis() < maxAgeMillis) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        long gen = generation.get();
+        long now = clock.millis();
+        Links loaded = Links.of(repo.findLinksByCorretorId(corretorId), now);
+        if (enabled && listening) {
+            byCorretor.put(corretorId, loaded);
+            // Invalidação durante a carga: a leitura pode ser anterior à alteração
+            if (generation.get() != gen) byCorretor.remove(corretorId, loaded);
+        }
+        return loaded;
+    }
+
+    public boolean isLinked(Integer corretorId, Integer clienteId) {
+        return clienteId != null && get(corretorId).containsCliente(clienteId);
+    }
+
+    public List<Integer> corretorClienteIds(Integer corretorId, int limit) {
+        return get(corretorId).corretorClienteIds(limit);
+    }
+
+    public void invalidate(Integer corretorId) {
+        generation.incrementAndGet();
+        byCorretor.remove(corretorId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        byCorretor.clear();
+    }
+
+    // Chamado pelo listener: ao (re)conectar parte de memória vazia, pois avisos podem ter sido perdidos
+    void setListening(boolean listening) {
+        invalidateAll();
+        this.listening = listening;
+    }
+}
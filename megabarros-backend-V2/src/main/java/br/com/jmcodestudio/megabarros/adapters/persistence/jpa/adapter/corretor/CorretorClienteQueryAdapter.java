@@ -1,20 +1,27 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor;
 
-import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.corretor.CorretorClienteQueryRepository;
 import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorClienteQueryPort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+// Servido pelo índice em memória de vínculos (CorretorClienteLinkIndex)
 @Component
 public class CorretorClienteQueryAdapter implements CorretorClienteQueryPort {
 
-    private final CorretorClienteQueryRepository repo;
+    private final CorretorClienteLinkIndex links;
 
-    public CorretorClienteQueryAdapter(CorretorClienteQueryRepository repo) {
-        this.repo = repo;
+    public CorretorClienteQueryAdapter(CorretorClienteLinkIndex links) {
+        this.links = links;
     }
 
     @Override
     public boolean existsByCorretorIdAndClienteId(Integer corretorId, Integer clienteId) {
-        return repo.existsByCorretorIdAndClienteId(corretorId, clienteId);
+        return links.isLinked(corretorId, clienteId);
+    }
+
+    @Override
+    public List<Integer> findIdsByCorretorId(Integer corretorId, int limit) {
+        return links.corretorClienteIds(corretorId, limit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.dashboard;
+
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardLinha;
+import br.com.jmcodestudio.megabarros.application.port.out.dashboard.ApoliceResumoPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura e reconciliação de apolice_resumo_mensal (V15). O resumo é mantido pelos triggers de apolice;
+ * aqui só se lê e, na reconciliação, se recalcula a partir de apolice.
+ */
+@Component
+public class ApoliceResumoAdapter implements ApoliceResumoPort {
+
+    private static final Map<DashboardDimensao, String> COLUNAS = new EnumMap<>(Map.of(
+            DashboardDimensao.MES, "mes",
+            DashboardDimensao.SEGURADORA, "id_seguradora",
+            DashboardDimensao.PRODUTO, "id_produto",
+            DashboardDimensao.CORRETOR, "id_corretor"));
+
+    // EXCLUSIVE: leituras do dashboard seguem liberadas; escritas em apolice esperam no trigger até o fim
+    // da reconciliação, e as já feitas são confirmadas antes de o recálculo tirar o snapshot
+    private static final String LOCK = "LOCK TABLE public.apolice_resumo_mensal IN EXCLUSIVE MODE";
+    private static final String RECONCILE = """
+            WITH esperado AS (
+                SELECT date_trunc('month', a.data_emissao)::date AS mes, a.id_seguradora, a.id_produto, cc.id_corretor,
+                       count(*) AS quantidade, sum(a.valor) AS valor_total,
+                       sum(a.valor * a.comissao_percentual / 100) AS comissao_total
+                  FROM public.apolice a
+                  JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
+                 WHERE a.status_atual IS DISTINCT FROM 'CANCELADA'
+                 GROUP BY 1, 2, 3, 4
+            ), removidos AS (
+                DELETE FROM public.apolice_resumo_mensal r
+                 WHERE NOT EXISTS (SELECT 1 FROM esperado e
+                                    WHERE e.mes = r.mes AND e.id_seguradora = r.id_seguradora
+                                      AND e.id_produto = r.id_produto AND e.id_corretor = r.id_corretor)
+                RETURNING 1
+            ), gravados AS (
+                INSERT INTO public.apolice_resumo_mensal AS r
+                       (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total, comissao_total)
+                SELECT * FROM esperado
+                ON CONFLICT (mes, id_seguradora, id_produto, id_corretor) DO UPDATE
+                    SET quantidade = EXCLUDED.quantidade,
+                        valor_total = EXCLUDED.valor_total,
+                        comissao_total = EXCLUDED.comissao_total
+                  WHERE (r.quantidade, r.valor_total, r.comissao_total)
+                        IS DISTINCT FROM (EXCLUDED.quantidade, EXCLUDED.valor_total, EXCLUDED.comissao_total)
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM removidos) + (SELECT count(*) FROM gravados)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ApoliceResumoAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DashboardLinha> aggregate(DashboardFiltro filtro, Set<DashboardDimensao> agrupamento) {
+        // Colunas vêm do enum (nunca da requisição)
+        String grupo = agrupamento.stream().sorted().map(COLUNAS::get).collect(Collectors.joining(", "));
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (DashboardDimensao d : DashboardDimensao.values()) {
+            sql.append(agrupamento.contains(d) ? COLUNAS.get(d) : "NULL").append(" AS ").append(COLUNAS.get(d)).append(", ");
+        }
+        sql.append("""
+                sum(quantidade) AS quantidade, sum(valor_total) AS valor_total, sum(comissao_total) AS comissao_total
+                  FROM public.apolice_resumo_mensal
+                 WHERE quantidade <> 0
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (filtro.de() != null) {
+            sql.append(" AND mes >= :de");
+            params.addValue("de", Date.valueOf(filtro.de().atDay(1)));
+        }
+        if (filtro.ate() != null) {
+            sql.append(" AND mes <= :ate");
+            params.addValue("ate", Date.valueOf(filtro.ate().atDay(1)));
+        }
+        if (filtro.seguradoraId() != null) {
+            sql.append(" AND id_seguradora = :seguradoraId");
+            params.addValue("seguradoraId", filtro.seguradoraId());
+        }
+        if (filtro.produtoId() != null) {
+            sql.append(" AND id_produto = :produtoId");
+            params.addValue("produtoId", filtro.produtoId());
+        }
+        if (filtro.corretorId() != null) {
+            sql.append(" AND id_corretor = :corretorId");
+            params.addValue("corretorId", filtro.corretorId());
+        }
+        if (!grupo.isEmpty()) {
+            sql.append(" GROUP BY ").append(grupo).append(" ORDER BY ").append(grupo);
+        }
+        return jdbc.query(sql.toString(), params, (rs, i) -> {
+            Date mes = rs.getDate("mes");
+            return new DashboardLinha(
+                    mes == null ? null : YearMonth.from(mes.toLocalDate()),
+                    (Integer) rs.getObject("id_seguradora"),
+                    (Integer) rs.getObject("id_produto"),
+                    (Integer) rs.getObject("id_corretor"),
+                    rs.getLong("quantidade"),
+                    rs.getBigDecimal("valor_total"),
+                    rs.getBigDecimal("comissao_total"));
+        }).stream().filter(l -> l.quantidade() != 0).toList();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        jdbc.getJdbcTemplate().execute(LOCK);
+        Long corrigidos = jdbc.queryForObject(RECONCILE, new MapSqlParameterSource(), Long.class);
+        return corrigidos == null ? 0 : corrigidos.intValue();
+    }
+}
@@ -32,6 +32,13 @@ public class ProdutoRepositoryAdapter implements ProdutoRepositoryPort {
         return mapper.toDomain(s);
     }
 
+    // Ids vêm da sequência (pooled-lo), então os inserts saem agrupados em batch no flush
+    @Override
+    public List<Produto> saveAll(List<Produto> produtos) {
+        List<ProdutoEntity> entities = produtos.stream().map(mapper::toEntity).toList();
+        return jpa.saveAll(entities).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Produto> findBySeguradoraId(SeguradoraId seguradoraId) {
@@ -48,4 +55,9 @@ public class ProdutoRepositoryAdapter implements ProdutoRepositoryPort {
     public void deleteById(ProdutoId id) {
         jpa.deleteById(id.value());
     }
+
+    @Override
+    public int deleteBySeguradoraId(SeguradoraId seguradoraId) {
+        return jpa.deleteBySeguradoraId(seguradoraId.value());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.seguradora;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.produto.ProdutoEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.seguradora.SeguradoraEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ProdutoPersistenceMapper;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.SeguradoraPersistenceMapper;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.AggregatedApoliceQueryRepository;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.seguradora.SeguradoraJpaRepository;
+import br.com.jmcodestudio.megabarros.application.domain.produto.Produto;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo seguradoras + produtos em memória: carregado com uma única consulta (left join) na
+ * primeira leitura e mantido até um caso de uso de seguradora/produto chamar invalidate().
+ * O descarte acontece no afterCommit da transação que alterou o catálogo; uma carga que corra
+ * junto com o descarte não fica em memória (contador de geração). Alterações feitas por outra
+ * instância chegam por LISTEN/NOTIFY (SeguradoraCatalogChangeListener).
+ * <p>
+ * version() acompanha o catálogo (avisos do canal) e as contagens de apólices. As contagens não têm
+ * aviso (um NOTIFY por apólice gravada serializaria os commits): a cada SEGURADORA_CATALOG_COUNTS_CHECK_MS,
+ * no máximo, uma leitura das tabelas de contagem diz se algo mudou. Só é informada enquanto a escuta
+ * está ativa. Métricas: seguradora.catalog.hit / seguradora.catalog.miss.
+ */
+@Component
+public class SeguradoraCatalogCache implements SeguradoraCatalogPort {
+
+    private final SeguradoraJpaRepository jpa;
+    private final AggregatedApoliceQueryRepository counts;
+    private final Clock clock;
+    private final SeguradoraPersistenceMapper seguradoraMapper;
+    private final ProdutoPersistenceMapper produtoMapper;
+    private final boolean enabled;
+    private final long countsCheckMillis;
+    private final AtomicLong nextCountsCheck = new AtomicLong();
+    private volatile String countsStamp;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private volatile List<Seguradora> snapshot;
+    private volatile boolean listening;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SeguradoraCatalogCache(SeguradoraJpaRepository jpa,
+                                  AggregatedApoliceQueryRepository counts,
+                                  SeguradoraPersistenceMapper seguradoraMapper,
+                                  ProdutoPersistenceMapper produtoMapper,
+                                  MeterRegistry registry,
+                                  Clock clock,
+                                  @Value("${SEGURADORA_CATALOG_CACHE_ENABLED:true}") boolean enabled,
+                                  @Value("${SEGURADORA_CATALOG_COUNTS_CHECK_MS:5000}") long countsCheckMillis) {
+        this.jpa = jpa;
+        this.counts = counts;
+        this.clock = clock;
+        this.countsCheckMillis = countsCheckMillis;
+        this.seguradoraMapper = seguradoraMapper;
+        this.produtoMapper = produtoMapper;
+        this.enabled = enabled;
+        this.hits = Counter.builder("seguradora.catalog.hit")
+                .description("Leituras do catálogo de seguradoras servidas da memória")
+                .register(registry);
+        this.misses = Counter.builder("seguradora.catalog.miss")
+                .description("Leituras do catálogo de seguradoras que consultaram o banco")
+                .register(registry);
+    }
+
+    @Override
+    public List<Seguradora> findAll() {
+        List<Seguradora> cached = snapshot;
+        if (enabled && cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long gen = generation.get();
+        List<Seguradora> loaded = load();
+        if (enabled) {
+            snapshot = loaded;
+            // Invalidação durante a carga: a leitura pode ser anterior à alteração
+            if (generation.get() != gen) snapshot = null;
+        }
+        return loaded;
+    }
+
+    @Override
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Antes do commit outra leitura ainda veria (e guardaria) a versão anterior
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    @Override
+    public OptionalLong version() {
+        if (!enabled || !listening) return OptionalLong.empty();
+        checkCounts();
+        return OptionalLong.of(version.get());
+    }
+
+    // Uma thread por intervalo consulta; as demais seguem com a versão atual
+    private void checkCounts() {
+        long now = clock.millis();
+        long next = nextCountsCheck.get();
+        if (now < next || !nextCountsCheck.compareAndSet(next, now + countsCheckMillis)) return;
+        String stamp = counts.countsStamp();
+        if (!stamp.equals(countsStamp)) {
+            countsStamp = stamp;
+            version.incrementAndGet();
+        }
+    }
+
+    void clear() {
+        generation.incrementAndGet();
+        snapshot = null;
+        version.incrementAndGet();
+    }
+
+    // Chamado pelo listener: ao (re)conectar parte do zero, pois avisos podem ter sido perdidos
+    void setListening(boolean listening) {
+        clear();
+        this.listening = listening;
+    }
+
+    private List<Seguradora> load() {
+        Map<Integer, SeguradoraEntity> seguradoras = new LinkedHashMap<>();
+        Map<Integer, List<Produto>> produtos = new LinkedHashMap<>();
+        for (Object[] row : jpa.findAllWithProdutos()) {
+            SeguradoraEntity s = (SeguradoraEntity) row[0];
+            seguradoras.putIfAbsent(s.getId(), s);
+            List<Produto> doGrupo = produtos.computeIfAbsent(s.getId(), k -> new ArrayList<>());
+            if (row[1] != null) doGrupo.add(produtoMapper.toDomain((ProdutoEntity) row[1]));
+        }
+        return seguradoras.values().stream()
+                .map(s -> {
+                    Seguradora base = seguradoraMapper.toDomain(s);
+                    return new Seguradora(base.id(), base.nome(), List.copyOf(produtos.get(s.getId())));
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.seguradora;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.PgChannelHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal seguradora_catalog_changed (triggers da V20): 'catalogo' quando seguradora/produto mudam
+ * (inclusive por outra instância). As contagens de apólices não avisam mais (V24).
+ */
+@Component
+@ConditionalOnProperty(name = "SEGURADORA_CATALOG_CACHE_ENABLED", havingValue = "true", matchIfMissing = true)
+public class SeguradoraCatalogChangeListener implements PgChannelHandler {
+
+    static final String CHANNEL = "seguradora_catalog_changed";
+
+    private final SeguradoraCatalogCache cache;
+
+    public SeguradoraCatalogChangeListener(SeguradoraCatalogCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onListening(boolean listening) {
+        cache.setListening(listening);
+    }
+
+    @Override
+    public void onNotification(String payload) {
+        cache.clear();
+    }
+}
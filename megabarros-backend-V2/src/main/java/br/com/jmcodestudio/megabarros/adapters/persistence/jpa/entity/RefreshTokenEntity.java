@@ -36,7 +36,8 @@ import java.time.Instant;
 @Setter
 public class RefreshTokenEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     @Column(name = "id_refresh_token")
     private Long id;
 
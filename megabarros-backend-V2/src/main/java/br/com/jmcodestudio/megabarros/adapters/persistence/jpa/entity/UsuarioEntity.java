@@ -35,7 +35,8 @@ import java.time.Instant;
 @Getter
 @Setter
 public class UsuarioEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
+    @SequenceGenerator(name = "usuario_seq", sequenceName = "usuario_seq", allocationSize = 50)
     @Column(name = "id_usuario")
     private Long id;
 
@@ -13,7 +13,8 @@ import java.math.BigDecimal;
 @Setter
 public class ApoliceCoberturaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apolice_cobertura_seq")
+    @SequenceGenerator(name = "apolice_cobertura_seq", sequenceName = "apolice_cobertura_seq", allocationSize = 50)
     @Column(name = "id_apolice_cobertura")
     private Integer id;
 
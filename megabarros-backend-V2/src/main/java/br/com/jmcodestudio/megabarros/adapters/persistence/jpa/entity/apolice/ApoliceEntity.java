@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Setter
 public class ApoliceEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apolice_seq")
+    @SequenceGenerator(name = "apolice_seq", sequenceName = "apolice_seq", allocationSize = 50)
     @Column(name = "id_apolice")
     private Integer id;
 
@@ -47,4 +48,8 @@ public class ApoliceEntity {
 
     @Column(name = "id_seguradora", nullable = false)
     private Integer idSeguradora;
+
+    // Projeção do status aberto em apolice_status; mantida por trigger no banco (V10)
+    @Column(name = "status_atual", length = 50, insertable = false, updatable = false)
+    private String statusAtual;
 }
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Setter
 public class ApoliceStatusEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apolice_status_seq")
+    @SequenceGenerator(name = "apolice_status_seq", sequenceName = "apolice_status_seq", allocationSize = 50)
     @Column(name = "id_status")
     private Integer id;
 
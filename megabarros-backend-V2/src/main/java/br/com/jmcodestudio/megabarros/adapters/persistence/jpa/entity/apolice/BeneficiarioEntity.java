@@ -12,7 +12,8 @@ import java.math.BigDecimal;
 @Setter
 public class BeneficiarioEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "beneficiario_seq")
+    @SequenceGenerator(name = "beneficiario_seq", sequenceName = "beneficiario_seq", allocationSize = 50)
     @Column(name = "id_beneficiario")
     private Integer id;
 
@@ -10,7 +10,8 @@ import lombok.Setter;
 @Setter
 public class ClienteEnderecoEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_endereco_seq")
+    @SequenceGenerator(name = "cliente_endereco_seq", sequenceName = "cliente_endereco_seq", allocationSize = 50)
     @Column(name = "id_endereco")
     private Integer id;
 
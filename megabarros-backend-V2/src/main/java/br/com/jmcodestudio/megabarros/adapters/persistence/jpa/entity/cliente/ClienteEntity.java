@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Setter
 public class ClienteEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_seq")
+    @SequenceGenerator(name = "cliente_seq", sequenceName = "cliente_seq", allocationSize = 50)
     @Column(name = "id_cliente")
     private Integer id;
 
@@ -0,0 +1,25 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.corretor;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Vínculo corretor ↔ cliente, mapeado somente para leitura: usado nos predicados de escopo
+ * (subconsultas das Specifications e JPQL). A escrita continua fora do JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "corretor_cliente")
+@Getter
+public class CorretorClienteEntity {
+    @Id
+    @Column(name = "id_corretor_cliente")
+    private Integer id;
+
+    @Column(name = "id_corretor", nullable = false)
+    private Integer idCorretor;
+
+    @Column(name = "id_cliente", nullable = false)
+    private Integer idCliente;
+}
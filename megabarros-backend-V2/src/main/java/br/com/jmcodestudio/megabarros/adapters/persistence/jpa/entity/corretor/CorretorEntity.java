@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Setter
 public class CorretorEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "corretor_seq")
+    @SequenceGenerator(name = "corretor_seq", sequenceName = "corretor_seq", allocationSize = 50)
     @Column(name = "id_corretor")
     private Integer id;
 
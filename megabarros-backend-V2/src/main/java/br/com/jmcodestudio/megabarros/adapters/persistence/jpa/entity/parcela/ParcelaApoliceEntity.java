@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Setter
 public class ParcelaApoliceEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parcela_apolice_seq")
+    @SequenceGenerator(name = "parcela_apolice_seq", sequenceName = "parcela_apolice_seq", allocationSize = 50)
     @Column(name = "id_parcela")
     private Integer id;
 
@@ -13,7 +13,8 @@ import lombok.Setter;
 @Setter
 public class ProdutoEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produto_seq")
+    @SequenceGenerator(name = "produto_seq", sequenceName = "produto_seq", allocationSize = 50)
     @Column(name = "id_produto")
     private Integer id;
 
@@ -10,7 +10,8 @@ import lombok.Setter;
 @Setter
 public class SeguradoraEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seguradora_seq")
+    @SequenceGenerator(name = "seguradora_seq", sequenceName = "seguradora_seq", allocationSize = 50)
     @Column(name = "id_seguradora")
     private Integer id;
 
@@ -1,11 +1,15 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper;
 
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceCoberturaEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceStatusEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.BeneficiarioEntity;
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.parcela.ParcelaApoliceEntity;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCobertura;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceStatus;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Beneficiario;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -19,8 +23,8 @@ public interface ApolicePersistenceMapper {
     default Apolice toDomain(ApoliceEntity e,
                              String statusAtual,
                              List<Parcela> parcelas,
-                             List<?> coberturasVazias,
-                             List<?> beneficiariosVazios) {
+                             List<ApoliceCobertura> coberturas,
+                             List<Beneficiario> beneficiarios) {
         if (e == null) return null;
         return new Apolice(
                 ApoliceId.of(e.getId()),
@@ -36,8 +40,8 @@ public interface ApolicePersistenceMapper {
                 e.getIdSeguradora(),
                 statusAtual,
                 parcelas,
-                List.of(),        // coberturas vazias nesta fase
-                List.of()         // beneficiários vazios nesta fase
+                coberturas,
+                beneficiarios
         );
     }
 
@@ -85,6 +89,52 @@ public interface ApolicePersistenceMapper {
         return e;
     }
 
+    // --------- Cobertura ---------
+    default ApoliceCobertura toDomain(ApoliceCoberturaEntity e) {
+        if (e == null) return null;
+        return new ApoliceCobertura(
+                e.getId(),
+                ApoliceId.of(e.getIdApolice()),
+                e.getIdCobertura(),
+                e.getValorContratado()
+        );
+    }
+
+    default ApoliceCoberturaEntity toEntity(ApoliceCobertura d) {
+        if (d == null) return null;
+        ApoliceCoberturaEntity e = new ApoliceCoberturaEntity();
+        e.setId(d.id());
+        e.setIdApolice(d.apoliceId() != null ? d.apoliceId().value() : null);
+        e.setIdCobertura(d.idCobertura());
+        e.setValorContratado(d.valorContratado());
+        return e;
+    }
+
+    // --------- Beneficiário ---------
+    default Beneficiario toDomain(BeneficiarioEntity e) {
+        if (e == null) return null;
+        return new Beneficiario(
+                e.getId(),
+                ApoliceId.of(e.getIdApolice()),
+                e.getIdCliente(),
+                e.getNomeBeneficiario(),
+                e.getCpf(),
+                e.getPercentualParticipacao()
+        );
+    }
+
+    default BeneficiarioEntity toEntity(Beneficiario d) {
+        if (d == null) return null;
+        BeneficiarioEntity e = new BeneficiarioEntity();
+        e.setId(d.id());
+        e.setIdApolice(d.apoliceId() != null ? d.apoliceId().value() : null);
+        e.setIdCliente(d.idCliente());
+        e.setNomeBeneficiario(d.nomeBeneficiario());
+        e.setCpf(d.cpf());
+        e.setPercentualParticipacao(d.percentualParticipacao());
+        return e;
+    }
+
     // --------- Status ---------
     default ApoliceStatus toDomain(ApoliceStatusEntity e) {
         if (e == null) return null;
@@ -7,21 +7,31 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
+// Contagens por chave primária nas tabelas mantidas por trigger em apolice (V19)
 public interface AggregatedApoliceQueryRepository extends Repository<ApoliceEntity, Integer> {
 
     @Query(value = """
-        SELECT a.id_seguradora, COUNT(*) 
-        FROM apolice a
-        WHERE a.id_seguradora IN (:ids)
-        GROUP BY a.id_seguradora
+        SELECT c.id_seguradora, c.quantidade
+        FROM apolice_contagem_seguradora c
+        WHERE c.id_seguradora IN (:ids)
     """, nativeQuery = true)
     List<Object[]> countBySeguradoraIds(@Param("ids") List<Integer> ids);
 
     @Query(value = """
-        SELECT a.id_produto, COUNT(*) 
-        FROM apolice a
-        WHERE a.id_produto IN (:ids)
-        GROUP BY a.id_produto
+        SELECT c.id_produto, c.quantidade
+        FROM apolice_contagem_produto c
+        WHERE c.id_produto IN (:ids)
     """, nativeQuery = true)
     List<Object[]> countByProdutoIds(@Param("ids") List<Integer> ids);
+
+    // Resumo do conteúdo das duas tabelas (linhas do tamanho do catálogo): muda sempre que alguma contagem
+    // muda, qualquer que seja a ordem de commit das transações que escreveram
+    @Query(value = """
+        SELECT md5(COALESCE((SELECT string_agg(id_seguradora || '=' || quantidade, ',' ORDER BY id_seguradora)
+                               FROM apolice_contagem_seguradora), '')
+                   || '|' ||
+                   COALESCE((SELECT string_agg(id_produto || '=' || quantidade, ',' ORDER BY id_produto)
+                               FROM apolice_contagem_produto), ''))
+    """, nativeQuery = true)
+    String countsStamp();
 }
@@ -2,9 +2,21 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apoli
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceCoberturaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApoliceCoberturaJpaRepository extends JpaRepository<ApoliceCoberturaEntity, Integer> {
     List<ApoliceCoberturaEntity> findByIdApolice(Integer idApolice);
+
+    // Coberturas de um lote de apólices (hidratação em lote; usa uq_ac_por_apolice_cobertura)
+    @Query("select c from ApoliceCoberturaEntity c where c.idApolice in :idsApolice order by c.idApolice, c.id")
+    List<ApoliceCoberturaEntity> findByIdApoliceIn(Collection<Integer> idsApolice);
+
+    // Remoção em lote num único DELETE; ids de outra apólice são ignorados
+    @Modifying
+    @Query("delete from ApoliceCoberturaEntity c where c.idApolice = :idApolice and c.id in :ids")
+    int deleteByIdApoliceAndIdIn(Integer idApolice, Collection<Integer> ids);
 }
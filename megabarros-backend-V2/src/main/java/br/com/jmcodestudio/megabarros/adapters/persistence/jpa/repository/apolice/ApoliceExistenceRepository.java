@@ -7,27 +7,37 @@ import org.springframework.data.repository.query.Param;
 
 public interface ApoliceExistenceRepository extends Repository<ApoliceEntity, Integer> {
 
-    @Query(value = "SELECT COUNT(*) > 0 FROM apolice WHERE id_seguradora = :segId", nativeQuery = true)
+    // Contagens e travas de exclusão leem as tabelas mantidas por trigger (V19): uma linha pela chave primária
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM apolice_contagem_seguradora WHERE id_seguradora = :segId AND quantidade > 0)", nativeQuery = true)
     boolean existsBySeguradoraId(@Param("segId") Integer segId);
 
-    @Query(value = "SELECT COUNT(*) > 0 FROM apolice WHERE id_produto = :prodId", nativeQuery = true)
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM apolice_contagem_produto WHERE id_produto = :prodId AND quantidade > 0)", nativeQuery = true)
     boolean existsByProdutoId(@Param("prodId") Integer prodId);
 
-    @Query(value = "SELECT COUNT(*) FROM apolice WHERE id_seguradora = :segId", nativeQuery = true)
+    @Query(value = """
+        SELECT EXISTS (SELECT 1 FROM apolice_contagem_seguradora
+                        WHERE id_seguradora = :segId AND quantidade > 0)
+            OR EXISTS (SELECT 1 FROM produto p
+                         JOIN apolice_contagem_produto c ON c.id_produto = p.id_produto
+                        WHERE p.id_seguradora = :segId AND c.quantidade > 0)
+        """, nativeQuery = true)
+    boolean existsBySeguradoraOrProdutos(@Param("segId") Integer segId);
+
+    @Query(value = "SELECT COALESCE((SELECT quantidade FROM apolice_contagem_seguradora WHERE id_seguradora = :segId), 0)", nativeQuery = true)
     long countBySeguradoraId(@Param("segId") Integer segId);
 
-    @Query(value = "SELECT COUNT(*) FROM apolice WHERE id_produto = :prodId", nativeQuery = true)
+    @Query(value = "SELECT COALESCE((SELECT quantidade FROM apolice_contagem_produto WHERE id_produto = :prodId), 0)", nativeQuery = true)
     long countByProdutoId(@Param("prodId") Integer prodId);
 
-    // Novo: verifica se há apólice ATIVA para o cliente via vínculo corretor_cliente e status atual sem data_fim
+    // Verifica se há apólice ATIVA para o cliente via vínculo corretor_cliente e projeção status_atual
     @Query(value = """
-        SELECT COUNT(*) > 0
-        FROM apolice a
-        JOIN corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
-        JOIN apolice_status s ON s.id_apolice = a.id_apolice
-        WHERE cc.id_cliente = :clienteId
-          AND s.data_fim IS NULL
-          AND s.status = 'ATIVA'
+        SELECT EXISTS (
+            SELECT 1
+            FROM corretor_cliente cc
+            JOIN apolice a ON a.id_corretor_cliente = cc.id_corretor_cliente
+            WHERE cc.id_cliente = :clienteId
+              AND a.status_atual = 'ATIVA'
+        )
         """, nativeQuery = true)
     boolean existsActiveByClienteId(@Param("clienteId") Integer clienteId);
 }
@@ -2,12 +2,19 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apoli
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface ApoliceJpaRepository extends JpaRepository<ApoliceEntity, Integer> {
+public interface ApoliceJpaRepository extends JpaRepository<ApoliceEntity, Integer>, JpaSpecificationExecutor<ApoliceEntity> {
     boolean existsByNumero(String numero);
     List<ApoliceEntity> findByIdSeguradora(Integer idSeguradora);
     List<ApoliceEntity> findByIdProduto(Integer idProduto);
     List<ApoliceEntity> findByIdCorretorCliente(Integer idCorretorCliente);
+
+    // FOR UPDATE na apólice antes de mexer em apolice_status: o job de vencimento trava nessa mesma ordem
+    @Query(value = "SELECT id_apolice FROM public.apolice WHERE id_apolice = :id FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockById(Integer id);
 }
@@ -0,0 +1,86 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.corretor.CorretorClienteEntity;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicados dinâmicos da listagem de apólices (filtro combinado + keyset).
+ */
+public final class ApoliceSpecifications {
+
+    private ApoliceSpecifications() {}
+
+    public static Specification<ApoliceEntity> matching(ApoliceFilter f) {
+        return (root, query, cb) -> {
+            List<Predicate> ps = new ArrayList<>();
+            if (f.seguradoraId() != null) ps.add(cb.equal(root.get("idSeguradora"), f.seguradoraId()));
+            if (f.produtoId() != null) ps.add(cb.equal(root.get("idProduto"), f.produtoId()));
+            if (f.corretorClienteId() != null) ps.add(cb.equal(root.get("idCorretorCliente"), f.corretorClienteId()));
+            // Vigência intersecta a faixa informada
+            if (f.vigenciaDe() != null) ps.add(cb.greaterThanOrEqualTo(root.get("vigenciaFim"), f.vigenciaDe()));
+            if (f.vigenciaAte() != null) ps.add(cb.lessThanOrEqualTo(root.get("vigenciaInicio"), f.vigenciaAte()));
+            if (f.emissaoDe() != null) ps.add(cb.greaterThanOrEqualTo(root.get("dataEmissao"), f.emissaoDe()));
+            if (f.emissaoAte() != null) ps.add(cb.lessThanOrEqualTo(root.get("dataEmissao"), f.emissaoAte()));
+            if (f.status() != null) ps.add(cb.equal(root.get("statusAtual"), f.status()));
+            if (f.scope().restricted()) ps.add(within(f.scope()).toPredicate(root, query, cb));
+            return cb.and(ps.toArray(Predicate[]::new));
+        };
+    }
+
+    // Escopo do corretor: id_corretor_cliente IN (vínculos), literal quando resolvidos; senão subconsulta
+    public static Specification<ApoliceEntity> within(DataScope scope) {
+        return (root, query, cb) -> {
+            if (!scope.restricted()) return cb.conjunction();
+            if (scope.isEmpty()) return cb.disjunction();
+            if (scope.hasInlineIds()) return root.get("idCorretorCliente").in(scope.corretorClienteIds());
+            Subquery<Integer> vinculos = query.subquery(Integer.class);
+            Root<CorretorClienteEntity> cc = vinculos.from(CorretorClienteEntity.class);
+            vinculos.select(cc.get("id")).where(cb.equal(cc.get("idCorretor"), scope.corretorId()));
+            return root.get("idCorretorCliente").in(vinculos);
+        };
+    }
+
+    public static Specification<ApoliceEntity> hasId(Integer id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    // Linhas estritamente após o cursor, na ordem de sortOf(sort)
+    public static Specification<ApoliceEntity> after(ApoliceCursor c) {
+        return (root, query, cb) -> {
+            if (c == null) return cb.conjunction();
+            if (c.sort() == ApoliceSort.VIGENCIA_FIM) {
+                return cb.or(
+                        cb.greaterThan(root.get("vigenciaFim"), c.vigenciaFim()),
+                        cb.and(cb.equal(root.get("vigenciaFim"), c.vigenciaFim()),
+                                cb.greaterThan(root.get("id"), c.id())));
+            }
+            return cb.greaterThan(root.get("id"), c.id());
+        };
+    }
+
+    public static List<Order> ordersOf(ApoliceSort sort, Root<ApoliceEntity> root, CriteriaBuilder cb) {
+        return sort == ApoliceSort.VIGENCIA_FIM
+                ? List.of(cb.asc(root.get("vigenciaFim")), cb.asc(root.get("id")))
+                : List.of(cb.asc(root.get("id")));
+    }
+
+    public static Sort sortOf(ApoliceSort sort) {
+        return sort == ApoliceSort.VIGENCIA_FIM
+                ? Sort.by(Sort.Order.asc("vigenciaFim"), Sort.Order.asc("id"))
+                : Sort.by(Sort.Order.asc("id"));
+    }
+}
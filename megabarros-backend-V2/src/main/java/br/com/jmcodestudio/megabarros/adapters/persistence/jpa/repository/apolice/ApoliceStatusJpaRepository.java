@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import java.util.Optional;
 
 public interface ApoliceStatusJpaRepository extends JpaRepository<ApoliceStatusEntity, Integer> {
-    @Query("select s from ApoliceStatusEntity s where s.idApolice = :idApolice and s.dataFim is null order by s.dataInicio desc")
+    // Índice único parcial garante no máximo um status aberto por apólice
+    @Query("select s from ApoliceStatusEntity s where s.idApolice = :idApolice and s.dataFim is null")
     Optional<ApoliceStatusEntity> findCurrent(Integer idApolice);
 }
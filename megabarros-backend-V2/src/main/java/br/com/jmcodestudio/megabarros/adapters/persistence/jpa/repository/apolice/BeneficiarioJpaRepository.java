@@ -2,9 +2,21 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apoli
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.BeneficiarioEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BeneficiarioJpaRepository extends JpaRepository<BeneficiarioEntity, Integer> {
     List<BeneficiarioEntity> findByIdApolice(Integer idApolice);
+
+    // Beneficiários de um lote de apólices (hidratação em lote; usa idx_benef_apolice)
+    @Query("select b from BeneficiarioEntity b where b.idApolice in :idsApolice order by b.idApolice, b.id")
+    List<BeneficiarioEntity> findByIdApoliceIn(Collection<Integer> idsApolice);
+
+    // Remoção em lote num único DELETE; ids de outra apólice são ignorados
+    @Modifying
+    @Query("delete from BeneficiarioEntity b where b.idApolice = :idApolice and b.id in :ids")
+    int deleteByIdApoliceAndIdIn(Integer idApolice, Collection<Integer> ids);
 }
@@ -1,6 +1,7 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente;
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -9,6 +10,6 @@ import java.util.Optional;
 public interface ClienteJpaRepository extends JpaRepository<ClienteEntity, Integer> {
     Optional<ClienteEntity> findByCpfCnpj(String cpfCnpj);
 
-    // Lista por corretor via join corretor_cliente
-    // Será implementado com query nativa em um repo dedicado para manter simplicidade
+    // Página por chave (id); a listagem por corretor fica em ClienteQueryRepository
+    List<ClienteEntity> findByIdGreaterThanOrderByIdAsc(Integer afterId, Limit limit);
 }
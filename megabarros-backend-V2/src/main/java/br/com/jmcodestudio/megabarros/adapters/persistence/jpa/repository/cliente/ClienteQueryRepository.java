@@ -1,19 +1,30 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente;
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
+// Consultas de cliente no escopo de um corretor: o vínculo é predicado da própria consulta
 public interface ClienteQueryRepository extends Repository<ClienteEntity, Integer> {
 
-    @Query(value = """
-        SELECT c.id_cliente
-        FROM cliente c
-        JOIN corretor_cliente cc ON cc.id_cliente = c.id_cliente
-        WHERE cc.id_corretor = :corretorId
-        """, nativeQuery = true)
-    List<Integer> findIdsByCorretorId(@Param("corretorId") Integer corretorId);
+    // Junção a partir de corretor_cliente (idx_cc_corretor) até a PK de cliente
+    @Query("""
+        SELECT c FROM CorretorClienteEntity cc JOIN ClienteEntity c ON c.id = cc.idCliente
+        WHERE cc.idCorretor = :corretorId
+        ORDER BY c.id
+        """)
+    List<ClienteEntity> findByCorretorId(@Param("corretorId") Integer corretorId);
+
+    @Query("""
+        SELECT c FROM CorretorClienteEntity cc JOIN ClienteEntity c ON c.id = cc.idCliente
+        WHERE cc.idCorretor = :corretorId AND c.id > :afterId
+        ORDER BY c.id
+        """)
+    List<ClienteEntity> findPageByCorretorId(@Param("corretorId") Integer corretorId,
+                                             @Param("afterId") Integer afterId,
+                                             Limit limit);
 }
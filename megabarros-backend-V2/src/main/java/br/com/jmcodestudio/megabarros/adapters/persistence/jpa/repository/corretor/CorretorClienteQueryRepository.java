@@ -1,12 +1,16 @@
 package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.corretor;
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.corretor.CorretorClienteEntity;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface CorretorClienteQueryRepository extends Repository<ClienteEntity, Integer> {
 
-    @Query(value = "SELECT COUNT(*) > 0 FROM corretor_cliente WHERE id_corretor = :corretorId AND id_cliente = :clienteId", nativeQuery = true)
-    boolean existsByCorretorIdAndClienteId(@Param("corretorId") Integer corretorId, @Param("clienteId") Integer clienteId);
+    // Todos os vínculos do corretor (idx_cc_corretor), para o índice em memória
+    @Query("SELECT cc FROM CorretorClienteEntity cc WHERE cc.idCorretor = :corretorId")
+    List<CorretorClienteEntity> findLinksByCorretorId(@Param("corretorId") Integer corretorId);
 }
\ No newline at end of file
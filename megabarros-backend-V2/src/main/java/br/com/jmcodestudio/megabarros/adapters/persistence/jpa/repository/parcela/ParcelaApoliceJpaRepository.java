@@ -2,9 +2,15 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.parce
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.parcela.ParcelaApoliceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ParcelaApoliceJpaRepository extends JpaRepository<ParcelaApoliceEntity, Integer> {
     List<ParcelaApoliceEntity> findByIdApolice(Integer idApolice);
+
+    // Parcelas de um lote de apólices (hidratação em lote)
+    @Query("select p from ParcelaApoliceEntity p where p.idApolice in :idsApolice order by p.idApolice, p.numeroParcela")
+    List<ParcelaApoliceEntity> findByIdApoliceIn(Collection<Integer> idsApolice);
 }
@@ -2,9 +2,17 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.produ
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.produto.ProdutoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProdutoJpaRepository extends JpaRepository<ProdutoEntity, Integer> {
     List<ProdutoEntity> findBySeguradora_Id(Integer idSeguradora);
+
+    // Exclusão em uma instrução, sem carregar os produtos
+    @Modifying
+    @Query("delete from ProdutoEntity p where p.seguradora.id = :idSeguradora")
+    int deleteBySeguradoraId(@Param("idSeguradora") Integer idSeguradora);
 }
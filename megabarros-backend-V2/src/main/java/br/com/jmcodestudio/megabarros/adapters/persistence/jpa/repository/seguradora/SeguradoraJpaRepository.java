@@ -2,6 +2,17 @@ package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.segur
 
 import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.seguradora.SeguradoraEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface SeguradoraJpaRepository extends JpaRepository<SeguradoraEntity, Integer> {
+
+    // Catálogo completo numa consulta: [SeguradoraEntity, ProdutoEntity ou null], em ordem de seguradora
+    @Query("""
+            select s, p from SeguradoraEntity s
+              left join ProdutoEntity p on p.seguradora = s
+             order by s.id, p.id
+            """)
+    List<Object[]> findAllWithProdutos();
 }
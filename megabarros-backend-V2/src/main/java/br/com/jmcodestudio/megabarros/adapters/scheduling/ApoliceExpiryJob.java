@@ -0,0 +1,74 @@
+package br.com.jmcodestudio.megabarros.adapters.scheduling;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceExpiryResult;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ExpireApolicesUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispara periodicamente o vencimento de apólices e publica as métricas:
+ * - apolice.expiry.processed: apólices passadas para VENCIDA (contador)
+ * - apolice.expiry.lag: segundos desde o fim da vigência mais antiga ainda pendente (0 = em dia)
+ * - apolice.expiry.run: duração de cada execução
+ */
+@Component
+@ConditionalOnProperty(name = "APOLICE_EXPIRY_ENABLED", havingValue = "true", matchIfMissing = true)
+public class ApoliceExpiryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ApoliceExpiryJob.class);
+
+    private final ExpireApolicesUseCase useCase;
+    private final Clock clock;
+    private final Counter processed;
+    private final Timer runs;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ApoliceExpiryJob(ExpireApolicesUseCase useCase, MeterRegistry registry, Clock clock) {
+        this.useCase = useCase;
+        this.clock = clock;
+        this.processed = Counter.builder("apolice.expiry.processed")
+                .description("Apólices passadas para VENCIDA")
+                .register(registry);
+        this.runs = Timer.builder("apolice.expiry.run")
+                .description("Duração das execuções do job de vencimento")
+                .register(registry);
+        Gauge.builder("apolice.expiry.lag", lagSeconds, AtomicLong::get)
+                .description("Atraso do vencimento mais antigo ainda pendente")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${APOLICE_EXPIRY_CRON:0 */15 * * * *}")
+    public void run() {
+        runs.record(() -> {
+            try {
+                ApoliceExpiryResult result = useCase.expireDue(LocalDate.now(clock));
+                processed.increment(result.vencidas());
+                lagSeconds.set(lag(result.pendenteMaisAntiga()));
+            } catch (RuntimeException ex) {
+                // O próximo disparo retoma de onde parou; lotes já confirmados permanecem
+                log.error("apolice.expiry failed cause={}", ex.getMessage(), ex);
+            }
+        });
+    }
+
+    // A apólice vence ao fim do dia de vigencia_fim
+    private long lag(LocalDate pendenteMaisAntiga) {
+        if (pendenteMaisAntiga == null) return 0;
+        ZonedDateTime vencimento = pendenteMaisAntiga.plusDays(1).atStartOfDay(clock.getZone());
+        return Math.max(0, Duration.between(vencimento, ZonedDateTime.now(clock)).toSeconds());
+    }
+}
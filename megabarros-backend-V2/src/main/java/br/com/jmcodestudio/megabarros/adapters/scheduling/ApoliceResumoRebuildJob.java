@@ -0,0 +1,48 @@
+package br.com.jmcodestudio.megabarros.adapters.scheduling;
+
+import br.com.jmcodestudio.megabarros.application.port.in.dashboard.DashboardUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciliação periódica do resumo do dashboard com as apólices. Publica:
+ * - apolice.rollup.drift: grupos que estavam divergentes e foram corrigidos (esperado: 0)
+ * - apolice.rollup.rebuild: duração de cada reconciliação
+ */
+@Component
+@ConditionalOnProperty(name = "APOLICE_ROLLUP_REBUILD_ENABLED", havingValue = "true", matchIfMissing = true)
+public class ApoliceResumoRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ApoliceResumoRebuildJob.class);
+
+    private final DashboardUseCase useCase;
+    private final Counter drift;
+    private final Timer runs;
+
+    public ApoliceResumoRebuildJob(DashboardUseCase useCase, MeterRegistry registry) {
+        this.useCase = useCase;
+        this.drift = Counter.builder("apolice.rollup.drift")
+                .description("Grupos do resumo corrigidos pela reconciliação")
+                .register(registry);
+        this.runs = Timer.builder("apolice.rollup.rebuild")
+                .description("Duração das reconciliações do resumo")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${APOLICE_ROLLUP_REBUILD_CRON:0 30 3 * * *}")
+    public void run() {
+        runs.record(() -> {
+            try {
+                drift.increment(useCase.rebuildResumo());
+            } catch (RuntimeException ex) {
+                log.error("dashboard.rebuild failed cause={}", ex.getMessage(), ex);
+            }
+        });
+    }
+}
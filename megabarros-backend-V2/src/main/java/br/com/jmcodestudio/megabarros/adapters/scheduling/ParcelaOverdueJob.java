@@ -0,0 +1,56 @@
+package br.com.jmcodestudio.megabarros.adapters.scheduling;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaOverdueResult;
+import br.com.jmcodestudio.megabarros.application.port.in.parcela.OverdueParcelasUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Dispara periodicamente a marcação de parcelas vencidas como ATRASADA e publica:
+ * - parcela.overdue.processed: parcelas marcadas (contador)
+ * - parcela.overdue.run: duração de cada execução
+ */
+@Component
+@ConditionalOnProperty(name = "PARCELA_OVERDUE_ENABLED", havingValue = "true", matchIfMissing = true)
+public class ParcelaOverdueJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ParcelaOverdueJob.class);
+
+    private final OverdueParcelasUseCase useCase;
+    private final Clock clock;
+    private final Counter processed;
+    private final Timer runs;
+
+    public ParcelaOverdueJob(OverdueParcelasUseCase useCase, MeterRegistry registry, Clock clock) {
+        this.useCase = useCase;
+        this.clock = clock;
+        this.processed = Counter.builder("parcela.overdue.processed")
+                .description("Parcelas marcadas como ATRASADA")
+                .register(registry);
+        this.runs = Timer.builder("parcela.overdue.run")
+                .description("Duração das execuções do job de parcelas em atraso")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${PARCELA_OVERDUE_CRON:0 5 * * * *}")
+    public void run() {
+        runs.record(() -> {
+            try {
+                ParcelaOverdueResult result = useCase.markOverdue(LocalDate.now(clock));
+                processed.increment(result.atrasadas());
+            } catch (RuntimeException ex) {
+                // Lotes já confirmados permanecem; o próximo disparo continua
+                log.error("parcela.overdue failed cause={}", ex.getMessage(), ex);
+            }
+        });
+    }
+}
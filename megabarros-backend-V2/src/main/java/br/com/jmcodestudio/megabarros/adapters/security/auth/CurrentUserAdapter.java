@@ -61,6 +61,16 @@ public class CurrentUserAdapter implements CurrentUserPort {
         return null;
     }
 
+    @Override
+    public Integer corretorId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        if (auth.getPrincipal() instanceof JwtAuthenticationFilter.Principal p) {
+            return p.corretorId();
+        }
+        return null;
+    }
+
     @Override
     public String role() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
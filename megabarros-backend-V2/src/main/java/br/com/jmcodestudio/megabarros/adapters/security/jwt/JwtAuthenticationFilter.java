@@ -71,7 +71,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             try {
                 var claims = tokens.parseAndValidateAccess(token);
                 var auth = new UsernamePasswordAuthenticationToken(
-                        new Principal(claims.userId(), claims.email()),
+                        new Principal(claims.userId(), claims.email(), claims.corretorId()),
                         null,
                         List.of(new SimpleGrantedAuthority("ROLE_" + String.valueOf(claims.role()).toUpperCase()))
                 );
@@ -83,5 +83,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
-    public record Principal(Long userId, String email) {}
+    // corretorId: presente apenas em tokens de CORRETOR emitidos com o claim
+    public record Principal(Long userId, String email, Integer corretorId) {}
 }
\ No newline at end of file
@@ -142,6 +142,7 @@ public class JwtTokenService implements TokenServicePort {
         var role = (String) jwt.get("role");
         var jti = jwt.getId();
         var exp = jwt.getExpiration().toInstant();
-        return new Claims(userId, email, role, jti, exp);
+        var corretorId = jwt.get(CLAIM_CORRETOR_ID, Integer.class);
+        return new Claims(userId, email, role, jti, exp, corretorId);
     }
 }
\ No newline at end of file
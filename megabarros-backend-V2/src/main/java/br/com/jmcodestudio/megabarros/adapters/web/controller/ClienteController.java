@@ -1,6 +1,7 @@
 package br.com.jmcodestudio.megabarros.adapters.web.controller;
 
 import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClienteCreateRequest;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClientePageResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClienteResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClienteUpdateRequest;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.cliente.ClienteWebMapper;
@@ -48,6 +49,23 @@ public class ClienteController {
         return ResponseEntity.ok(list);
     }
 
+    // Paginação por chave: repasse nextCursor em 'cursor' para obter a próxima página.
+    // Com 'q': CPF/CNPJ exato ou trecho de nome/e-mail, em ordem de relevância (cursor próprio da busca)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping("/search")
+    public ResponseEntity<ClientePageResponse> pesquisar(@RequestParam(required = false) String q,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "50") int limit) {
+        if (q != null) {
+            var found = listUC.search(q, webMapper.decodeSearchCursor(cursor), limit);
+            var items = found.items().stream().map(webMapper::toResponse).toList();
+            return ResponseEntity.ok(new ClientePageResponse(items, webMapper.encodeSearchCursor(found.nextCursor())));
+        }
+        var page = listUC.search(webMapper.decodeCursor(cursor), limit);
+        var items = page.items().stream().map(webMapper::toResponse).toList();
+        return ResponseEntity.ok(new ClientePageResponse(items, webMapper.encodeCursor(page.nextCursor())));
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
     @GetMapping("/{id}")
     public ResponseEntity<ClienteResponse> buscar(@PathVariable Integer id) {
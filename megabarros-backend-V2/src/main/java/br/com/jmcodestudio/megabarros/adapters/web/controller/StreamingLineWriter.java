@@ -0,0 +1,105 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Base das exportações em streaming: serializa um registro por linha (NDJSON ou CSV) direto no corpo
+ * da resposta. O primeiro registro é enviado imediatamente; depois o buffer do servlet dita o ritmo.
+ * Subclasses só definem a linha CSV e, se preciso, o objeto serializado em JSON.
+ */
+public abstract class StreamingLineWriter<T> implements Consumer<T> {
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        // Parâmetro 'format' da requisição; valor desconhecido -> 400
+        public static Format parse(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Formato de exportação inválido: " + format);
+            }
+        }
+    }
+
+    private final OutputStream out;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private boolean first = true;
+
+    protected StreamingLineWriter(OutputStream out, Format format, ObjectMapper objectMapper, String csvHeader) throws IOException {
+        this.out = out;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            out.write(csvHeader.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // Campos da linha CSV, sem a quebra de linha final
+    protected abstract String csvLine(T item);
+
+    // Objeto serializado em cada linha NDJSON
+    protected Object json(T item) {
+        return item;
+    }
+
+    @Override
+    public final void accept(T item) {
+        try {
+            if (format == Format.CSV) {
+                out.write((csvLine(item) + '\n').getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(json(item)));
+                out.write('\n');
+            }
+            if (first) {
+                out.flush();
+                first = false;
+            }
+        } catch (IOException ex) {
+            // Cliente desconectou: interrompe a leitura do cursor
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    protected static String str(Object o) {
+        return o == null ? "" : o.toString();
+    }
+
+    protected static String decimal(BigDecimal d) {
+        return d == null ? "" : d.toPlainString();
+    }
+
+    // RFC 4180: aspas quando houver separador, aspas ou quebra de linha
+    protected static String escape(String s) {
+        if (s == null) return "";
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,24 +1,52 @@
 package br.com.jmcodestudio.megabarros.adapters.web.controller.apolice;
 
+import br.com.jmcodestudio.megabarros.adapters.web.controller.StreamingLineWriter;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceBeneficiariosRequest;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceBulkCancelRequest;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceBulkCancelResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceCoberturasRequest;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceCreateRequest;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceImportResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApolicePageResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceUpdateRequest;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.apolice.ApoliceWebMapper;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaAtrasadaResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaRequest;
-import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
-import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaScheduleRequest;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ApolicePortfolioUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.BeneficiarioUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.BulkCancelApolicesUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.apolice.CancelApoliceUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.CoberturaUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.apolice.CreateApoliceUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ExportApolicesUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ImportApolicesUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.apolice.ListApolicesUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.apolice.UpdateApoliceUseCase;
+import br.com.jmcodestudio.megabarros.application.port.in.parcela.OverdueParcelasUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.parcela.ParcelaUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -29,39 +57,176 @@ public class ApoliceController {
     private final CreateApoliceUseCase createUC;
     private final UpdateApoliceUseCase updateUC;
     private final ListApolicesUseCase listUC;
+    private final ApolicePortfolioUseCase portfolioUC;
     private final CancelApoliceUseCase cancelUC;
+    private final BulkCancelApolicesUseCase bulkCancelUC;
     private final ParcelaUseCase parcelaUC;
+    private final OverdueParcelasUseCase overdueUC;
+    private final CoberturaUseCase coberturaUC;
+    private final BeneficiarioUseCase beneficiarioUC;
+    private final ExportApolicesUseCase exportUC;
+    private final ImportApolicesUseCase importUC;
     private final ApoliceWebMapper webMapper;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     public ApoliceController(CreateApoliceUseCase createUC,
                              UpdateApoliceUseCase updateUC,
                              ListApolicesUseCase listUC,
+                             ApolicePortfolioUseCase portfolioUC,
                              CancelApoliceUseCase cancelUC,
+                             BulkCancelApolicesUseCase bulkCancelUC,
                              ParcelaUseCase parcelaUC,
-                             ApoliceWebMapper webMapper) {
+                             OverdueParcelasUseCase overdueUC,
+                             CoberturaUseCase coberturaUC,
+                             BeneficiarioUseCase beneficiarioUC,
+                             ExportApolicesUseCase exportUC,
+                             ImportApolicesUseCase importUC,
+                             ApoliceWebMapper webMapper,
+                             ObjectMapper objectMapper,
+                             Clock clock) {
         this.createUC = createUC;
         this.updateUC = updateUC;
         this.listUC = listUC;
+        this.portfolioUC = portfolioUC;
         this.cancelUC = cancelUC;
+        this.bulkCancelUC = bulkCancelUC;
         this.parcelaUC = parcelaUC;
+        this.overdueUC = overdueUC;
+        this.coberturaUC = coberturaUC;
+        this.beneficiarioUC = beneficiarioUC;
+        this.exportUC = exportUC;
+        this.importUC = importUC;
         this.webMapper = webMapper;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
     }
 
     // Leitura aberta a ADMIN, USUARIO e CORRETOR
+    // Lista completa com filtros combinados (mantida por compatibilidade; prefira /search)
     @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
     @GetMapping
     public ResponseEntity<List<ApoliceResponse>> listar(@RequestParam(required = false) Integer seguradoraId,
                                                         @RequestParam(required = false) Integer produtoId,
-                                                        @RequestParam(required = false) Integer corretorClienteId) {
-        List<Apolice> list;
-        if (seguradoraId != null) list = listUC.listBySeguradora(seguradoraId);
-        else if (produtoId != null) list = listUC.listByProduto(produtoId);
-        else if (corretorClienteId != null) list = listUC.listByCorretorCliente(corretorClienteId);
-        else list = listUC.listAll();
-        var resp = list.stream().map(webMapper::toResponse).toList();
+                                                        @RequestParam(required = false) Integer corretorClienteId,
+                                                        @RequestParam(required = false) String status,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaDe,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaAte,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoDe,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoAte,
+                                                        @RequestParam(required = false) String expand) {
+        var filter = new ApoliceFilter(seguradoraId, produtoId, corretorClienteId, status,
+                vigenciaDe, vigenciaAte, emissaoDe, emissaoAte);
+        var parts = webMapper.parseExpand(expand);
+        // Sem expand: projeção resumida (sem parcelas/coberturas/beneficiários)
+        var resp = parts.isEmpty()
+                ? listUC.listSummaries(filter).stream().map(webMapper::toResponse).toList()
+                : listUC.list(filter, parts).stream().map(a -> webMapper.toResponse(a, parts)).toList();
         return ResponseEntity.ok(resp);
     }
 
+    // Paginação por chave: repasse nextCursor em 'cursor' para obter a próxima página
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping("/search")
+    public ResponseEntity<ApolicePageResponse<ApoliceResponse>> pesquisar(@RequestParam(required = false) Integer seguradoraId,
+                                                                          @RequestParam(required = false) Integer produtoId,
+                                                                          @RequestParam(required = false) Integer corretorClienteId,
+                                                                          @RequestParam(required = false) String status,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaDe,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaAte,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoDe,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoAte,
+                                                                          @RequestParam(defaultValue = "ID") String sort,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "50") int limit,
+                                                                          @RequestParam(required = false) String expand) {
+        var filter = new ApoliceFilter(seguradoraId, produtoId, corretorClienteId, status,
+                vigenciaDe, vigenciaAte, emissaoDe, emissaoAte);
+        ApoliceSort apoliceSort;
+        try {
+            apoliceSort = ApoliceSort.valueOf(sort.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Ordenação inválida: " + sort);
+        }
+        var after = webMapper.decodeCursor(cursor);
+        var parts = webMapper.parseExpand(expand);
+        if (parts.isEmpty()) {
+            var page = listUC.searchSummaries(filter, apoliceSort, after, limit);
+            var items = page.items().stream().map(webMapper::toResponse).toList();
+            return ResponseEntity.ok(new ApolicePageResponse<>(items, webMapper.encodeCursor(page.nextCursor())));
+        }
+        var page = listUC.search(filter, apoliceSort, after, limit, parts);
+        var items = page.items().stream().map(a -> webMapper.toResponse(a, parts)).toList();
+        return ResponseEntity.ok(new ApolicePageResponse<>(items, webMapper.encodeCursor(page.nextCursor())));
+    }
+
+    // Carteira do corretor (todos os clientes vinculados) em uma consulta paginada por chave;
+    // CORRETOR usa o próprio corretor, ADMIN/USUARIO informam corretorId
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping("/portfolio")
+    public ResponseEntity<ApolicePageResponse<ApoliceResponse>> carteira(@RequestParam(required = false) Integer corretorId,
+                                                                         @RequestParam(required = false) String status,
+                                                                         @RequestParam(defaultValue = "ID") String sort,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "50") int limit) {
+        ApoliceSort apoliceSort;
+        try {
+            apoliceSort = ApoliceSort.valueOf(sort.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Ordenação inválida: " + sort);
+        }
+        var page = portfolioUC.portfolio(corretorId, status, apoliceSort, webMapper.decodeCursor(cursor), limit);
+        var items = page.items().stream().map(webMapper::toResponse).toList();
+        return ResponseEntity.ok(new ApolicePageResponse<>(items, webMapper.encodeCursor(page.nextCursor())));
+    }
+
+    // Exportação em streaming (format=ndjson|csv): cada linha é escrita assim que lida do banco
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(defaultValue = "ndjson") String format,
+                                                          @RequestParam(required = false) Integer seguradoraId,
+                                                          @RequestParam(required = false) Integer produtoId,
+                                                          @RequestParam(required = false) Integer corretorClienteId,
+                                                          @RequestParam(required = false) String status,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaDe,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vigenciaAte,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoDe,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate emissaoAte) {
+        var fmt = StreamingLineWriter.Format.parse(format);
+        // Valida o filtro antes de abrir o stream para que erros ainda virem 400
+        var filter = new ApoliceFilter(seguradoraId, produtoId, corretorClienteId, status,
+                vigenciaDe, vigenciaAte, emissaoDe, emissaoAte).normalized();
+
+        StreamingResponseBody body = out -> {
+            var buffered = new BufferedOutputStream(out, 64 * 1024);
+            exportUC.export(filter, new ApoliceExportWriter(buffered, fmt, objectMapper));
+            buffered.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(fmt.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"apolices." + fmt.extension() + "\"")
+                .body(body);
+    }
+
+    // Importação em massa (format=ndjson|csv): o corpo é lido em streaming e gravado em lotes;
+    // a resposta traz contagens e os erros por linha (linhas válidas são gravadas mesmo com erros em outras)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv",
+            MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApoliceImportResponse> importar(@RequestParam(defaultValue = "ndjson") String format,
+                                                         InputStream body) throws IOException {
+        ApoliceImportReader.Format fmt;
+        try {
+            fmt = ApoliceImportReader.Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Formato de importação inválido: " + format);
+        }
+        try (var in = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024)) {
+            var result = importUC.importAll(new ApoliceImportReader(in, fmt, objectMapper));
+            return ResponseEntity.ok(webMapper.toResponse(result));
+        }
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
     @GetMapping("/{id}")
     public ResponseEntity<ApoliceResponse> buscar(@PathVariable Integer id) {
@@ -90,8 +255,8 @@ public class ApoliceController {
                 req.idSeguradora(),
                 null,
                 domain.parcelas(),
-                List.of(), // coberturas: não usadas nesta fase
-                List.of()  // beneficiários: não usados nesta fase
+                domain.coberturas(),
+                domain.beneficiarios()
         );
         Apolice created = createUC.create(domain);
         var resp = webMapper.toResponse(created);
@@ -114,6 +279,15 @@ public class ApoliceController {
         return ResponseEntity.noContent().build();
     }
 
+    // Cancelamento em massa por ids e/ou produto/seguradora; processa em lotes e devolve as contagens
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @PostMapping("/cancel")
+    public ResponseEntity<ApoliceBulkCancelResponse> cancelarEmMassa(@Valid @RequestBody ApoliceBulkCancelRequest req) {
+        var result = bulkCancelUC.cancelBulk(
+                new ApoliceCancelSelection(req.ids(), req.produtoId(), req.seguradoraId()), req.reason());
+        return ResponseEntity.ok(new ApoliceBulkCancelResponse(result.canceladas(), result.ignoradas(), result.lotes()));
+    }
+
     // Parcela
     @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
     @PostMapping("/{id}/parcelas")
@@ -124,6 +298,18 @@ public class ApoliceController {
                 .body(new ApoliceResponse.ParcelaResponse(saved.id(), saved.numeroParcela(), saved.dataVencimento(), saved.valorParcela(), saved.statusPagamento(), saved.dataPagamento()));
     }
 
+    // Gera o cronograma completo (valor da apólice dividido em N parcelas) numa única transação
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @PostMapping("/{id}/parcelas/schedule")
+    public ResponseEntity<List<ApoliceResponse.ParcelaResponse>> gerarParcelas(@PathVariable Integer id, @Valid @RequestBody ParcelaScheduleRequest req) {
+        return parcelaUC.generateSchedule(new ApoliceId(id), webMapper.toCronograma(req))
+                .map(ps -> ps.stream()
+                        .map(p -> new ApoliceResponse.ParcelaResponse(p.id(), p.numeroParcela(), p.dataVencimento(), p.valorParcela(), p.statusPagamento(), p.dataPagamento()))
+                        .toList())
+                .map(body -> ResponseEntity.created(URI.create("/api/apolices/" + id)).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
     @PostMapping("/parcelas/{parcelaId}/pay")
     public ResponseEntity<ApoliceResponse.ParcelaResponse> pagarParcela(@PathVariable Integer parcelaId) {
@@ -133,7 +319,52 @@ public class ApoliceController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // Removidos nesta fase:
-    // - adicionarBeneficiario
-    // - adicionarCobertura
+    // Parcelas não pagas vencidas antes de 'ate' (padrão: hoje), da mais antiga para a mais recente
+    // (CORRETOR: somente da própria carteira)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping("/parcelas/overdue")
+    public ResponseEntity<ApolicePageResponse<ParcelaAtrasadaResponse>> parcelasEmAtraso(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(defaultValue = "50") int limit) {
+        LocalDate hoje = ate != null ? ate : LocalDate.now(clock);
+        var page = overdueUC.listOverdue(hoje, webMapper.decodeParcelaCursor(cursor), limit);
+        var items = page.items().stream().map(p -> webMapper.toResponse(p, hoje)).toList();
+        return ResponseEntity.ok(new ApolicePageResponse<>(items, webMapper.encodeParcelaCursor(page.nextCursor())));
+    }
+
+    // Cobertura: inclusão e remoção em lote (um batch de INSERTs / um DELETE por chamada)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @PostMapping("/{id}/coberturas")
+    public ResponseEntity<List<ApoliceResponse.CoberturaResponse>> adicionarCoberturas(@PathVariable Integer id, @Valid @RequestBody ApoliceCoberturasRequest req) {
+        ApoliceId apoliceId = new ApoliceId(id);
+        return coberturaUC.addCoberturas(apoliceId, webMapper.toCoberturas(apoliceId, req.coberturas()))
+                .map(cs -> cs.stream().map(webMapper::toResponse).toList())
+                .map(body -> ResponseEntity.created(URI.create("/api/apolices/" + id)).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @DeleteMapping("/{id}/coberturas")
+    public ResponseEntity<Void> removerCoberturas(@PathVariable Integer id, @RequestParam List<Integer> ids) {
+        coberturaUC.removeCoberturas(new ApoliceId(id), ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Beneficiário: inclusão e remoção em lote
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @PostMapping("/{id}/beneficiarios")
+    public ResponseEntity<List<ApoliceResponse.BeneficiarioResponse>> adicionarBeneficiarios(@PathVariable Integer id, @Valid @RequestBody ApoliceBeneficiariosRequest req) {
+        ApoliceId apoliceId = new ApoliceId(id);
+        return beneficiarioUC.addBeneficiarios(apoliceId, webMapper.toBeneficiarios(apoliceId, req.beneficiarios()))
+                .map(bs -> bs.stream().map(webMapper::toResponse).toList())
+                .map(body -> ResponseEntity.created(URI.create("/api/apolices/" + id)).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @DeleteMapping("/{id}/beneficiarios")
+    public ResponseEntity<Void> removerBeneficiarios(@PathVariable Integer id, @RequestParam List<Integer> ids) {
+        beneficiarioUC.removeBeneficiarios(new ApoliceId(id), ids);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.web.controller.StreamingLineWriter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exportação de apólices, uma por linha (NDJSON ou CSV).
+ */
+final class ApoliceExportWriter extends StreamingLineWriter<ApoliceSummary> {
+
+    static final String CSV_HEADER = "idApolice,numeroApolice,dataEmissao,vigenciaInicio,vigenciaFim,valor,"
+            + "comissaoPercentual,tipoContrato,idCorretorCliente,idProduto,idSeguradora,statusAtual\n";
+
+    ApoliceExportWriter(OutputStream out, Format format, ObjectMapper objectMapper) throws IOException {
+        super(out, format, objectMapper, CSV_HEADER);
+    }
+
+    @Override
+    protected String csvLine(ApoliceSummary a) {
+        return new StringBuilder(160)
+                .append(a.idApolice()).append(',')
+                .append(escape(a.numeroApolice())).append(',')
+                .append(str(a.dataEmissao())).append(',')
+                .append(str(a.vigenciaInicio())).append(',')
+                .append(str(a.vigenciaFim())).append(',')
+                .append(decimal(a.valor())).append(',')
+                .append(decimal(a.comissaoPercentual())).append(',')
+                .append(escape(a.tipoContrato())).append(',')
+                .append(str(a.idCorretorCliente())).append(',')
+                .append(str(a.idProduto())).append(',')
+                .append(str(a.idSeguradora())).append(',')
+                .append(escape(a.statusAtual()))
+                .toString();
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportRow;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Lê o corpo da importação sob demanda (NDJSON ou CSV), uma linha por vez; nada é mantido em memória
+ * além do registro corrente. Erros de formato viram linhas inválidas em vez de abortar a leitura.
+ * O CSV usa o mesmo cabeçalho da exportação (colunas por nome; idApolice é ignorada) e não traz parcelas.
+ */
+final class ApoliceImportReader implements Iterator<ApoliceImportRow> {
+
+    enum Format { NDJSON, CSV }
+
+    static final List<String> CSV_REQUIRED = List.of("numeroApolice", "dataEmissao", "vigenciaInicio", "vigenciaFim",
+            "valor", "comissaoPercentual", "tipoContrato", "idCorretorCliente", "idProduto", "idSeguradora");
+
+    private final BufferedReader in;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+    private ApoliceImportRow next;
+
+    ApoliceImportReader(BufferedReader in, Format format, ObjectMapper objectMapper) {
+        this.in = in;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = format == Format.CSV ? readCsv() : readNdjson();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ApoliceImportRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ApoliceImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    // NDJSON
+
+    private ApoliceImportRow readNdjson() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+        try {
+            return ApoliceImportRow.of(lineNumber, objectMapper.readValue(line, JsonRow.class).toDomain());
+        } catch (JsonProcessingException ex) {
+            return ApoliceImportRow.invalid(lineNumber, "JSON inválido: " + ex.getOriginalMessage());
+        }
+    }
+
+    record JsonRow(String numeroApolice, LocalDate dataEmissao, LocalDate vigenciaInicio, LocalDate vigenciaFim,
+                   BigDecimal valor, BigDecimal comissaoPercentual, String tipoContrato,
+                   Integer idCorretorCliente, Integer idProduto, Integer idSeguradora,
+                   @JsonAlias("status") String statusAtual, List<JsonParcela> parcelas) {
+        Apolice toDomain() {
+            List<Parcela> ps = parcelas == null ? List.of() : parcelas.stream()
+                    .map(p -> new Parcela(null, null, p.numeroParcela(), p.dataVencimento(), p.valorParcela(),
+                            p.statusPagamento(), p.dataPagamento()))
+                    .toList();
+            return new Apolice(null, numeroApolice, dataEmissao, vigenciaInicio, vigenciaFim, valor, comissaoPercentual,
+                    tipoContrato, idCorretorCliente, idProduto, idSeguradora, statusAtual, ps, List.of(), List.of());
+        }
+    }
+
+    record JsonParcela(Integer numeroParcela, LocalDate dataVencimento, BigDecimal valorParcela,
+                       String statusPagamento, LocalDate dataPagamento) {}
+
+    // CSV
+
+    private void readHeader() {
+        List<String> header = readRecord();
+        if (header == null) throw new IllegalArgumentException("Arquivo CSV vazio.");
+        for (int i = 0; i < header.size(); i++) {
+            String name = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i); // BOM do Excel
+            columns.put(name.trim().toLowerCase(), i);
+        }
+        List<String> faltando = CSV_REQUIRED.stream().filter(c -> !columns.containsKey(c.toLowerCase())).toList();
+        if (!faltando.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes no CSV: " + String.join(",", faltando));
+        }
+    }
+
+    private ApoliceImportRow readCsv() {
+        List<String> fields;
+        long start;
+        do {
+            start = lineNumber + 1;
+            fields = readRecord();
+            if (fields == null) return null;
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+        try {
+            String status = columns.containsKey("statusatual") ? field(fields, "statusAtual")
+                    : columns.containsKey("status") ? field(fields, "status") : null;
+            Apolice a = new Apolice(null,
+                    field(fields, "numeroApolice"),
+                    parse(fields, "dataEmissao", LocalDate::parse),
+                    parse(fields, "vigenciaInicio", LocalDate::parse),
+                    parse(fields, "vigenciaFim", LocalDate::parse),
+                    parse(fields, "valor", BigDecimal::new),
+                    parse(fields, "comissaoPercentual", BigDecimal::new),
+                    field(fields, "tipoContrato"),
+                    parse(fields, "idCorretorCliente", Integer::valueOf),
+                    parse(fields, "idProduto", Integer::valueOf),
+                    parse(fields, "idSeguradora", Integer::valueOf),
+                    status, List.of(), List.of(), List.of());
+            return ApoliceImportRow.of(start, a);
+        } catch (IllegalArgumentException ex) {
+            return ApoliceImportRow.invalid(start, ex.getMessage());
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        int idx = columns.get(column.toLowerCase());
+        if (idx >= fields.size()) return null;
+        String v = fields.get(idx);
+        return v.isEmpty() ? null : v;
+    }
+
+    private <T> T parse(List<String> fields, String column, Function<String, T> parser) {
+        String v = field(fields, column);
+        if (v == null) return null;
+        try {
+            return parser.apply(v.trim());
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Valor inválido em " + column + ": " + v);
+        }
+    }
+
+    // RFC 4180: campos entre aspas podem conter separador, aspas duplicadas e quebras de linha
+    private List<String> readRecord() {
+        String line = readLine();
+        if (line == null) return null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) break;
+                String cont = readLine();
+                if (cont == null) break; // aspas não fechadas: usa o que foi lido
+                sb.append('\n');
+                line = cont;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        fields.add(sb.toString());
+        return fields;
+    }
+
+    private String readLine() {
+        try {
+            String line = in.readLine();
+            if (line != null) lineNumber++;
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
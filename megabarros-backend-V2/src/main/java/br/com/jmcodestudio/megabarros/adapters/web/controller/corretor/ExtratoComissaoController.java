@@ -0,0 +1,69 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.corretor;
+
+import br.com.jmcodestudio.megabarros.adapters.web.controller.StreamingLineWriter;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.comissao.ExtratoComissaoResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.comissao.ExtratoComissaoWebMapper;
+import br.com.jmcodestudio.megabarros.application.port.in.comissao.ExtratoComissaoUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+
+// Corretores só acessam o próprio extrato (validado no use case)
+@RestController
+@RequestMapping("/api/corretores/{id}/comissoes")
+@CrossOrigin(origins = "http://localhost:5173")
+public class ExtratoComissaoController {
+
+    private final ExtratoComissaoUseCase extratoUC;
+    private final ExtratoComissaoWebMapper webMapper;
+    private final ObjectMapper objectMapper;
+
+    public ExtratoComissaoController(ExtratoComissaoUseCase extratoUC,
+                                     ExtratoComissaoWebMapper webMapper,
+                                     ObjectMapper objectMapper) {
+        this.extratoUC = extratoUC;
+        this.webMapper = webMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    // Totais mensais do período (de/ate em yyyy-MM; ate padrão = de)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping
+    public ResponseEntity<ExtratoComissaoResponse> extrato(@PathVariable Integer id,
+                                                           @RequestParam String de,
+                                                           @RequestParam(required = false) String ate) {
+        return extratoUC.extrato(id, webMapper.toPeriodo(de, ate))
+                .map(webMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Linhas (mês, apólice) em streaming (format=ndjson|csv)
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO','CORRETOR')")
+    @GetMapping("/itens")
+    public ResponseEntity<StreamingResponseBody> itens(@PathVariable Integer id,
+                                                       @RequestParam String de,
+                                                       @RequestParam(required = false) String ate,
+                                                       @RequestParam(defaultValue = "ndjson") String format) {
+        var fmt = StreamingLineWriter.Format.parse(format);
+        // Período e acesso validados antes de abrir o stream para que erros ainda virem 400/403/404
+        var periodo = webMapper.toPeriodo(de, ate);
+        if (!extratoUC.checkAccess(id)) return ResponseEntity.notFound().build();
+
+        StreamingResponseBody body = out -> {
+            var buffered = new BufferedOutputStream(out, 64 * 1024);
+            extratoUC.streamItens(id, periodo, new ExtratoComissaoWriter(buffered, fmt, objectMapper, webMapper));
+            buffered.flush();
+        };
+        String nome = "comissoes-" + id + "-" + periodo.de() + "-" + periodo.ate() + "." + fmt.extension();
+        return ResponseEntity.ok()
+                .contentType(fmt.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nome + "\"")
+                .body(body);
+    }
+}
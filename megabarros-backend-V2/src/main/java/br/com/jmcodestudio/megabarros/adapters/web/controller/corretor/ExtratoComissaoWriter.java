@@ -0,0 +1,46 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.corretor;
+
+import br.com.jmcodestudio.megabarros.adapters.web.controller.StreamingLineWriter;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.comissao.ExtratoComissaoItemResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.comissao.ExtratoComissaoWebMapper;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Linhas do extrato de comissão (NDJSON ou CSV), no mesmo esquema da exportação de apólices.
+ */
+final class ExtratoComissaoWriter extends StreamingLineWriter<ExtratoComissaoItem> {
+
+    static final String CSV_HEADER = "mes,idApolice,numeroApolice,idCliente,comissaoPercentual,parcelasPagas,valorPago,comissao\n";
+
+    private final ExtratoComissaoWebMapper webMapper;
+
+    ExtratoComissaoWriter(OutputStream out, Format format, ObjectMapper objectMapper,
+                          ExtratoComissaoWebMapper webMapper) throws IOException {
+        super(out, format, objectMapper, CSV_HEADER);
+        this.webMapper = webMapper;
+    }
+
+    @Override
+    protected Object json(ExtratoComissaoItem item) {
+        return webMapper.toResponse(item);
+    }
+
+    @Override
+    protected String csvLine(ExtratoComissaoItem item) {
+        ExtratoComissaoItemResponse r = webMapper.toResponse(item);
+        return new StringBuilder(96)
+                .append(r.mes()).append(',')
+                .append(r.idApolice()).append(',')
+                .append(escape(r.numeroApolice())).append(',')
+                .append(r.idCliente()).append(',')
+                .append(decimal(r.comissaoPercentual())).append(',')
+                .append(r.parcelasPagas()).append(',')
+                .append(decimal(r.valorPago())).append(',')
+                .append(decimal(r.comissao()))
+                .toString();
+    }
+}
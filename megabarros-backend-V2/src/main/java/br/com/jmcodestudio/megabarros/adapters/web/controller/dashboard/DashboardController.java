@@ -0,0 +1,38 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.dashboard;
+
+import br.com.jmcodestudio.megabarros.adapters.web.dto.dashboard.DashboardResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.dashboard.DashboardWebMapper;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+import br.com.jmcodestudio.megabarros.application.port.in.dashboard.DashboardUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "http://localhost:5173")
+public class DashboardController {
+
+    private final DashboardUseCase dashboardUC;
+    private final DashboardWebMapper webMapper;
+
+    public DashboardController(DashboardUseCase dashboardUC, DashboardWebMapper webMapper) {
+        this.dashboardUC = dashboardUC;
+        this.webMapper = webMapper;
+    }
+
+    // Prêmio e comissão de apólices não canceladas por mês de emissão, lidos do resumo mensal
+    @PreAuthorize("hasAnyRole('ADMIN','USUARIO')")
+    @GetMapping
+    public ResponseEntity<DashboardResponse> resumo(@RequestParam(required = false) String de,
+                                                    @RequestParam(required = false) String ate,
+                                                    @RequestParam(required = false) Integer seguradoraId,
+                                                    @RequestParam(required = false) Integer produtoId,
+                                                    @RequestParam(required = false) Integer corretorId,
+                                                    @RequestParam(defaultValue = "mes") String groupBy) {
+        var filtro = new DashboardFiltro(webMapper.parseMes("de", de), webMapper.parseMes("ate", ate),
+                seguradoraId, produtoId, corretorId);
+        var dashboard = dashboardUC.load(filtro, webMapper.parseGroupBy(groupBy));
+        return ResponseEntity.ok(webMapper.toResponse(dashboard));
+    }
+}
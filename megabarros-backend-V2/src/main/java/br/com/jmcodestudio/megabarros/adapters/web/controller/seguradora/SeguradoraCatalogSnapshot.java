@@ -0,0 +1,119 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.seguradora;
+
+import br.com.jmcodestudio.megabarros.adapters.web.dto.produto.ProdutoResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.seguradora.SeguradoraResponse;
+import br.com.jmcodestudio.megabarros.application.domain.produto.Produto;
+import br.com.jmcodestudio.megabarros.application.domain.produto.ProdutoId;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.SeguradoraId;
+import br.com.jmcodestudio.megabarros.application.port.in.seguradora.ListSeguradorasUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Corpo JSON de GET /api/seguradoras já serializado, com ETag forte (SHA-256 do corpo).
+ * Refeito só quando SeguradoraCatalogPort.version() muda; enquanto ela não muda, responder
+ * (200 ou 304) não passa pelo Jackson e só vai ao banco na checagem periódica das contagens
+ * (uma leitura por intervalo, não por requisição). Sem versão conhecida, refaz a cada
+ * chamada. O ETag depende só do conteúdo, então coincide entre instâncias.
+ * Métrica: seguradora.catalog.render (corpos serializados).
+ */
+@Component
+public class SeguradoraCatalogSnapshot {
+
+    record Snapshot(long version, byte[] body, String etag) {
+
+        // If-None-Match: lista de ETags ou '*'; comparação fraca (RFC 9110), ignora o prefixo W/
+        boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) return false;
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.equals("*")) return true;
+                if (t.startsWith("W/")) t = t.substring(2);
+                if (t.equals(etag)) return true;
+            }
+            return false;
+        }
+    }
+
+    private final ListSeguradorasUseCase listUC;
+    private final ApoliceQueryPort apoliceQuery;
+    private final SeguradoraCatalogPort catalog;
+    private final ObjectMapper json;
+    private final Counter renders;
+    private volatile Snapshot current;
+
+    public SeguradoraCatalogSnapshot(ListSeguradorasUseCase listUC,
+                                     ApoliceQueryPort apoliceQuery,
+                                     SeguradoraCatalogPort catalog,
+                                     ObjectMapper json,
+                                     MeterRegistry registry) {
+        this.listUC = listUC;
+        this.apoliceQuery = apoliceQuery;
+        this.catalog = catalog;
+        this.json = json;
+        this.renders = Counter.builder("seguradora.catalog.render")
+                .description("Serializações do catálogo de seguradoras para GET /api/seguradoras")
+                .register(registry);
+    }
+
+    Snapshot current() {
+        // Versão lida antes dos dados: alteração durante a montagem deixa o corpo com versão antiga
+        OptionalLong version = catalog.version();
+        Snapshot cached = current;
+        if (version.isPresent() && cached != null && cached.version() == version.getAsLong()) {
+            return cached;
+        }
+        Snapshot built = render(version.orElse(-1));
+        if (version.isPresent()) current = built;
+        return built;
+    }
+
+    private Snapshot render(long version) {
+        renders.increment();
+        List<Seguradora> seguradoras = listUC.listAll();
+        List<SeguradoraId> segIds = seguradoras.stream().map(Seguradora::id).toList();
+        List<ProdutoId> prodIds = seguradoras.stream()
+                .flatMap(s -> (s.produtos() == null ? List.<Produto>of() : s.produtos()).stream())
+                .map(Produto::id)
+                .toList();
+        Map<Integer, Long> segCounts = segIds.isEmpty() ? Map.of() : apoliceQuery.countBySeguradoraIds(segIds);
+        Map<Integer, Long> prodCounts = prodIds.isEmpty() ? Map.of() : apoliceQuery.countByProdutoIds(prodIds);
+
+        List<SeguradoraResponse> list = seguradoras.stream().map(s -> {
+            List<ProdutoResponse> produtos = (s.produtos() == null ? List.<ProdutoResponse>of()
+                    : s.produtos().stream()
+                    .map(p -> new ProdutoResponse(p.id().value(), p.nome(), p.tipo(), prodCounts.getOrDefault(p.id().value(), 0L)))
+                    .toList());
+            return new SeguradoraResponse(s.id().value(), s.nome(), segCounts.getOrDefault(s.id().value(), 0L), produtos);
+        }).toList();
+
+        try {
+            byte[] body = json.writeValueAsBytes(list);
+            return new Snapshot(version, body, etag(body));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar o catálogo de seguradoras", ex);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -14,10 +14,13 @@ import br.com.jmcodestudio.megabarros.application.port.in.produto.CreateProdutoU
 import br.com.jmcodestudio.megabarros.application.port.in.produto.DeleteProdutoUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.seguradora.CreateSeguradoraUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.seguradora.DeleteSeguradoraUseCase;
-import br.com.jmcodestudio.megabarros.application.port.in.seguradora.ListSeguradorasUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.seguradora.UpdateSeguradoraUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -34,54 +37,43 @@ public class SeguradoraController {
     private final CreateSeguradoraUseCase createUC;
     private final UpdateSeguradoraUseCase updateUC;
     private final DeleteSeguradoraUseCase deleteUC;
-    private final ListSeguradorasUseCase listUC;
     private final CreateProdutoUseCase createProdutoUC;
     private final DeleteProdutoUseCase deleteProdutoUC;
     private final ApoliceQueryPort apoliceQuery;
     private final SeguradoraWebMapper webMapper;
+    private final SeguradoraCatalogSnapshot catalogSnapshot;
 
     public SeguradoraController(CreateSeguradoraUseCase createUC,
                                 UpdateSeguradoraUseCase updateUC,
                                 DeleteSeguradoraUseCase deleteUC,
-                                ListSeguradorasUseCase listUC,
                                 CreateProdutoUseCase createProdutoUC,
                                 DeleteProdutoUseCase deleteProdutoUC,
                                 ApoliceQueryPort apoliceQuery,
-                                SeguradoraWebMapper webMapper) {
+                                SeguradoraWebMapper webMapper,
+                                SeguradoraCatalogSnapshot catalogSnapshot) {
         this.createUC = createUC;
         this.updateUC = updateUC;
         this.deleteUC = deleteUC;
-        this.listUC = listUC;
         this.createProdutoUC = createProdutoUC;
         this.deleteProdutoUC = deleteProdutoUC;
         this.apoliceQuery = apoliceQuery;
         this.webMapper = webMapper;
+        this.catalogSnapshot = catalogSnapshot;
     }
 
+    // JSON pré-serializado; com o ETag em If-None-Match responde 304 sem remontar o corpo
     @GetMapping
-    public ResponseEntity<List<SeguradoraResponse>> listar() {
-        var seguradoras = listUC.listAll();
-        // ids para agregação
-        var segIds = seguradoras.stream().map(s -> s.id()).toList();
-        var prodIds = seguradoras.stream()
-                .flatMap(s -> (s.produtos() == null ? List.<Produto>of() : s.produtos()).stream())
-                .map(Produto::id)
-                .toList();
-
-        Map<Integer, Long> segCounts = apoliceQuery.countBySeguradoraIds(segIds);
-        Map<Integer, Long> prodCounts = apoliceQuery.countByProdutoIds(prodIds);
-
-        var list = seguradoras.stream().map(s -> {
-            long segCount = segCounts.getOrDefault(s.id().value(), 0L);
-            List<ProdutoResponse> produtos = (s.produtos() == null ? List.<ProdutoResponse>of()
-                    : s.produtos().stream().map(p -> {
-                long prodCount = prodCounts.getOrDefault(p.id().value(), 0L);
-                return new ProdutoResponse(p.id().value(), p.nome(), p.tipo(), prodCount);
-            }).toList());
-            return new SeguradoraResponse(s.id().value(), s.nome(), segCount, produtos);
-        }).toList();
-
-        return ResponseEntity.ok(list);
+    public ResponseEntity<byte[]> listar(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var snapshot = catalogSnapshot.current();
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.body());
     }
 
     // Somente ADMIN e USUARIO podem criar/alterar/excluir seguradora e produtos
@@ -129,9 +121,14 @@ public class SeguradoraController {
 
     private SeguradoraResponse toResponseWithCounts(Seguradora s) {
         long segCount = apoliceQuery.countBySeguradoraId(s.id());
-        List<ProdutoResponse> produtos = (s.produtos() == null ? List.<ProdutoResponse>of()
-                : s.produtos().stream().map(this::toProdutoResponseWithCount).toList());
-        return new SeguradoraResponse(s.id().value(), s.nome(), segCount, produtos);
+        List<Produto> produtos = s.produtos() == null ? List.of() : s.produtos();
+        // contagens de todos os produtos numa consulta (catálogos com centenas de produtos)
+        Map<Integer, Long> prodCounts = produtos.isEmpty() ? Map.of()
+                : apoliceQuery.countByProdutoIds(produtos.stream().map(Produto::id).toList());
+        List<ProdutoResponse> resp = produtos.stream()
+                .map(p -> new ProdutoResponse(p.id().value(), p.nome(), p.tipo(), prodCounts.getOrDefault(p.id().value(), 0L)))
+                .toList();
+        return new SeguradoraResponse(s.id().value(), s.nome(), segCount, resp);
     }
 
     private ProdutoResponse toProdutoResponseWithCount(Produto p) {
@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Inclusão em lote de beneficiários numa apólice existente
+public record ApoliceBeneficiariosRequest(
+        @NotEmpty @Size(max = 1000) @Valid List<ApoliceCreateRequest.BeneficiarioItem> beneficiarios
+) {}
@@ -0,0 +1,13 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// ids e filtros são combinados com AND; ao menos um deve ser informado
+public record ApoliceBulkCancelRequest(
+        @Size(max = 100000) List<Integer> ids,
+        Integer produtoId,
+        Integer seguradoraId,
+        @Size(max = 500) String reason
+) {}
@@ -0,0 +1,3 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+public record ApoliceBulkCancelResponse(long canceladas, long ignoradas, int lotes) {}
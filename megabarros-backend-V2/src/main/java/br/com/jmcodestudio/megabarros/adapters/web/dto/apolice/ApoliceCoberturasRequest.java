@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Inclusão em lote de coberturas numa apólice existente
+public record ApoliceCoberturasRequest(
+        @NotEmpty @Size(max = 1000) @Valid List<ApoliceCreateRequest.CoberturaItem> coberturas
+) {}
@@ -1,5 +1,6 @@
 package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,8 +17,8 @@ public record ApoliceCreateRequest(
         @NotNull Integer idCorretorCliente,
         @NotNull Integer idProduto,
         @NotNull Integer idSeguradora,
-        List<CoberturaItem> coberturas,
-        List<BeneficiarioItem> beneficiarios
+        @Size(max = 1000) @Valid List<CoberturaItem> coberturas,
+        @Size(max = 1000) @Valid List<BeneficiarioItem> beneficiarios
 ) {
     public record CoberturaItem(@NotNull Integer idCobertura, @NotNull BigDecimal valorContratado) {}
     public record BeneficiarioItem(Integer idCliente, @NotBlank String nomeBeneficiario, String cpf, @NotNull BigDecimal percentualParticipacao) {}
@@ -0,0 +1,14 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import java.util.List;
+
+public record ApoliceImportResponse(
+        long total,
+        long importadas,
+        long rejeitadas,
+        List<Erro> erros,
+        boolean errosTruncados
+) {
+    // linha: número da linha no arquivo (1 = primeira linha, incluindo o cabeçalho do CSV)
+    public record Erro(long linha, String numeroApolice, String mensagem) {}
+}
@@ -0,0 +1,6 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import java.util.List;
+
+// nextCursor nulo indica a última página
+public record ApolicePageResponse<T>(List<T> items, String nextCursor) {}
@@ -1,5 +1,7 @@
 package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -17,9 +19,10 @@ public record ApoliceResponse(
         Integer idProduto,
         Integer idSeguradora,
         String statusAtual,
-        List<ParcelaResponse> parcelas,
-        List<CoberturaResponse> coberturas,
-        List<BeneficiarioResponse> beneficiarios
+        // Em listagens, nulos (omitidos) quando não solicitados via ?expand=
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<ParcelaResponse> parcelas,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CoberturaResponse> coberturas,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<BeneficiarioResponse> beneficiarios
 ) {
     public record ParcelaResponse(Integer idParcela, Integer numeroParcela, LocalDate dataVencimento, BigDecimal valorParcela, String statusPagamento, LocalDate dataPagamento) {}
     public record CoberturaResponse(Integer idApoliceCobertura, Integer idCobertura, BigDecimal valorContratado) {}
@@ -1,18 +1,38 @@
 package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
 
+import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaAtrasadaResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaRequest;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.parcela.ParcelaScheduleRequest;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCobertura;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceExpand;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportResult;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Beneficiario;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.CronogramaParcelas;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasada;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaCursor;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.Periodicidade;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.RegraArredondamento;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface ApoliceWebMapper {
 
-    // Criação: ignorar coberturas/beneficiários nesta fase
+    // Criação: coberturas e beneficiários opcionais, gravados junto com a apólice
     default Apolice toDomain(ApoliceCreateRequest req) {
         if (req == null) return null;
         return new Apolice(
@@ -29,11 +49,25 @@ public interface ApoliceWebMapper {
                 req.idSeguradora(),
                 null,
                 List.of(), // parcelas são gerenciadas por endpoint próprio
-                List.of(), // coberturas não usadas nesta fase
-                List.of()  // beneficiários não usados nesta fase
+                toCoberturas(null, req.coberturas()),
+                toBeneficiarios(null, req.beneficiarios())
         );
     }
 
+    default List<ApoliceCobertura> toCoberturas(ApoliceId apoliceId, List<ApoliceCreateRequest.CoberturaItem> itens) {
+        if (itens == null) return List.of();
+        return itens.stream()
+                .map(i -> new ApoliceCobertura(null, apoliceId, i.idCobertura(), i.valorContratado()))
+                .toList();
+    }
+
+    default List<Beneficiario> toBeneficiarios(ApoliceId apoliceId, List<ApoliceCreateRequest.BeneficiarioItem> itens) {
+        if (itens == null) return List.of();
+        return itens.stream()
+                .map(i -> new Beneficiario(null, apoliceId, i.idCliente(), i.nomeBeneficiario(), i.cpf(), i.percentualParticipacao()))
+                .toList();
+    }
+
     default Apolice toDomain(Integer id, ApoliceUpdateRequest req) {
         if (req == null) return null;
         return new Apolice(
@@ -76,13 +110,66 @@ public interface ApoliceWebMapper {
                                 p.id(), p.numeroParcela(), p.dataVencimento(), p.valorParcela(),
                                 p.statusPagamento(), p.dataPagamento()
                         )).toList(),
-                // coberturas: lista vazia nesta fase
-                List.of(),
-                // beneficiários: lista vazia nesta fase
-                List.of()
+                d.coberturas() == null ? List.of() : d.coberturas().stream().map(this::toResponse).toList(),
+                d.beneficiarios() == null ? List.of() : d.beneficiarios().stream().map(this::toResponse).toList()
+        );
+    }
+
+    default ApoliceResponse.CoberturaResponse toResponse(ApoliceCobertura c) {
+        return new ApoliceResponse.CoberturaResponse(c.id(), c.idCobertura(), c.valorContratado());
+    }
+
+    default ApoliceResponse.BeneficiarioResponse toResponse(Beneficiario b) {
+        return new ApoliceResponse.BeneficiarioResponse(b.id(), b.idCliente(), b.nomeBeneficiario(), b.cpf(), b.percentualParticipacao());
+    }
+
+    // Listagem: inclui apenas as partes pedidas em ?expand=
+    default ApoliceResponse toResponse(Apolice d, Set<ApoliceExpand> expand) {
+        ApoliceResponse full = toResponse(d);
+        if (full == null) return null;
+        return new ApoliceResponse(
+                full.idApolice(), full.numeroApolice(), full.dataEmissao(), full.vigenciaInicio(), full.vigenciaFim(),
+                full.valor(), full.comissaoPercentual(), full.tipoContrato(),
+                full.idCorretorCliente(), full.idProduto(), full.idSeguradora(), full.statusAtual(),
+                expand.contains(ApoliceExpand.PARCELAS) ? full.parcelas() : null,
+                expand.contains(ApoliceExpand.COBERTURAS) ? full.coberturas() : null,
+                expand.contains(ApoliceExpand.BENEFICIARIOS) ? full.beneficiarios() : null
+        );
+    }
+
+    // Resumo: sem parcelas/coberturas/beneficiários (campos omitidos no JSON)
+    default ApoliceResponse toResponse(ApoliceSummary s) {
+        if (s == null) return null;
+        return new ApoliceResponse(
+                s.idApolice(), s.numeroApolice(), s.dataEmissao(), s.vigenciaInicio(), s.vigenciaFim(),
+                s.valor(), s.comissaoPercentual(), s.tipoContrato(),
+                s.idCorretorCliente(), s.idProduto(), s.idSeguradora(), s.statusAtual(),
+                null, null, null
         );
     }
 
+    default ApoliceImportResponse toResponse(ApoliceImportResult r) {
+        var erros = r.erros().stream()
+                .map(e -> new ApoliceImportResponse.Erro(e.linha(), e.numeroApolice(), e.mensagem()))
+                .toList();
+        return new ApoliceImportResponse(r.total(), r.importadas(), r.rejeitadas(), erros, r.errosTruncados());
+    }
+
+    // "parcelas,coberturas" -> {PARCELAS, COBERTURAS}; vazio -> nenhum
+    default Set<ApoliceExpand> parseExpand(String expand) {
+        Set<ApoliceExpand> out = EnumSet.noneOf(ApoliceExpand.class);
+        if (expand == null || expand.isBlank()) return out;
+        for (String part : expand.split(",")) {
+            if (part.isBlank()) continue;
+            try {
+                out.add(ApoliceExpand.valueOf(part.trim().toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Valor de expand inválido: " + part.trim());
+            }
+        }
+        return out;
+    }
+
     // Builder de parcela para endpoint dedicado
     default Parcela toParcela(Integer apoliceId, ParcelaRequest req) {
         return new Parcela(
@@ -95,4 +182,67 @@ public interface ApoliceWebMapper {
                 null
         );
     }
-}
\ No newline at end of file
+
+    default CronogramaParcelas toCronograma(ParcelaScheduleRequest req) {
+        Periodicidade periodicidade = null;
+        if (req.periodicidade() != null && !req.periodicidade().isBlank()) {
+            try {
+                periodicidade = Periodicidade.valueOf(req.periodicidade().trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Periodicidade inválida: " + req.periodicidade());
+            }
+        }
+        RegraArredondamento arredondamento = null;
+        if (req.arredondamento() != null && !req.arredondamento().isBlank()) {
+            try {
+                arredondamento = RegraArredondamento.valueOf(req.arredondamento().trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Regra de arredondamento inválida: " + req.arredondamento());
+            }
+        }
+        return new CronogramaParcelas(req.quantidade(), req.primeiroVencimento(), periodicidade, arredondamento);
+    }
+
+    // Cursor opaco: base64url de "sort|vigenciaFim|id"
+    default String encodeCursor(ApoliceCursor c) {
+        if (c == null) return null;
+        String raw = c.sort().name() + "|" + (c.vigenciaFim() != null ? c.vigenciaFim() : "") + "|" + c.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    default ApoliceCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            ApoliceSort sort = ApoliceSort.valueOf(parts[0]);
+            LocalDate vigenciaFim = parts[1].isEmpty() ? null : LocalDate.parse(parts[1]);
+            if (sort == ApoliceSort.VIGENCIA_FIM && vigenciaFim == null) throw new IllegalArgumentException();
+            return new ApoliceCursor(sort, vigenciaFim, Integer.valueOf(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    default ParcelaAtrasadaResponse toResponse(ParcelaAtrasada p, LocalDate hoje) {
+        return new ParcelaAtrasadaResponse(p.idParcela(), p.idApolice(), p.numeroApolice(), p.numeroParcela(),
+                p.dataVencimento(), p.valorParcela(), p.statusPagamento(),
+                ChronoUnit.DAYS.between(p.dataVencimento(), hoje));
+    }
+
+    // Cursor opaco de parcelas: base64url de "dataVencimento|id"
+    default String encodeParcelaCursor(ParcelaCursor c) {
+        if (c == null) return null;
+        String raw = c.dataVencimento() + "|" + c.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    default ParcelaCursor decodeParcelaCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            return new ParcelaCursor(LocalDate.parse(parts[0]), Integer.valueOf(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
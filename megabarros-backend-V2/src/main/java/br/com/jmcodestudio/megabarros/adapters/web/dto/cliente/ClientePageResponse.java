@@ -0,0 +1,6 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.cliente;
+
+import java.util.List;
+
+// nextCursor nulo indica a última página
+public record ClientePageResponse(List<ClienteResponse> items, String nextCursor) {}
@@ -0,0 +1,14 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.comissao;
+
+import java.math.BigDecimal;
+
+public record ExtratoComissaoItemResponse(
+        String mes,
+        Integer idApolice,
+        String numeroApolice,
+        Integer idCliente,
+        BigDecimal comissaoPercentual,
+        long parcelasPagas,
+        BigDecimal valorPago,
+        BigDecimal comissao
+) {}
@@ -0,0 +1,13 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.comissao;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Meses no formato yyyy-MM; valores arredondados em 2 casas
+public record ExtratoComissaoResponse(Integer corretorId, String de, String ate, List<Mes> meses, Mes total) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Mes(String mes, long parcelasPagas, BigDecimal valorPago, BigDecimal comissao) {}
+}
@@ -0,0 +1,21 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.dashboard;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record DashboardResponse(List<Linha> linhas, Linha total) {
+
+    // mes no formato yyyy-MM; dimensões fora do agrupamento são omitidas
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Linha(
+            String mes,
+            Integer idSeguradora,
+            Integer idProduto,
+            Integer idCorretor,
+            long quantidade,
+            BigDecimal valorTotal,
+            BigDecimal comissaoTotal
+    ) {}
+}
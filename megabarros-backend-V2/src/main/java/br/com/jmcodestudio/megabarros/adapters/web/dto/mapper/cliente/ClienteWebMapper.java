@@ -5,9 +5,14 @@ import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClienteResponse;
 import br.com.jmcodestudio.megabarros.adapters.web.dto.cliente.ClienteUpdateRequest;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteMatch;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface ClienteWebMapper {
 
@@ -48,4 +53,39 @@ public interface ClienteWebMapper {
                 c.ativo()
         );
     }
-}
\ No newline at end of file
+
+    // Cursor opaco: base64url do id do último cliente entregue
+    default String encodeCursor(Integer lastId) {
+        if (lastId == null) return null;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    default Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Integer.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    // Cursor da busca por texto: base64url de "faixa|id|nome" (nome por último: pode conter '|')
+    default String encodeSearchCursor(ClienteSearchCursor c) {
+        if (c == null) return null;
+        String raw = c.match().name() + "|" + c.id() + "|" + (c.nome() != null ? c.nome() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    default ClienteSearchCursor decodeSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            ClienteMatch match = ClienteMatch.valueOf(parts[0]);
+            String nome = parts[2].isEmpty() ? null : parts[2];
+            if (match == ClienteMatch.PREFIXO && nome == null) throw new IllegalArgumentException();
+            return new ClienteSearchCursor(match, nome, Integer.valueOf(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
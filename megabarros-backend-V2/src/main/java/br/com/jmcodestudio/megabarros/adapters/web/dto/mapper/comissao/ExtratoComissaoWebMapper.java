@@ -0,0 +1,52 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.comissao;
+
+import br.com.jmcodestudio.megabarros.adapters.web.dto.comissao.ExtratoComissaoItemResponse;
+import br.com.jmcodestudio.megabarros.adapters.web.dto.comissao.ExtratoComissaoResponse;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissao;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.PeriodoExtrato;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ExtratoComissaoWebMapper {
+
+    default PeriodoExtrato toPeriodo(String de, String ate) {
+        return new PeriodoExtrato(parseMes("de", de), parseMes("ate", ate));
+    }
+
+    default YearMonth parseMes(String name, String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Mês inválido em '" + name + "' (use yyyy-MM): " + value);
+        }
+    }
+
+    default ExtratoComissaoResponse toResponse(ExtratoComissao e) {
+        return new ExtratoComissaoResponse(e.corretorId(), e.de().toString(), e.ate().toString(),
+                e.meses().stream().map(this::toResponse).toList(), toResponse(e.total()));
+    }
+
+    default ExtratoComissaoResponse.Mes toResponse(ExtratoComissaoMes m) {
+        return new ExtratoComissaoResponse.Mes(m.mes() == null ? null : m.mes().toString(),
+                m.parcelasPagas(), money(m.valorPago()), money(m.comissao()));
+    }
+
+    default ExtratoComissaoItemResponse toResponse(ExtratoComissaoItem i) {
+        return new ExtratoComissaoItemResponse(i.mes().toString(), i.idApolice(), i.numeroApolice(), i.idCliente(),
+                i.comissaoPercentual(), i.parcelasPagas(), money(i.valorPago()), money(i.comissao()));
+    }
+
+    // Comissão acumulada com 6 casas; arredonda só na saída
+    default BigDecimal money(BigDecimal v) {
+        return v == null ? null : v.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.mapper.dashboard;
+
+import br.com.jmcodestudio.megabarros.adapters.web.dto.dashboard.DashboardResponse;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.Dashboard;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardLinha;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface DashboardWebMapper {
+
+    // groupBy: lista separada por vírgula (mes,seguradora,produto,corretor); vazio = só o total
+    default Set<DashboardDimensao> parseGroupBy(String groupBy) {
+        Set<DashboardDimensao> out = EnumSet.noneOf(DashboardDimensao.class);
+        if (groupBy == null || groupBy.isBlank()) return out;
+        for (String part : groupBy.split(",")) {
+            if (part.isBlank()) continue;
+            try {
+                out.add(DashboardDimensao.valueOf(part.trim().toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Valor de groupBy inválido: " + part.trim());
+            }
+        }
+        return out;
+    }
+
+    default YearMonth parseMes(String name, String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Mês inválido em '" + name + "' (use yyyy-MM): " + value);
+        }
+    }
+
+    default DashboardResponse toResponse(Dashboard d) {
+        return new DashboardResponse(d.linhas().stream().map(this::toResponse).toList(), toResponse(d.total()));
+    }
+
+    // Comissão é acumulada com 6 casas no resumo; arredonda só na saída
+    default DashboardResponse.Linha toResponse(DashboardLinha l) {
+        return new DashboardResponse.Linha(
+                l.mes() == null ? null : l.mes().toString(),
+                l.idSeguradora(),
+                l.idProduto(),
+                l.idCorretor(),
+                l.quantidade(),
+                l.valorTotal().setScale(2, RoundingMode.HALF_UP),
+                l.comissaoTotal().setScale(2, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.parcela;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// diasEmAtraso: contados a partir do vencimento até a data de referência da consulta
+public record ParcelaAtrasadaResponse(
+        Integer id,
+        Integer idApolice,
+        String numeroApolice,
+        Integer numeroParcela,
+        LocalDate dataVencimento,
+        BigDecimal valorParcela,
+        String statusPagamento,
+        long diasEmAtraso
+) {}
@@ -0,0 +1,16 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.parcela;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+// periodicidade: MENSAL (padrão), BIMESTRAL, TRIMESTRAL, SEMESTRAL, ANUAL
+// arredondamento: ULTIMA (padrão) ou PRIMEIRA parcela recebe a diferença de centavos
+public record ParcelaScheduleRequest(
+        @NotNull @Min(1) @Max(120) Integer quantidade,
+        @NotNull LocalDate primeiroVencimento,
+        String periodicidade,
+        String arredondamento
+) {}
@@ -0,0 +1,4 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+// ignoradas: ids informados que não existem ou já estavam cancelados (0 quando a seleção é só por filtro)
+public record ApoliceBulkCancelResult(long canceladas, long ignoradas, int lotes) {}
@@ -0,0 +1,23 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Seleção do cancelamento em massa: lista de ids e/ou produto/seguradora (combinados com AND).
+ * Ao menos um critério é obrigatório para não cancelar a carteira inteira por engano.
+ */
+public record ApoliceCancelSelection(List<Integer> ids, Integer produtoId, Integer seguradoraId) {
+
+    public ApoliceCancelSelection normalized() {
+        List<Integer> distinctIds = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (distinctIds.isEmpty() && produtoId == null && seguradoraId == null) {
+            throw new IllegalArgumentException("Informe ids, produtoId ou seguradoraId para o cancelamento em massa.");
+        }
+        return new ApoliceCancelSelection(distinctIds, produtoId, seguradoraId);
+    }
+
+    public boolean byIds() {
+        return ids != null && !ids.isEmpty();
+    }
+}
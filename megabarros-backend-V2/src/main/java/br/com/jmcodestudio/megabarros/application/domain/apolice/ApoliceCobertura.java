@@ -1,4 +1,10 @@
 package br.com.jmcodestudio.megabarros.application.domain.apolice;
 
-public record ApoliceCobertura() {
-}
+import java.math.BigDecimal;
+
+public record ApoliceCobertura(
+        Integer id,
+        ApoliceId apoliceId,
+        Integer idCobertura,
+        BigDecimal valorContratado
+) {}
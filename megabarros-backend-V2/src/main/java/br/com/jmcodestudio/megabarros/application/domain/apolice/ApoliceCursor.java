@@ -0,0 +1,17 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.time.LocalDate;
+
+/**
+ * Posição da última linha entregue em uma página. A próxima página começa
+ * estritamente depois de (vigenciaFim, id) ou de (id), conforme a ordenação.
+ */
+public record ApoliceCursor(ApoliceSort sort, LocalDate vigenciaFim, Integer id) {
+    public static ApoliceCursor of(ApoliceSort sort, Apolice last) {
+        return new ApoliceCursor(sort, sort == ApoliceSort.VIGENCIA_FIM ? last.vigenciaFim() : null, last.id().value());
+    }
+
+    public static ApoliceCursor of(ApoliceSort sort, ApoliceSummary last) {
+        return new ApoliceCursor(sort, sort == ApoliceSort.VIGENCIA_FIM ? last.vigenciaFim() : null, last.idApolice());
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Partes pesadas da apólice carregadas apenas sob demanda nas listagens (?expand=...).
+ */
+public enum ApoliceExpand {
+    PARCELAS,
+    COBERTURAS,
+    BENEFICIARIOS;
+
+    public static Set<ApoliceExpand> all() {
+        return EnumSet.allOf(ApoliceExpand.class);
+    }
+
+    public static Set<ApoliceExpand> none() {
+        return EnumSet.noneOf(ApoliceExpand.class);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.time.LocalDate;
+
+// pendenteMaisAntiga: menor vigencia_fim ainda ATIVA e vencida ao fim da execução (nulo = nada pendente)
+public record ApoliceExpiryResult(long vencidas, int lotes, LocalDate pendenteMaisAntiga) {}
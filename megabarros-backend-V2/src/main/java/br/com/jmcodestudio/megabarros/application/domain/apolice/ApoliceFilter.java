@@ -0,0 +1,56 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+
+import java.time.LocalDate;
+
+/**
+ * Filtro combinado para listagem de apólices. Campos nulos são ignorados.
+ * A faixa de vigência seleciona apólices cuja vigência intersecta [vigenciaDe, vigenciaAte];
+ * a faixa de emissão é inclusiva nas duas pontas. O escopo não vem da requisição: é aplicado
+ * pelo caso de uso conforme o perfil do usuário.
+ */
+public record ApoliceFilter(
+        Integer seguradoraId,
+        Integer produtoId,
+        Integer corretorClienteId,
+        String status,
+        LocalDate vigenciaDe,
+        LocalDate vigenciaAte,
+        LocalDate emissaoDe,
+        LocalDate emissaoAte,
+        DataScope scope
+) {
+    public ApoliceFilter {
+        if (scope == null) scope = DataScope.all();
+    }
+
+    public ApoliceFilter(Integer seguradoraId, Integer produtoId, Integer corretorClienteId, String status,
+                         LocalDate vigenciaDe, LocalDate vigenciaAte, LocalDate emissaoDe, LocalDate emissaoAte) {
+        this(seguradoraId, produtoId, corretorClienteId, status, vigenciaDe, vigenciaAte, emissaoDe, emissaoAte, DataScope.all());
+    }
+
+    public static ApoliceFilter empty() {
+        return new ApoliceFilter(null, null, null, null, null, null, null, null);
+    }
+
+    public ApoliceFilter withScope(DataScope scope) {
+        return new ApoliceFilter(seguradoraId, produtoId, corretorClienteId, status,
+                vigenciaDe, vigenciaAte, emissaoDe, emissaoAte, scope);
+    }
+
+    // Valida as faixas e padroniza o status (maiúsculo, vazio = sem filtro)
+    public ApoliceFilter normalized() {
+        validateRange(vigenciaDe, vigenciaAte, "vigência");
+        validateRange(emissaoDe, emissaoAte, "emissão");
+        String st = status == null || status.isBlank() ? null : status.trim().toUpperCase();
+        return new ApoliceFilter(seguradoraId, produtoId, corretorClienteId, st,
+                vigenciaDe, vigenciaAte, emissaoDe, emissaoAte, scope);
+    }
+
+    private static void validateRange(LocalDate de, LocalDate ate, String campo) {
+        if (de != null && ate != null && ate.isBefore(de)) {
+            throw new IllegalArgumentException("Faixa de " + campo + " inválida: fim anterior ao início.");
+        }
+    }
+}
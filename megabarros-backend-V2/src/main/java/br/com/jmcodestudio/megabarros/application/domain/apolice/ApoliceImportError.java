@@ -0,0 +1,3 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+public record ApoliceImportError(long linha, String numeroApolice, String mensagem) {}
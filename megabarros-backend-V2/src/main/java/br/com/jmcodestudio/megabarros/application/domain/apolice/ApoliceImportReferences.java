@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ids válidos carregados uma única vez por importação (validação em memória, sem consulta por linha).
+ * produtoSeguradora mapeia cada produto à sua seguradora; as chaves são os produtos existentes.
+ */
+public record ApoliceImportReferences(Map<Integer, Integer> produtoSeguradora,
+                                     Set<Integer> seguradoraIds,
+                                     Set<Integer> corretorClienteIds) {}
@@ -0,0 +1,7 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.util.List;
+
+// errosTruncados indica que apenas os primeiros erros foram mantidos na lista
+public record ApoliceImportResult(long total, long importadas, long rejeitadas,
+                                  List<ApoliceImportError> erros, boolean errosTruncados) {}
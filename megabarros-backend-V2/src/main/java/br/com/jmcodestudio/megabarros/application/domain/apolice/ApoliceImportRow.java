@@ -0,0 +1,20 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+/**
+ * Linha lida do arquivo de importação. Quando o parse falha, apolice é nula e erro traz o motivo;
+ * apolice.statusAtual() é o status inicial desejado (nulo = ATIVA).
+ */
+public record ApoliceImportRow(long linha, Apolice apolice, String erro) {
+
+    public static ApoliceImportRow of(long linha, Apolice apolice) {
+        return new ApoliceImportRow(linha, apolice, null);
+    }
+
+    public static ApoliceImportRow invalid(long linha, String erro) {
+        return new ApoliceImportRow(linha, null, erro);
+    }
+
+    public boolean valid() {
+        return erro == null;
+    }
+}
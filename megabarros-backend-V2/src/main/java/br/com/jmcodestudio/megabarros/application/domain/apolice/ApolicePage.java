@@ -0,0 +1,9 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.util.List;
+
+public record ApolicePage<T>(List<T> items, ApoliceCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
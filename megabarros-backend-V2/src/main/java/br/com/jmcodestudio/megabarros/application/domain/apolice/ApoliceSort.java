@@ -0,0 +1,10 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+/**
+ * Ordenações suportadas pela paginação por chave (keyset).
+ * ID: (id_apolice); VIGENCIA_FIM: (vigencia_fim, id_apolice).
+ */
+public enum ApoliceSort {
+    ID,
+    VIGENCIA_FIM
+}
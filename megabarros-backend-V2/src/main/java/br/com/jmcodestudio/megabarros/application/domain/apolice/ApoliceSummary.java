@@ -0,0 +1,23 @@
+package br.com.jmcodestudio.megabarros.application.domain.apolice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Visão achatada de uma apólice (sem parcelas, coberturas e beneficiários),
+ * usada em leituras de alto volume como listagens e exportação.
+ */
+public record ApoliceSummary(
+        Integer idApolice,
+        String numeroApolice,
+        LocalDate dataEmissao,
+        LocalDate vigenciaInicio,
+        LocalDate vigenciaFim,
+        BigDecimal valor,
+        BigDecimal comissaoPercentual,
+        String tipoContrato,
+        Integer idCorretorCliente,
+        Integer idProduto,
+        Integer idSeguradora,
+        String statusAtual
+) {}
@@ -0,0 +1,8 @@
+package br.com.jmcodestudio.megabarros.application.domain.cliente;
+
+// Faixas de relevância da busca, da mais forte para a mais fraca (a ordem do enum é a ordem dos resultados)
+public enum ClienteMatch {
+    DOCUMENTO,  // CPF/CNPJ idêntico
+    PREFIXO,    // nome começa com o termo (ordem alfabética)
+    SEMELHANTE  // nome/e-mail contém o termo ou nome parecido (pg_trgm), em ordem de id
+}
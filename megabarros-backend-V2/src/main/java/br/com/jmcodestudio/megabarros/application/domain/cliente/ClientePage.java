@@ -0,0 +1,10 @@
+package br.com.jmcodestudio.megabarros.application.domain.cliente;
+
+import java.util.List;
+
+// Página de clientes em ordem de id; nextCursor é o id do último item (nulo na última página)
+public record ClientePage(List<Cliente> items, Integer nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
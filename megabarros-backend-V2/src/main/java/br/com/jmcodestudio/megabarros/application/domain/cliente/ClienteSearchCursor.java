@@ -0,0 +1,5 @@
+package br.com.jmcodestudio.megabarros.application.domain.cliente;
+
+// Posição na busca por texto: faixa do último item, chave de ordenação (nome em minúsculas, só em PREFIXO) e id
+public record ClienteSearchCursor(ClienteMatch match, String nome, Integer id) {
+}
@@ -0,0 +1,10 @@
+package br.com.jmcodestudio.megabarros.application.domain.cliente;
+
+import java.util.List;
+
+// Resultado da busca por texto, já na ordem de relevância; itens sem endereços (resumo para autocompletar)
+public record ClienteSearchPage(List<Cliente> items, ClienteSearchCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.jmcodestudio.megabarros.application.domain.comissao;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// Um item por mês do período (inclusive meses sem pagamento), em ordem
+public record ExtratoComissao(Integer corretorId, YearMonth de, YearMonth ate,
+                              List<ExtratoComissaoMes> meses, ExtratoComissaoMes total) {}
@@ -0,0 +1,16 @@
+package br.com.jmcodestudio.megabarros.application.domain.comissao;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+// Linha do extrato detalhado: parcelas pagas de uma apólice dentro de um mês
+public record ExtratoComissaoItem(
+        YearMonth mes,
+        Integer idApolice,
+        String numeroApolice,
+        Integer idCliente,
+        BigDecimal comissaoPercentual,
+        long parcelasPagas,
+        BigDecimal valorPago,
+        BigDecimal comissao
+) {}
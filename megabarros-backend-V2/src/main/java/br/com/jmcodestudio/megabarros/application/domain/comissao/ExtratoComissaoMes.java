@@ -0,0 +1,11 @@
+package br.com.jmcodestudio.megabarros.application.domain.comissao;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+// Totais de um mês de pagamento; no total do extrato 'mes' vem nulo
+public record ExtratoComissaoMes(YearMonth mes, long parcelasPagas, BigDecimal valorPago, BigDecimal comissao) {
+    public static ExtratoComissaoMes vazio(YearMonth mes) {
+        return new ExtratoComissaoMes(mes, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
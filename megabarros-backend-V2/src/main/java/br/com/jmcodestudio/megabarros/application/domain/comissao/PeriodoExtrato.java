@@ -0,0 +1,27 @@
+package br.com.jmcodestudio.megabarros.application.domain.comissao;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+// Intervalo de meses inclusivo; limitado para manter o extrato em uma consulta curta
+public record PeriodoExtrato(YearMonth de, YearMonth ate) {
+
+    public static final int MAX_MESES = 36;
+
+    public PeriodoExtrato {
+        if (de == null) throw new IllegalArgumentException("Informe o mês inicial do extrato.");
+        if (ate == null) ate = de;
+        if (ate.isBefore(de)) throw new IllegalArgumentException("Período inválido: 'ate' anterior a 'de'.");
+        if (meses(de, ate) > MAX_MESES) {
+            throw new IllegalArgumentException("Período do extrato limitado a " + MAX_MESES + " meses.");
+        }
+    }
+
+    public int meses() {
+        return meses(de, ate);
+    }
+
+    private static int meses(YearMonth de, YearMonth ate) {
+        return (int) ChronoUnit.MONTHS.between(de, ate) + 1;
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.jmcodestudio.megabarros.application.domain.dashboard;
+
+import java.util.List;
+
+public record Dashboard(List<DashboardLinha> linhas, DashboardLinha total) {}
@@ -0,0 +1,6 @@
+package br.com.jmcodestudio.megabarros.application.domain.dashboard;
+
+// Eixos de agrupamento do resumo; os não escolhidos são somados
+public enum DashboardDimensao {
+    MES, SEGURADORA, PRODUTO, CORRETOR
+}
@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.application.domain.dashboard;
+
+import java.time.YearMonth;
+
+// Período por mês de emissão (inclusivo nas duas pontas); campos nulos não filtram
+public record DashboardFiltro(YearMonth de, YearMonth ate, Integer seguradoraId, Integer produtoId, Integer corretorId) {
+    public DashboardFiltro {
+        if (de != null && ate != null && ate.isBefore(de)) {
+            throw new IllegalArgumentException("Período inválido: 'ate' anterior a 'de'.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jmcodestudio.megabarros.application.domain.dashboard;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+// Um grupo do resumo; dimensões fora do agrupamento vêm nulas
+public record DashboardLinha(
+        YearMonth mes,
+        Integer idSeguradora,
+        Integer idProduto,
+        Integer idCorretor,
+        long quantidade,
+        BigDecimal valorTotal,
+        BigDecimal comissaoTotal
+) {}
@@ -0,0 +1,55 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regra de geração das parcelas de uma apólice: divide o valor em parcelas iguais (centavos truncados)
+ * e aplica a sobra na primeira ou na última, conforme o arredondamento.
+ */
+public record CronogramaParcelas(
+        int quantidade,
+        LocalDate primeiroVencimento,
+        Periodicidade periodicidade,
+        RegraArredondamento arredondamento
+) {
+    public static final int MAX_PARCELAS = 120;
+
+    public CronogramaParcelas {
+        if (quantidade < 1 || quantidade > MAX_PARCELAS) {
+            throw new IllegalArgumentException("Quantidade de parcelas deve estar entre 1 e " + MAX_PARCELAS + ".");
+        }
+        if (primeiroVencimento == null) {
+            throw new IllegalArgumentException("Primeiro vencimento é obrigatório.");
+        }
+        if (periodicidade == null) periodicidade = Periodicidade.MENSAL;
+        if (arredondamento == null) arredondamento = RegraArredondamento.ULTIMA;
+    }
+
+    public List<Parcela> gerar(ApoliceId apoliceId, BigDecimal valorTotal, String statusPagamento) {
+        if (valorTotal == null || valorTotal.signum() <= 0) {
+            throw new IllegalArgumentException("Valor da apólice deve ser positivo para gerar parcelas.");
+        }
+        BigDecimal total = valorTotal.setScale(2, RoundingMode.HALF_EVEN);
+        BigDecimal base = total.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.DOWN);
+        if (base.signum() == 0) {
+            throw new IllegalArgumentException("Valor da apólice não cobre um centavo por parcela; reduza a quantidade de parcelas.");
+        }
+        BigDecimal sobra = total.subtract(base.multiply(BigDecimal.valueOf(quantidade)));
+        int ajustada = arredondamento == RegraArredondamento.PRIMEIRA ? 0 : quantidade - 1;
+
+        List<Parcela> parcelas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            // Sempre a partir do primeiro vencimento, para não acumular ajuste de fim de mês (31/01 -> 28/02 -> 31/03)
+            LocalDate vencimento = primeiroVencimento.plusMonths((long) i * periodicidade.meses());
+            BigDecimal valor = i == ajustada ? base.add(sobra) : base;
+            parcelas.add(new Parcela(null, apoliceId, i + 1, vencimento, valor, statusPagamento, null));
+        }
+        return parcelas;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Parcela vencida e não paga, com o número da apólice para a cobrança
+public record ParcelaAtrasada(
+        Integer idParcela,
+        Integer idApolice,
+        String numeroApolice,
+        Integer numeroParcela,
+        LocalDate dataVencimento,
+        BigDecimal valorParcela,
+        String statusPagamento
+) {}
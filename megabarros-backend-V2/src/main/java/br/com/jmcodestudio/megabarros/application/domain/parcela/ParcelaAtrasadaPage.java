@@ -0,0 +1,5 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+import java.util.List;
+
+public record ParcelaAtrasadaPage(List<ParcelaAtrasada> items, ParcelaCursor nextCursor) {}
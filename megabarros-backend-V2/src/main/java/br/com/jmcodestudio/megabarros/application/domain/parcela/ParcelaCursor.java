@@ -0,0 +1,10 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+import java.time.LocalDate;
+
+// Posição da última parcela entregue; a próxima página começa depois de (dataVencimento, id)
+public record ParcelaCursor(LocalDate dataVencimento, Integer id) {
+    public static ParcelaCursor of(ParcelaAtrasada last) {
+        return new ParcelaCursor(last.dataVencimento(), last.idParcela());
+    }
+}
@@ -0,0 +1,3 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+public record ParcelaOverdueResult(long atrasadas, int lotes) {}
@@ -0,0 +1,19 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+public enum Periodicidade {
+    MENSAL(1),
+    BIMESTRAL(2),
+    TRIMESTRAL(3),
+    SEMESTRAL(6),
+    ANUAL(12);
+
+    private final int meses;
+
+    Periodicidade(int meses) {
+        this.meses = meses;
+    }
+
+    public int meses() {
+        return meses;
+    }
+}
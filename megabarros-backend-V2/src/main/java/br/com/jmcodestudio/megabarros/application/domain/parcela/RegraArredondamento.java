@@ -0,0 +1,7 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+// Onde fica a diferença de centavos quando o valor não divide exatamente pela quantidade de parcelas
+public enum RegraArredondamento {
+    PRIMEIRA,
+    ULTIMA
+}
@@ -0,0 +1,38 @@
+package br.com.jmcodestudio.megabarros.application.domain.scope;
+
+import java.util.List;
+
+/**
+ * Escopo de dados do usuário atual, aplicado como predicado dentro das consultas.
+ * ADMIN/USUARIO enxergam tudo; CORRETOR enxerga apenas os clientes vinculados (corretor_cliente)
+ * e o que pertence a eles. Corretor restrito sem id (usuário sem cadastro de corretor) não enxerga nada.
+ * <p>
+ * {@code corretorClienteIds} traz os vínculos já resolvidos: com a lista literal o planner estima
+ * cada vínculo pelas estatísticas da coluna e escolhe o índice por id_corretor_cliente. Nulo quando a
+ * carteira é grande demais para ir inline; nesse caso as consultas usam subconsulta por corretor.
+ */
+public record DataScope(boolean restricted, Integer corretorId, List<Integer> corretorClienteIds) {
+
+    private static final DataScope ALL = new DataScope(false, null, null);
+
+    public DataScope {
+        if (corretorClienteIds != null) corretorClienteIds = List.copyOf(corretorClienteIds);
+    }
+
+    public static DataScope all() {
+        return ALL;
+    }
+
+    public static DataScope corretor(Integer corretorId, List<Integer> corretorClienteIds) {
+        return new DataScope(true, corretorId, corretorClienteIds);
+    }
+
+    // Restrito e sem corretor (ou sem vínculos): nenhuma linha visível, as consultas podem ser evitadas
+    public boolean isEmpty() {
+        return restricted && (corretorId == null || (corretorClienteIds != null && corretorClienteIds.isEmpty()));
+    }
+
+    public boolean hasInlineIds() {
+        return corretorClienteIds != null;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jmcodestudio.megabarros.application.port.in.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApolicePage;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+
+public interface ApolicePortfolioUseCase {
+    /**
+     * Carteira do corretor: apólices de todos os clientes vinculados, em uma única consulta paginada por chave.
+     * Para CORRETOR o id é resolvido a partir do usuário atual ({@code corretorId} pode ser omitido);
+     * ADMIN e USUARIO devem informá-lo. {@code status} filtra pelo status atual.
+     */
+    ApolicePage<ApoliceSummary> portfolio(Integer corretorId, String status, ApoliceSort sort, ApoliceCursor after, int limit);
+}
@@ -4,9 +4,14 @@ import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
 import br.com.jmcodestudio.megabarros.application.domain.apolice.Beneficiario;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BeneficiarioUseCase {
     Beneficiario addBeneficiario(Beneficiario b);
+    // Inclui os beneficiários na apólice numa única transação; vazio se a apólice não existir
+    Optional<List<Beneficiario>> addBeneficiarios(ApoliceId id, List<Beneficiario> beneficiarios);
     List<Beneficiario> listBeneficiarios(ApoliceId id);
     void deleteBeneficiario(Integer id);
+    // Remove os beneficiários informados da apólice; devolve quantos foram removidos
+    int removeBeneficiarios(ApoliceId id, List<Integer> ids);
 }
@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.application.port.in.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceBulkCancelResult;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCancelSelection;
+
+public interface BulkCancelApolicesUseCase {
+    /**
+     * Cancela em lotes todas as apólices da seleção que ainda não estão canceladas.
+     * Cada lote é confirmado em sua própria transação e gera um único registro de auditoria.
+     */
+    ApoliceBulkCancelResult cancelBulk(ApoliceCancelSelection selection, String reason);
+}
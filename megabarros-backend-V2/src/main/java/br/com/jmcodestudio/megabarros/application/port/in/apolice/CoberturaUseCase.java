@@ -4,9 +4,14 @@ import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCobertur
 import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CoberturaUseCase {
     ApoliceCobertura addCobertura(ApoliceCobertura c);
+    // Inclui as coberturas na apólice numa única transação; vazio se a apólice não existir
+    Optional<List<ApoliceCobertura>> addCoberturas(ApoliceId id, List<ApoliceCobertura> coberturas);
     List<ApoliceCobertura> listCoberturas(ApoliceId id);
     void deleteCobertura(Integer id);
+    // Remove as coberturas informadas da apólice; devolve quantas foram removidas
+    int removeCoberturas(ApoliceId id, List<Integer> ids);
 }
@@ -0,0 +1,13 @@
+package br.com.jmcodestudio.megabarros.application.port.in.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceExpiryResult;
+
+import java.time.LocalDate;
+
+public interface ExpireApolicesUseCase {
+    /**
+     * Passa para VENCIDA, em lotes, as apólices ATIVA com vigência encerrada antes de {@code hoje}.
+     * Cada lote é confirmado em sua própria transação; a execução tem número máximo de lotes.
+     */
+    ApoliceExpiryResult expireDue(LocalDate hoje);
+}
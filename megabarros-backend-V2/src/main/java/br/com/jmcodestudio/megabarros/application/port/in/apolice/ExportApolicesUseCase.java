@@ -0,0 +1,14 @@
+package br.com.jmcodestudio.megabarros.application.port.in.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+
+import java.util.function.Consumer;
+
+public interface ExportApolicesUseCase {
+    /**
+     * Entrega cada apólice ao sink à medida que é lida do banco (ordem por id).
+     * Retorna a quantidade de linhas exportadas.
+     */
+    long export(ApoliceFilter filter, Consumer<ApoliceSummary> sink);
+}
@@ -0,0 +1,14 @@
+package br.com.jmcodestudio.megabarros.application.port.in.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportResult;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportRow;
+
+import java.util.Iterator;
+
+public interface ImportApolicesUseCase {
+    /**
+     * Consome as linhas à medida que são lidas e grava em lotes, cada lote em sua própria transação.
+     * Linhas inválidas são rejeitadas individualmente sem interromper a importação.
+     */
+    ApoliceImportResult importAll(Iterator<ApoliceImportRow> rows);
+}
@@ -1,15 +1,19 @@
 package br.com.jmcodestudio.megabarros.application.port.in.apolice;
 
-import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
-import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ListApolicesUseCase {
-    List<Apolice> listAll();
-    List<Apolice> listBySeguradora(Integer seguradoraId);
-    List<Apolice> listByProduto(Integer produtoId);
-    List<Apolice> listByCorretorCliente(Integer corretorClienteId);
+    // Toda leitura aplica o escopo do usuário atual; não há listagem sem escopo
     Optional<Apolice> getById(ApoliceId id);
+
+    // Filtros combinados; 'expand' define as partes pesadas carregadas (parcelas, coberturas, beneficiários)
+    List<Apolice> list(ApoliceFilter filter, Set<ApoliceExpand> expand);
+    List<ApoliceSummary> listSummaries(ApoliceFilter filter);
+    // Paginação por chave: 'after' nulo inicia na primeira página
+    ApolicePage<Apolice> search(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit, Set<ApoliceExpand> expand);
+    ApolicePage<ApoliceSummary> searchSummaries(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit);
 }
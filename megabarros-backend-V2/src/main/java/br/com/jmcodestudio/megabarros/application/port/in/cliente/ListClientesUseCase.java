@@ -1,6 +1,9 @@
 package br.com.jmcodestudio.megabarros.application.port.in.cliente;
 
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClientePage;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +12,8 @@ public interface ListClientesUseCase {
     List<Cliente> listAll();
     List<Cliente> listMine(); // para corretor listar apenas seus clientes
     Optional<Cliente> getById(Integer id);
+    // Paginação por chave no escopo do usuário (CORRETOR: só vinculados); 'afterId' nulo inicia na primeira página
+    ClientePage search(Integer afterId, int limit);
+    // Busca por texto no mesmo escopo: CPF/CNPJ exato ou nome/e-mail (mínimo de 3 caracteres), por relevância
+    ClienteSearchPage search(String termo, ClienteSearchCursor after, int limit);
 }
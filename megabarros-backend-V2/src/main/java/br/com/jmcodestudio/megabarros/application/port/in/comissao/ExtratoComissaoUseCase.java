@@ -0,0 +1,22 @@
+package br.com.jmcodestudio.megabarros.application.port.in.comissao;
+
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissao;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.PeriodoExtrato;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface ExtratoComissaoUseCase {
+    // false se o corretor não existe; AccessDeniedException se um CORRETOR pede o extrato de outro
+    boolean checkAccess(Integer corretorId);
+
+    /**
+     * Totais mensais de comissão do corretor sobre parcelas pagas no período.
+     * Meses encerrados vêm do cache (gravado na primeira consulta); o mês corrente é sempre recalculado.
+     */
+    Optional<ExtratoComissao> extrato(Integer corretorId, PeriodoExtrato periodo);
+
+    // Entrega as linhas (mês, apólice) ao sink à medida que são lidas; retorna a quantidade (chame checkAccess antes)
+    long streamItens(Integer corretorId, PeriodoExtrato periodo, Consumer<ExtratoComissaoItem> sink);
+}
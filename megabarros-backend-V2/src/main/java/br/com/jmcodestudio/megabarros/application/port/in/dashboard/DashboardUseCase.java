@@ -0,0 +1,15 @@
+package br.com.jmcodestudio.megabarros.application.port.in.dashboard;
+
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.Dashboard;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+
+import java.util.Set;
+
+public interface DashboardUseCase {
+    // Lido direto do resumo mensal: custo proporcional ao número de grupos, não de apólices
+    Dashboard load(DashboardFiltro filtro, Set<DashboardDimensao> agrupamento);
+
+    // Recalcula o resumo a partir das apólices; retorna quantos grupos estavam divergentes
+    int rebuildResumo();
+}
@@ -0,0 +1,19 @@
+package br.com.jmcodestudio.megabarros.application.port.in.parcela;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasadaPage;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaCursor;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaOverdueResult;
+
+import java.time.LocalDate;
+
+public interface OverdueParcelasUseCase {
+    // Parcelas não pagas com vencimento anterior a 'hoje', da mais antiga para a mais recente; 'after' nulo inicia na primeira página.
+    // CORRETOR vê apenas parcelas das apólices dos próprios clientes
+    ParcelaAtrasadaPage listOverdue(LocalDate hoje, ParcelaCursor after, int limit);
+
+    /**
+     * Marca como ATRASADA, em lotes, as parcelas não pagas vencidas antes de {@code hoje}.
+     * Cada lote é confirmado em sua própria transação; a execução tem número máximo de lotes.
+     */
+    ParcelaOverdueResult markOverdue(LocalDate hoje);
+}
@@ -1,6 +1,7 @@
 package br.com.jmcodestudio.megabarros.application.port.in.parcela;
 
 import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.CronogramaParcelas;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
 
 import java.util.List;
@@ -8,6 +9,8 @@ import java.util.Optional;
 
 public interface ParcelaUseCase {
     Parcela addParcela(Parcela p);
+    // Gera todas as parcelas a partir do valor da apólice e grava em um único batch; vazio se a apólice não existir
+    Optional<List<Parcela>> generateSchedule(ApoliceId id, CronogramaParcelas cronograma);
     List<Parcela> listParcelas(ApoliceId id);
     Optional<Parcela> markPaid(Integer parcelaId);
     void deleteParcela(Integer parcelaId);
@@ -17,4 +17,5 @@ public interface CurrentUserPort {
     String email();
     String role(); // ADMIN, CORRETOR, USUARIO (sem prefixo ROLE_)
     String username();
+    Integer corretorId(); // claim do token (CORRETOR); nulo nos demais perfis ou em tokens sem o claim
 }
\ No newline at end of file
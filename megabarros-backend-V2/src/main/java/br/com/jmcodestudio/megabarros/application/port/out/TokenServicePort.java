@@ -10,11 +10,18 @@ import java.util.Map;
  * Por que: desacopla casos de uso da lib JWT.
  */
 public interface TokenServicePort {
+    // Claim opcional do access token de CORRETOR: id do corretor resolvido no login/refresh
+    String CLAIM_CORRETOR_ID = "corretorId";
+
     String generateAccessToken(Long userId, String email, String role, Map<String, Object> extraClaims, Instant now);
     GeneratedRefresh generateRefreshToken(Long userId, Instant now);
     Claims parseAndValidateAccess(String token);
     Claims parseAndValidateRefresh(String token);
 
     record GeneratedRefresh(String token, String jti, Instant expiresAt) {}
-    record Claims(Long userId, String email, String role, String jti, Instant expiresAt) {}
+    record Claims(Long userId, String email, String role, String jti, Instant expiresAt, Integer corretorId) {
+        public Claims(Long userId, String email, String role, String jti, Instant expiresAt) {
+            this(userId, email, role, jti, expiresAt, null);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCancelSelection;
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApoliceBulkCancelPort {
+
+    // Próximos ids (ordem crescente, id > afterId) da seleção cujo status atual não é CANCELADA
+    List<Integer> findCancellableIds(ApoliceCancelSelection selection, int afterId, int limit);
+
+    /**
+     * Fecha os status abertos e insere CANCELADA para os ids e grava o registro de auditoria do lote
+     * (metadata acrescida de "count"), tudo em uma transação.
+     * Retorna quantas apólices foram efetivamente canceladas.
+     */
+    int cancelChunk(List<Integer> ids, LocalDateTime at, AuditLogPort.Entry audit);
+}
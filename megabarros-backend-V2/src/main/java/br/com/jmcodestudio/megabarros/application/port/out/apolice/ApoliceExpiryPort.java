@@ -0,0 +1,17 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ApoliceExpiryPort {
+
+    /**
+     * Trava (SKIP LOCKED) até {@code limit} apólices ATIVA com vigencia_fim anterior a {@code hoje},
+     * fecha o status aberto e insere VENCIDA, em uma transação. Retorna quantas foram vencidas.
+     */
+    int expireChunk(LocalDate hoje, int limit, LocalDateTime at);
+
+    // Menor vigencia_fim entre as apólices ainda ATIVA e já vencidas
+    Optional<LocalDate> oldestPending(LocalDate hoje);
+}
@@ -0,0 +1,11 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+
+import java.util.function.Consumer;
+
+public interface ApoliceExportPort {
+    // Leitura forward-only: nenhuma linha é retida após ser entregue ao sink
+    long streamAll(ApoliceFilter filter, Consumer<ApoliceSummary> sink);
+}
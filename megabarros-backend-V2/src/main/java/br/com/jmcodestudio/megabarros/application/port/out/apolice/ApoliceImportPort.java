@@ -0,0 +1,22 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportReferences;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface ApoliceImportPort {
+
+    ApoliceImportReferences loadReferences();
+
+    // Números que já existem no banco dentre os informados
+    Set<String> findExistingNumeros(Collection<String> numeros);
+
+    /**
+     * Grava o lote (apólice, status inicial e parcelas) em uma transação com inserts em batch.
+     * Lança IllegalStateException se alguma constraint for violada; nesse caso nada do lote é gravado.
+     */
+    void insertChunk(List<Apolice> apolices);
+}
@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApolicePage;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+
+public interface ApolicePortfolioPort {
+
+    // Página das apólices dos clientes do corretor (status nulo = todos), na ordem de 'sort', depois de 'after'
+    ApolicePage<ApoliceSummary> findPortfolio(Integer corretorId, String status, ApoliceSort sort, ApoliceCursor after, int limit);
+}
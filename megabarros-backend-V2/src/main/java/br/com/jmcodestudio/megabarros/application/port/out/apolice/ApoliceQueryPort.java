@@ -9,6 +9,8 @@ import java.util.Map;
 public interface ApoliceQueryPort {
     boolean existsBySeguradoraId(SeguradoraId seguradoraId);
     boolean existsByProdutoId(ProdutoId produtoId);
+    // Trava de exclusão da seguradora: apólice na própria seguradora ou em qualquer produto dela
+    boolean existsBySeguradoraOrProdutos(SeguradoraId seguradoraId);
 
     long countBySeguradoraId(SeguradoraId seguradoraId);
     long countByProdutoId(ProdutoId produtoId);
@@ -2,37 +2,61 @@ package br.com.jmcodestudio.megabarros.application.port.out.apolice;
 
 import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ApoliceRepositoryPort {
     Apolice save(Apolice apolice);
+    // Insere a apólice e seu status inicial num único flush; número duplicado -> IllegalStateException
+    Apolice create(Apolice apolice, ApoliceStatus statusInicial);
     Optional<Apolice> findById(ApoliceId id);
+    // Apólice fora do escopo é tratada como inexistente (uma consulta, sem checagem posterior)
+    Optional<Apolice> findById(ApoliceId id, DataScope scope);
     List<Apolice> findAll();
     List<Apolice> findBySeguradoraId(Integer seguradoraId);
     List<Apolice> findByProdutoId(Integer produtoId);
     List<Apolice> findByCorretorClienteId(Integer corretorClienteId);
+    List<Apolice> findAll(ApoliceFilter filter, Set<ApoliceExpand> expand);
+    ApolicePage<Apolice> search(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit, Set<ApoliceExpand> expand);
+    // Projeções leves (sem parcelas/coberturas/beneficiários)
+    List<ApoliceSummary> findSummaries(ApoliceFilter filter);
+    ApolicePage<ApoliceSummary> searchSummaries(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit);
+    boolean existsById(ApoliceId id);
     boolean existsByNumero(String numero);
     void deleteById(ApoliceId id);
 
     // Status
     ApoliceStatus addStatus(ApoliceStatus status);
     Optional<ApoliceStatus> findCurrentStatus(ApoliceId id);
+    // Trava a linha da apólice (FOR UPDATE) até o fim da transação; false se não existe
+    boolean lockById(ApoliceId id);
+    // Trava a linha da apólice (mesma ordem de locks dos jobs: apolice antes de apolice_status) e lê o status aberto
+    Optional<ApoliceStatus> lockCurrentStatus(ApoliceId id);
 
     // Parcela
     Parcela saveParcela(Parcela parcela);
+    List<Parcela> saveParcelas(List<Parcela> parcelas);
     List<Parcela> listParcelas(ApoliceId id);
     Optional<Parcela> findParcelaById(Integer id);
     void deleteParcelaById(Integer id);
 
     // Cobertura
     ApoliceCobertura saveCobertura(ApoliceCobertura cobertura);
+    // Inserção em lote; cobertura repetida na apólice -> IllegalStateException, inexistente -> IllegalArgumentException
+    List<ApoliceCobertura> saveCoberturas(List<ApoliceCobertura> coberturas);
     List<ApoliceCobertura> listCoberturas(ApoliceId id);
     void deleteCoberturaById(Integer id);
+    // Remove numa instrução as coberturas da apólice com esses ids; devolve quantas saíram
+    int deleteCoberturas(ApoliceId id, Collection<Integer> ids);
 
     // Beneficiário
     Beneficiario saveBeneficiario(Beneficiario beneficiario);
+    List<Beneficiario> saveBeneficiarios(List<Beneficiario> beneficiarios);
     List<Beneficiario> listBeneficiarios(ApoliceId id);
     void deleteBeneficiarioById(Integer id);
+    int deleteBeneficiarios(ApoliceId id, Collection<Integer> ids);
 }
@@ -0,0 +1,17 @@
+package br.com.jmcodestudio.megabarros.application.port.out.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasadaPage;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaCursor;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+
+import java.time.LocalDate;
+
+public interface ParcelaOverduePort {
+
+    // Página de parcelas não pagas vencidas antes de 'hoje', ordenadas por (dataVencimento, id), depois de 'after';
+    // com escopo restrito, só parcelas de apólices dos clientes do corretor
+    ParcelaAtrasadaPage findOverdue(LocalDate hoje, DataScope scope, ParcelaCursor after, int limit);
+
+    // Marca como ATRASADA até 'limit' parcelas vencidas ainda não marcadas, em uma transação; retorna quantas
+    int markOverdueChunk(LocalDate hoje, int limit);
+}
@@ -2,6 +2,8 @@ package br.com.jmcodestudio.megabarros.application.port.out.cliente;
 
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClientePage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,8 +11,12 @@ import java.util.Optional;
 public interface ClienteRepositoryPort {
     Cliente save(Cliente cliente);
     Optional<Cliente> findById(ClienteId id);
+    // Cliente fora do escopo é tratado como inexistente
+    Optional<Cliente> findById(ClienteId id, DataScope scope);
     Optional<Cliente> findByCpfCnpj(String cpfCnpj);
     List<Cliente> findAll();
     List<Cliente> findByCorretorId(Integer corretorId);
+    // Página por chave (id > afterId) dentro do escopo; para corretor, junção a partir de corretor_cliente
+    ClientePage findPage(DataScope scope, Integer afterId, int limit);
     void deactivate(ClienteId id);
 }
@@ -0,0 +1,12 @@
+package br.com.jmcodestudio.megabarros.application.port.out.cliente;
+
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchPage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+
+public interface ClienteSearchPort {
+    // CPF/CNPJ exato (somente dígitos ou formatado); no máximo um resultado
+    ClienteSearchPage findByDocumento(String digitos, String informado, DataScope scope);
+    // 'termo' já em minúsculas; faixas PREFIXO e depois SEMELHANTE, a partir de 'after'
+    ClienteSearchPage searchText(String termo, DataScope scope, ClienteSearchCursor after, int limit);
+}
@@ -0,0 +1,22 @@
+package br.com.jmcodestudio.megabarros.application.port.out.comissao;
+
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ExtratoComissaoPort {
+
+    // Totais agregados no banco; meses sem pagamento não aparecem
+    List<ExtratoComissaoMes> computeMonths(Integer corretorId, YearMonth de, YearMonth ate);
+
+    List<ExtratoComissaoMes> findCachedMonths(Integer corretorId, YearMonth de, YearMonth ate);
+
+    // Recalcula e grava meses encerrados; meses já presentes são mantidos
+    void cacheMonths(Integer corretorId, List<YearMonth> meses);
+
+    // Leitura forward-only, ordenada por (mês, apólice)
+    long streamItens(Integer corretorId, YearMonth de, YearMonth ate, Consumer<ExtratoComissaoItem> sink);
+}
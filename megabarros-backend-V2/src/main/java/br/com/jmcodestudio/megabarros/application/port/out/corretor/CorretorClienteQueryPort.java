@@ -1,5 +1,9 @@
 package br.com.jmcodestudio.megabarros.application.port.out.corretor;
 
+import java.util.List;
+
 public interface CorretorClienteQueryPort {
     boolean existsByCorretorIdAndClienteId(Integer corretorId, Integer clienteId);
+    // Ids de corretor_cliente do corretor, no máximo 'limit'
+    List<Integer> findIdsByCorretorId(Integer corretorId, int limit);
 }
@@ -3,4 +3,10 @@ package br.com.jmcodestudio.megabarros.application.port.out.corretor;
 public interface CorretorQueryPort {
     Integer findCorretorIdByUsuarioId(Long usuarioId);
     Integer findCorretorIdByUsuarioEmail(String email);
+
+    // Pelo vínculo usuario → corretor; usuários antigos sem vínculo caem na busca por e-mail
+    default Integer findCorretorIdByUsuario(Long usuarioId, String email) {
+        Integer corretorId = usuarioId != null ? findCorretorIdByUsuarioId(usuarioId) : null;
+        return corretorId != null ? corretorId : findCorretorIdByUsuarioEmail(email);
+    }
 }
\ No newline at end of file
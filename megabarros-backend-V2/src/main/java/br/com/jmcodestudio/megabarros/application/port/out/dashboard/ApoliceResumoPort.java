@@ -0,0 +1,17 @@
+package br.com.jmcodestudio.megabarros.application.port.out.dashboard;
+
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardLinha;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ApoliceResumoPort {
+
+    // Soma do resumo mensal agrupada pelas dimensões pedidas, ordenada por elas
+    List<DashboardLinha> aggregate(DashboardFiltro filtro, Set<DashboardDimensao> agrupamento);
+
+    // Reconciliação completa em uma transação; retorna grupos inseridos, corrigidos ou removidos
+    int rebuild();
+}
@@ -9,7 +9,9 @@ import java.util.Optional;
 
 public interface ProdutoRepositoryPort {
     Produto save(Produto produto);
+    List<Produto> saveAll(List<Produto> produtos);
     List<Produto> findBySeguradoraId(SeguradoraId seguradoraId);
     Optional<Produto> findById(ProdutoId id);
     void deleteById(ProdutoId id);
+    int deleteBySeguradoraId(SeguradoraId seguradoraId);
 }
@@ -0,0 +1,20 @@
+package br.com.jmcodestudio.megabarros.application.port.out.seguradora;
+
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Catálogo de seguradoras com seus produtos (somente leitura, pode vir de memória).
+ * Quem altera seguradora ou produto chama invalidate(); o descarte vale após o commit.
+ */
+public interface SeguradoraCatalogPort {
+    List<Seguradora> findAll();
+    void invalidate();
+
+    // Muda a cada alteração do catálogo ou das contagens de apólices por seguradora/produto
+    // (contagens percebidas com atraso de até um intervalo de checagem).
+    // Vazio quando não há como saber sem consultar o banco (cache desligado ou sem aviso de alterações).
+    OptionalLong version();
+}
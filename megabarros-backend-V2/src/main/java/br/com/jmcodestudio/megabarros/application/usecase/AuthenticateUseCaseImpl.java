@@ -2,11 +2,13 @@ package br.com.jmcodestudio.megabarros.application.usecase;
 
 import br.com.jmcodestudio.megabarros.application.port.in.AuthenticateUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.*;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.InvalidCredentialsException;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.TooManyAttemptsException;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -47,6 +49,7 @@ public class AuthenticateUseCaseImpl implements AuthenticateUseCase {
     private final AuditLogPort audit;
     private final RequestMetadataPort req;
     private final LoginRateLimiterPort limiter;
+    private final CorretorQueryPort corretorQuery;
 
     public AuthenticateUseCaseImpl(UsuarioRepositoryPort usuarios,
                                    PasswordHasherPort hasher,
@@ -54,7 +57,8 @@ public class AuthenticateUseCaseImpl implements AuthenticateUseCase {
                                    RefreshTokenStorePort refreshStore,
                                    AuditLogPort audit,
                                    RequestMetadataPort req,
-                                   LoginRateLimiterPort limiter) {
+                                   LoginRateLimiterPort limiter,
+                                   CorretorQueryPort corretorQuery) {
         this.usuarios = usuarios;
         this.hasher = hasher;
         this.tokens = tokens;
@@ -62,6 +66,7 @@ public class AuthenticateUseCaseImpl implements AuthenticateUseCase {
         this.audit = audit;
         this.req = req;
         this.limiter = limiter;
+        this.corretorQuery = corretorQuery;
     }
 
     @Override
@@ -81,7 +86,7 @@ public class AuthenticateUseCaseImpl implements AuthenticateUseCase {
                 throw new InvalidCredentialsException();
             }
 
-            var access = tokens.generateAccessToken(user.id(), user.email(), user.perfil(), Map.of("iss", "megabarros-v2"), now);
+            var access = tokens.generateAccessToken(user.id(), user.email(), user.perfil(), accessClaims(user, corretorQuery), now);
             var refresh = tokens.generateRefreshToken(user.id(), now);
 
             var hash = HashUtils.sha256(refresh.token());
@@ -103,6 +108,18 @@ public class AuthenticateUseCaseImpl implements AuthenticateUseCase {
         }
     }
 
+    // Claims extras do access token. CORRETOR leva o próprio id, resolvido uma vez por login/refresh,
+    // para que as requisições não precisem consultar o banco só para identificá-lo
+    static Map<String, Object> accessClaims(UsuarioRepositoryPort.UsuarioRecord user, CorretorQueryPort corretorQuery) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("iss", "megabarros-v2");
+        if ("CORRETOR".equalsIgnoreCase(user.perfil())) {
+            Integer corretorId = corretorQuery.findCorretorIdByUsuario(user.id(), user.email());
+            if (corretorId != null) claims.put(TokenServicePort.CLAIM_CORRETOR_ID, corretorId);
+        }
+        return claims;
+    }
+
     static class HashUtils {
         static String sha256(String input) {
             try {
@@ -0,0 +1,16 @@
+package br.com.jmcodestudio.megabarros.application.usecase;
+
+// Tamanho de página das listagens por cursor (apólices, parcelas, carteira, clientes)
+public final class PageSizes {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private PageSizes() {
+    }
+
+    // limit <= 0 usa o padrão; acima do máximo é reduzido ao máximo
+    public static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
@@ -3,6 +3,7 @@ package br.com.jmcodestudio.megabarros.application.usecase;
 import br.com.jmcodestudio.megabarros.application.port.in.AuthenticateUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.RefreshTokenUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.*;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.TokenInvalidException;
 import org.springframework.stereotype.Service;
 
@@ -24,17 +25,20 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     private final UsuarioRepositoryPort usuarios;
     private final AuditLogPort audit;
     private final RequestMetadataPort req;
+    private final CorretorQueryPort corretorQuery;
 
     public RefreshTokenUseCaseImpl(TokenServicePort tokens,
                                    RefreshTokenStorePort refreshStore,
                                    UsuarioRepositoryPort usuarios,
                                    AuditLogPort audit,
-                                   RequestMetadataPort req) {
+                                   RequestMetadataPort req,
+                                   CorretorQueryPort corretorQuery) {
         this.tokens = tokens;
         this.refreshStore = refreshStore;
         this.usuarios = usuarios;
         this.audit = audit;
         this.req = req;
+        this.corretorQuery = corretorQuery;
     }
 
     @Override
@@ -55,7 +59,8 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
             refreshStore.rotate(hash, newHash, newRefresh.jti(), now, newRefresh.expiresAt());
 
             var user = usuarios.findById(stored.userId()).orElseThrow(TokenInvalidException::new);
-            var access = tokens.generateAccessToken(user.id(), user.email(), user.perfil(), Map.of("iss", "megabarros-v2"), now);
+            var access = tokens.generateAccessToken(user.id(), user.email(), user.perfil(),
+                    AuthenticateUseCaseImpl.accessClaims(user, corretorQuery), now);
 
             audit.record(new AuditLogPort.Entry(
                     now, user.id(), "REFRESH_SUCCESS", user.email(), req.ip(), req.userAgent(), Map.of()
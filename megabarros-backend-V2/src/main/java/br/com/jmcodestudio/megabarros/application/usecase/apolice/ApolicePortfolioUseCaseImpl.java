@@ -0,0 +1,65 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApolicePage;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ApolicePortfolioUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApolicePortfolioPort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Carteira de apólices por corretor. O corretor do usuário atual vem do token
+ * (DataScopeResolver); a página vem de uma única consulta (sem uma chamada por cliente vinculado).
+ */
+@Service
+public class ApolicePortfolioUseCaseImpl implements ApolicePortfolioUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ApolicePortfolioUseCaseImpl.class);
+
+    private final ApolicePortfolioPort portfolioPort;
+    private final DataScopeResolver scopeResolver;
+    private final CurrentUserPort currentUser;
+
+    public ApolicePortfolioUseCaseImpl(ApolicePortfolioPort portfolioPort,
+                                       DataScopeResolver scopeResolver,
+                                       CurrentUserPort currentUser) {
+        this.portfolioPort = portfolioPort;
+        this.scopeResolver = scopeResolver;
+        this.currentUser = currentUser;
+    }
+
+    @Override
+    public ApolicePage<ApoliceSummary> portfolio(Integer corretorId, String status, ApoliceSort sort, ApoliceCursor after, int limit) {
+        Integer alvo = resolveCorretor(corretorId);
+        ApoliceSort effectiveSort = ApoliceUseCasesImpl.effectiveSort(sort, after);
+        String st = status == null || status.isBlank() ? null : status.trim().toUpperCase();
+        log.info("apolice.portfolio start actor={} corretorId={} status={}", currentUser.username(), alvo, st);
+        return portfolioPort.findPortfolio(alvo, st, effectiveSort, after, PageSizes.pageSize(limit));
+    }
+
+    // CORRETOR só enxerga a própria carteira; demais perfis escolhem o corretor
+    private Integer resolveCorretor(Integer corretorId) {
+        String role = currentUser.role();
+        if (role != null && role.equalsIgnoreCase("CORRETOR")) {
+            Integer proprio = scopeResolver.corretorId();
+            if (proprio == null || (corretorId != null && !Objects.equals(proprio, corretorId))) {
+                log.warn("apolice.portfolio permission denied actor={} corretorId={}", currentUser.username(), corretorId);
+                throw new AccessDeniedException("Corretor só pode consultar a própria carteira.");
+            }
+            return proprio;
+        }
+        if (corretorId == null) {
+            throw new IllegalArgumentException("Informe o corretorId.");
+        }
+        return corretorId;
+    }
+}
@@ -1,21 +1,28 @@
 package br.com.jmcodestudio.megabarros.application.usecase.apolice;
 
 import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.CronogramaParcelas;
 import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
 import br.com.jmcodestudio.megabarros.application.port.in.apolice.*;
 import br.com.jmcodestudio.megabarros.application.port.in.parcela.ParcelaUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -25,12 +32,16 @@ public class ApoliceUseCasesImpl implements
 
     private static final Logger log = LoggerFactory.getLogger(ApoliceUseCasesImpl.class);
 
+    private static final BigDecimal CEM = BigDecimal.valueOf(100);
+
     private final ApoliceRepositoryPort repo;
     private final CurrentUserPort currentUser;
+    private final DataScopeResolver scopeResolver;
 
-    public ApoliceUseCasesImpl(ApoliceRepositoryPort repo, CurrentUserPort currentUser) {
+    public ApoliceUseCasesImpl(ApoliceRepositoryPort repo, CurrentUserPort currentUser, DataScopeResolver scopeResolver) {
         this.repo = repo;
         this.currentUser = currentUser;
+        this.scopeResolver = scopeResolver;
     }
 
     private void ensureNotCorretor() {
@@ -47,6 +58,33 @@ public class ApoliceUseCasesImpl implements
         }
     }
 
+    static void validateCoberturas(List<ApoliceCobertura> coberturas) {
+        Set<Integer> vistas = new HashSet<>();
+        for (ApoliceCobertura c : coberturas) {
+            if (c.idCobertura() == null) {
+                throw new IllegalArgumentException("Cobertura não informada.");
+            }
+            if (!vistas.add(c.idCobertura())) {
+                throw new IllegalArgumentException("Cobertura repetida: " + c.idCobertura());
+            }
+            if (c.valorContratado() != null && c.valorContratado().signum() < 0) {
+                throw new IllegalArgumentException("Valor contratado não pode ser negativo.");
+            }
+        }
+    }
+
+    static void validateBeneficiarios(List<Beneficiario> beneficiarios) {
+        for (Beneficiario b : beneficiarios) {
+            if (b.nomeBeneficiario() == null || b.nomeBeneficiario().isBlank()) {
+                throw new IllegalArgumentException("Nome do beneficiário é obrigatório.");
+            }
+            var percentual = b.percentualParticipacao();
+            if (percentual != null && (percentual.signum() <= 0 || percentual.compareTo(CEM) > 0)) {
+                throw new IllegalArgumentException("Percentual de participação deve estar entre 0 e 100.");
+            }
+        }
+    }
+
     @Override
     public Apolice create(Apolice apolice) {
         String actor = currentUser.username();
@@ -54,46 +92,77 @@ public class ApoliceUseCasesImpl implements
         log.info("apolice.create start actor={} role={} numero={}", actor, role, apolice.numeroApolice());
 
         ensureNotCorretor();
-        if (apolice.numeroApolice() != null && repo.existsByNumero(apolice.numeroApolice())) {
-            log.warn("apolice.create conflict duplicate-num actor={} numero={}", actor, apolice.numeroApolice());
-            throw new IllegalStateException("Número de apólice já existente: " + apolice.numeroApolice());
-        }
         validateVigencia(apolice.vigenciaInicio(), apolice.vigenciaFim());
+        List<ApoliceCobertura> coberturas = apolice.coberturas() != null ? apolice.coberturas() : List.of();
+        List<Beneficiario> beneficiarios = apolice.beneficiarios() != null ? apolice.beneficiarios() : List.of();
+        validateCoberturas(coberturas);
+        validateBeneficiarios(beneficiarios);
 
-        Apolice saved = repo.save(apolice);
-        repo.addStatus(new ApoliceStatus(null, saved.id(), "ATIVA", LocalDateTime.now(), null));
-        log.info("apolice.create success actor={} id={} status=ATIVA", actor, saved.id().value());
-        return repo.findById(saved.id()).orElse(saved);
+        // Duplicidade de número é detectada pela constraint uq_apolice_numero (sem consulta prévia)
+        Apolice created;
+        try {
+            created = repo.create(apolice, new ApoliceStatus(null, null, "ATIVA", LocalDateTime.now(), null));
+        } catch (IllegalStateException ex) {
+            log.warn("apolice.create conflict duplicate-num actor={} numero={}", actor, apolice.numeroApolice());
+            throw ex;
+        }
+        // Coberturas e beneficiários do cadastro entram em lote na mesma transação
+        if (!coberturas.isEmpty() || !beneficiarios.isEmpty()) {
+            created = new Apolice(
+                    created.id(), created.numeroApolice(), created.dataEmissao(), created.vigenciaInicio(),
+                    created.vigenciaFim(), created.valor(), created.comissaoPercentual(), created.tipoContrato(),
+                    created.idCorretorCliente(), created.idProduto(), created.idSeguradora(), created.statusAtual(),
+                    created.parcelas(),
+                    saveCoberturas(created.id(), coberturas),
+                    saveBeneficiarios(created.id(), beneficiarios));
+        }
+        log.info("apolice.create success actor={} id={} status=ATIVA", actor, created.id().value());
+        return created;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Apolice> listAll() {
-        return repo.findAll();
+    public Optional<Apolice> getById(ApoliceId id) {
+        return repo.findById(id, scopeResolver.current());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Apolice> listBySeguradora(Integer seguradoraId) {
-        return repo.findBySeguradoraId(seguradoraId);
+    public List<Apolice> list(ApoliceFilter filter, Set<ApoliceExpand> expand) {
+        return repo.findAll(normalize(filter), expand != null ? expand : ApoliceExpand.none());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Apolice> listByProduto(Integer produtoId) {
-        return repo.findByProdutoId(produtoId);
+    public List<ApoliceSummary> listSummaries(ApoliceFilter filter) {
+        return repo.findSummaries(normalize(filter));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Apolice> listByCorretorCliente(Integer corretorClienteId) {
-        return repo.findByCorretorClienteId(corretorClienteId);
+    public ApolicePage<Apolice> search(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit, Set<ApoliceExpand> expand) {
+        ApoliceSort effectiveSort = effectiveSort(sort, after);
+        return repo.search(normalize(filter), effectiveSort, after, PageSizes.pageSize(limit), expand != null ? expand : ApoliceExpand.none());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<Apolice> getById(ApoliceId id) {
-        return repo.findById(id);
+    public ApolicePage<ApoliceSummary> searchSummaries(ApoliceFilter filter, ApoliceSort sort, ApoliceCursor after, int limit) {
+        ApoliceSort effectiveSort = effectiveSort(sort, after);
+        return repo.searchSummaries(normalize(filter), effectiveSort, after, PageSizes.pageSize(limit));
+    }
+
+    static ApoliceSort effectiveSort(ApoliceSort sort, ApoliceCursor after) {
+        ApoliceSort effective = sort != null ? sort : ApoliceSort.ID;
+        if (after != null && after.sort() != effective) {
+            throw new IllegalArgumentException("Cursor não corresponde à ordenação solicitada.");
+        }
+        return effective;
+    }
+
+    // Leituras filtradas sempre carregam o escopo do usuário atual (predicado na própria consulta)
+    private ApoliceFilter normalize(ApoliceFilter f) {
+        return (f == null ? ApoliceFilter.empty() : f.normalized()).withScope(scopeResolver.current());
     }
 
     @Override
@@ -135,7 +204,8 @@ public class ApoliceUseCasesImpl implements
         log.info("apolice.cancel start actor={} id={} reason={}", actor, id.value(), reason);
         ensureNotCorretor();
 
-        Optional<ApoliceStatus> current = repo.findCurrentStatus(id);
+        // Trava a apólice antes dos status, na mesma ordem do vencimento e do cancelamento em massa
+        Optional<ApoliceStatus> current = repo.lockCurrentStatus(id);
         current.ifPresent(s -> {
             log.info("apolice.cancel closing-status id={} status={} start={}", id.value(), s.status(), s.dataInicio());
             repo.addStatus(new ApoliceStatus(s.id(), id, s.status(), s.dataInicio(), LocalDateTime.now()));
@@ -152,6 +222,30 @@ public class ApoliceUseCasesImpl implements
         return repo.saveParcela(p);
     }
 
+    @Override
+    public Optional<List<Parcela>> generateSchedule(ApoliceId id, CronogramaParcelas cronograma) {
+        String actor = currentUser.username();
+        log.info("parcela.schedule start actor={} id={} quantidade={} periodicidade={}",
+                actor, id.value(), cronograma.quantidade(), cronograma.periodicidade());
+        ensureNotCorretor();
+        // Trava a apólice antes de conferir as parcelas: chamadas concorrentes esperam aqui e a segunda
+        // já encontra o cronograma gravado (409) em vez de bater na constraint de número de parcela
+        if (!repo.lockById(id)) return Optional.empty();
+        return repo.findById(id).map(apolice -> {
+            if ("CANCELADA".equalsIgnoreCase(apolice.statusAtual())) {
+                throw new IllegalStateException("Apólice cancelada não pode receber parcelas.");
+            }
+            if (apolice.parcelas() != null && !apolice.parcelas().isEmpty()) {
+                log.warn("parcela.schedule conflict existing-parcelas actor={} id={} count={}",
+                        actor, id.value(), apolice.parcelas().size());
+                throw new IllegalStateException("Apólice já possui parcelas; remova-as antes de gerar o cronograma.");
+            }
+            List<Parcela> saved = repo.saveParcelas(cronograma.gerar(id, apolice.valor(), "PENDENTE"));
+            log.info("parcela.schedule success actor={} id={} count={}", actor, id.value(), saved.size());
+            return saved;
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Parcela> listParcelas(ApoliceId id) {
@@ -186,9 +280,29 @@ public class ApoliceUseCasesImpl implements
     @Override
     public Beneficiario addBeneficiario(Beneficiario b) {
         ensureNotCorretor();
+        validateBeneficiarios(List.of(b));
         return repo.saveBeneficiario(b);
     }
 
+    @Override
+    public Optional<List<Beneficiario>> addBeneficiarios(ApoliceId id, List<Beneficiario> beneficiarios) {
+        String actor = currentUser.username();
+        log.info("beneficiario.add start actor={} id={} count={}", actor, id.value(), beneficiarios.size());
+        ensureNotCorretor();
+        validateBeneficiarios(beneficiarios);
+        if (!repo.existsById(id)) return Optional.empty();
+        List<Beneficiario> saved = saveBeneficiarios(id, beneficiarios);
+        log.info("beneficiario.add success actor={} id={} count={}", actor, id.value(), saved.size());
+        return Optional.of(saved);
+    }
+
+    private List<Beneficiario> saveBeneficiarios(ApoliceId id, List<Beneficiario> beneficiarios) {
+        if (beneficiarios.isEmpty()) return List.of();
+        return repo.saveBeneficiarios(beneficiarios.stream()
+                .map(b -> new Beneficiario(null, id, b.idCliente(), b.nomeBeneficiario(), b.cpf(), b.percentualParticipacao()))
+                .toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Beneficiario> listBeneficiarios(ApoliceId id) {
@@ -201,13 +315,41 @@ public class ApoliceUseCasesImpl implements
         repo.deleteBeneficiarioById(id);
     }
 
+    @Override
+    public int removeBeneficiarios(ApoliceId id, List<Integer> ids) {
+        ensureNotCorretor();
+        int removed = repo.deleteBeneficiarios(id, distinctIds(ids));
+        log.info("beneficiario.remove success actor={} id={} count={}", currentUser.username(), id.value(), removed);
+        return removed;
+    }
+
     // Cobertura
     @Override
     public ApoliceCobertura addCobertura(ApoliceCobertura c) {
         ensureNotCorretor();
+        validateCoberturas(List.of(c));
         return repo.saveCobertura(c);
     }
 
+    @Override
+    public Optional<List<ApoliceCobertura>> addCoberturas(ApoliceId id, List<ApoliceCobertura> coberturas) {
+        String actor = currentUser.username();
+        log.info("cobertura.add start actor={} id={} count={}", actor, id.value(), coberturas.size());
+        ensureNotCorretor();
+        validateCoberturas(coberturas);
+        if (!repo.existsById(id)) return Optional.empty();
+        List<ApoliceCobertura> saved = saveCoberturas(id, coberturas);
+        log.info("cobertura.add success actor={} id={} count={}", actor, id.value(), saved.size());
+        return Optional.of(saved);
+    }
+
+    private List<ApoliceCobertura> saveCoberturas(ApoliceId id, List<ApoliceCobertura> coberturas) {
+        if (coberturas.isEmpty()) return List.of();
+        return repo.saveCoberturas(coberturas.stream()
+                .map(c -> new ApoliceCobertura(null, id, c.idCobertura(), c.valorContratado()))
+                .toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ApoliceCobertura> listCoberturas(ApoliceId id) {
@@ -219,4 +361,16 @@ public class ApoliceUseCasesImpl implements
         ensureNotCorretor();
         repo.deleteCoberturaById(id);
     }
+
+    @Override
+    public int removeCoberturas(ApoliceId id, List<Integer> ids) {
+        ensureNotCorretor();
+        int removed = repo.deleteCoberturas(id, distinctIds(ids));
+        log.info("cobertura.remove success actor={} id={} count={}", currentUser.username(), id.value(), removed);
+        return removed;
+    }
+
+    private static List<Integer> distinctIds(List<Integer> ids) {
+        return ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
 }
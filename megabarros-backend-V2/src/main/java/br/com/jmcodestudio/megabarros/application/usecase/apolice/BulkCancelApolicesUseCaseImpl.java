@@ -0,0 +1,97 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceBulkCancelResult;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCancelSelection;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.BulkCancelApolicesUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.RequestMetadataPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceBulkCancelPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cancelamento em massa: percorre a seleção por id (keyset) e cancela cada lote com comandos
+ * set-based. Sem transação própria: cada lote, com o seu registro de auditoria, é confirmado
+ * isoladamente pelo adapter.
+ */
+@Service
+public class BulkCancelApolicesUseCaseImpl implements BulkCancelApolicesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkCancelApolicesUseCaseImpl.class);
+
+    private final ApoliceBulkCancelPort cancelPort;
+    private final CurrentUserPort currentUser;
+    private final RequestMetadataPort requestMetadata;
+    private final int chunkSize;
+
+    public BulkCancelApolicesUseCaseImpl(ApoliceBulkCancelPort cancelPort,
+                                         CurrentUserPort currentUser,
+                                         RequestMetadataPort requestMetadata,
+                                         @Value("${APOLICE_BULK_CANCEL_CHUNK_SIZE:1000}") int chunkSize) {
+        this.cancelPort = cancelPort;
+        this.currentUser = currentUser;
+        this.requestMetadata = requestMetadata;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ApoliceBulkCancelResult cancelBulk(ApoliceCancelSelection selection, String reason) {
+        String actor = currentUser.username();
+        String role = currentUser.role();
+        if (role != null && role.equalsIgnoreCase("CORRETOR")) {
+            log.warn("apolice.bulk-cancel permission denied role={}", role);
+            throw new AccessDeniedException("Corretores não podem alterar apólices.");
+        }
+        ApoliceCancelSelection sel = selection.normalized();
+        log.info("apolice.bulk-cancel start actor={} ids={} produtoId={} seguradoraId={} reason={}",
+                actor, sel.ids().size(), sel.produtoId(), sel.seguradoraId(), reason);
+
+        long canceladas = 0;
+        int lotes = 0;
+        int afterId = 0;
+        while (true) {
+            List<Integer> ids = cancelPort.findCancellableIds(sel, afterId, chunkSize);
+            if (ids.isEmpty()) break;
+            LocalDateTime at = LocalDateTime.now();
+            int count;
+            try {
+                count = cancelPort.cancelChunk(ids, at, auditEntry(ids, sel, reason));
+            } catch (IllegalStateException ex) {
+                log.warn("apolice.bulk-cancel chunk failed actor={} firstId={} cancelledSoFar={} cause={}",
+                        actor, ids.get(0), canceladas, ex.getMessage());
+                throw new IllegalStateException("Cancelamento interrompido após " + canceladas
+                        + " apólices; repita a operação para concluir.", ex);
+            }
+            canceladas += count;
+            lotes++;
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) break;
+        }
+
+        long ignoradas = sel.byIds() ? Math.max(0, sel.ids().size() - canceladas) : 0;
+        log.info("apolice.bulk-cancel success actor={} cancelled={} ignored={} chunks={}", actor, canceladas, ignoradas, lotes);
+        return new ApoliceBulkCancelResult(canceladas, ignoradas, lotes);
+    }
+
+    // Um registro por lote (não por apólice): faixa de ids; o adapter acrescenta a quantidade cancelada
+    private AuditLogPort.Entry auditEntry(List<Integer> ids, ApoliceCancelSelection sel, String reason) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("firstId", ids.get(0));
+        metadata.put("lastId", ids.get(ids.size() - 1));
+        if (sel.produtoId() != null) metadata.put("produtoId", sel.produtoId());
+        if (sel.seguradoraId() != null) metadata.put("seguradoraId", sel.seguradoraId());
+        if (reason != null && !reason.isBlank()) metadata.put("reason", reason);
+        return new AuditLogPort.Entry(Instant.now(), currentUser.userId(), "APOLICE_BULK_CANCEL",
+                currentUser.email(), requestMetadata.ip(), requestMetadata.userAgent(), metadata);
+    }
+}
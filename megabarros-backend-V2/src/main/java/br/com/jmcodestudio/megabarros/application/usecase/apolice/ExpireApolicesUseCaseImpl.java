@@ -0,0 +1,69 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceExpiryResult;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ExpireApolicesUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceExpiryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Vencimento de apólices: processa lotes até esgotar as pendentes ou atingir o limite de lotes
+ * da execução (o restante fica para a próxima). Sem transação própria: cada lote é confirmado
+ * isoladamente pelo adapter.
+ */
+@Service
+public class ExpireApolicesUseCaseImpl implements ExpireApolicesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpireApolicesUseCaseImpl.class);
+    static final String ACTOR = "system";
+
+    private final ApoliceExpiryPort expiryPort;
+    private final AuditLogPort audit;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public ExpireApolicesUseCaseImpl(ApoliceExpiryPort expiryPort,
+                                     AuditLogPort audit,
+                                     @Value("${APOLICE_EXPIRY_CHUNK_SIZE:500}") int chunkSize,
+                                     @Value("${APOLICE_EXPIRY_MAX_CHUNKS:100}") int maxChunks) {
+        this.expiryPort = expiryPort;
+        this.audit = audit;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunks = Math.max(1, maxChunks);
+    }
+
+    @Override
+    public ApoliceExpiryResult expireDue(LocalDate hoje) {
+        log.info("apolice.expiry start actor={} hoje={} chunkSize={} maxChunks={}", ACTOR, hoje, chunkSize, maxChunks);
+        long vencidas = 0;
+        int lotes = 0;
+        while (lotes < maxChunks) {
+            int count = expiryPort.expireChunk(hoje, chunkSize, LocalDateTime.now());
+            if (count == 0) break;
+            vencidas += count;
+            lotes++;
+            recordAudit(hoje, count);
+            // Lote incompleto: acabaram as pendentes ou o restante está travado por outra transação
+            if (count < chunkSize) break;
+        }
+        LocalDate pendente = expiryPort.oldestPending(hoje).orElse(null);
+        log.info("apolice.expiry success actor={} expired={} chunks={} oldestPending={}", ACTOR, vencidas, lotes, pendente);
+        return new ApoliceExpiryResult(vencidas, lotes, pendente);
+    }
+
+    private void recordAudit(LocalDate hoje, int count) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("count", count);
+        metadata.put("vigenciaFimAntesDe", hoje.toString());
+        audit.record(new AuditLogPort.Entry(Instant.now(), null, "APOLICE_EXPIRE", ACTOR, null, null, metadata));
+    }
+}
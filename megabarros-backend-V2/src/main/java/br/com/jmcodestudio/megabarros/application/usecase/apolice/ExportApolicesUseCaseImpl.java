@@ -0,0 +1,39 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ExportApolicesUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceExportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportApolicesUseCaseImpl implements ExportApolicesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportApolicesUseCaseImpl.class);
+
+    private final ApoliceExportPort exportPort;
+    private final CurrentUserPort currentUser;
+
+    public ExportApolicesUseCaseImpl(ApoliceExportPort exportPort, CurrentUserPort currentUser) {
+        this.exportPort = exportPort;
+        this.currentUser = currentUser;
+    }
+
+    // Transação somente leitura: necessária para o driver usar cursor no servidor (autocommit desligado)
+    @Override
+    @Transactional(readOnly = true)
+    public long export(ApoliceFilter filter, Consumer<ApoliceSummary> sink) {
+        String actor = currentUser.username();
+        long start = System.currentTimeMillis();
+        log.info("apolice.export start actor={}", actor);
+        long rows = exportPort.streamAll(filter != null ? filter.normalized() : ApoliceFilter.empty(), sink);
+        log.info("apolice.export success actor={} rows={} tookMs={}", actor, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+}
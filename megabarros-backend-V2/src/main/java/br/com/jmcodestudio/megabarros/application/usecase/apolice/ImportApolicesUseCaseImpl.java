@@ -0,0 +1,190 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.*;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.port.in.apolice.ImportApolicesUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceImportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Importação em massa: valida cada linha em memória (referências carregadas uma vez, números
+ * repetidos no arquivo) e grava em lotes. Sem transação própria: cada lote é confirmado
+ * isoladamente pelo adapter, então uma falha afeta apenas o lote corrente.
+ */
+@Service
+public class ImportApolicesUseCaseImpl implements ImportApolicesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportApolicesUseCaseImpl.class);
+
+    // Limite de erros devolvidos na resposta; a contagem de rejeitadas continua exata
+    static final int MAX_ERRORS = 1000;
+    static final String STATUS_INICIAL_PADRAO = "ATIVA";
+    static final String STATUS_PARCELA_PADRAO = "PENDENTE";
+    // Status aceitos na importação (dados legados podem chegar vencidos ou cancelados)
+    static final Set<String> STATUS_APOLICE = Set.of("ATIVA", "VENCIDA", "CANCELADA");
+    static final Set<String> STATUS_PARCELA = Set.of("PENDENTE", "PAGA", "ATRASADA");
+
+    private final ApoliceImportPort importPort;
+    private final CurrentUserPort currentUser;
+    private final int chunkSize;
+
+    public ImportApolicesUseCaseImpl(ApoliceImportPort importPort,
+                                     CurrentUserPort currentUser,
+                                     @Value("${APOLICE_IMPORT_CHUNK_SIZE:1000}") int chunkSize) {
+        this.importPort = importPort;
+        this.currentUser = currentUser;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ApoliceImportResult importAll(Iterator<ApoliceImportRow> rows) {
+        String actor = currentUser.username();
+        String role = currentUser.role();
+        if (role != null && role.equalsIgnoreCase("CORRETOR")) {
+            log.warn("apolice.import permission denied role={}", role);
+            throw new AccessDeniedException("Corretores não podem importar apólices.");
+        }
+        long start = System.currentTimeMillis();
+        log.info("apolice.import start actor={} chunkSize={}", actor, chunkSize);
+
+        ApoliceImportReferences refs = importPort.loadReferences();
+        Progress progress = new Progress();
+        Set<String> numerosNoArquivo = new HashSet<>();
+        List<ApoliceImportRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            ApoliceImportRow row = rows.next();
+            progress.total++;
+            if (!row.valid()) {
+                progress.reject(row.linha(), null, row.erro());
+                continue;
+            }
+            Apolice a = normalize(row.apolice());
+            String erro = validate(a, refs);
+            if (erro == null && !numerosNoArquivo.add(a.numeroApolice())) {
+                erro = "Número de apólice repetido no arquivo.";
+            }
+            if (erro != null) {
+                progress.reject(row.linha(), a.numeroApolice(), erro);
+                continue;
+            }
+            chunk.add(new ApoliceImportRow(row.linha(), a, null));
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, progress);
+                chunk.clear();
+            }
+        }
+        flush(chunk, progress);
+
+        long tookMs = System.currentTimeMillis() - start;
+        log.info("apolice.import success actor={} total={} imported={} rejected={} tookMs={}",
+                actor, progress.total, progress.importadas, progress.rejeitadas, tookMs);
+        return new ApoliceImportResult(progress.total, progress.importadas, progress.rejeitadas,
+                List.copyOf(progress.erros), progress.rejeitadas > progress.erros.size());
+    }
+
+    private void flush(List<ApoliceImportRow> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+        Set<String> existentes = importPort.findExistingNumeros(
+                chunk.stream().map(r -> r.apolice().numeroApolice()).toList());
+
+        List<ApoliceImportRow> gravar = new ArrayList<>(chunk.size());
+        for (ApoliceImportRow r : chunk) {
+            if (existentes.contains(r.apolice().numeroApolice())) {
+                progress.reject(r.linha(), r.apolice().numeroApolice(), "Número de apólice já existente.");
+            } else {
+                gravar.add(r);
+            }
+        }
+        if (gravar.isEmpty()) return;
+
+        try {
+            importPort.insertChunk(gravar.stream().map(ApoliceImportRow::apolice).toList());
+            progress.importadas += gravar.size();
+        } catch (IllegalStateException ex) {
+            // Lote inteiro revertido (ex.: número inserido em paralelo por outra requisição)
+            log.warn("apolice.import chunk failed firstLine={} size={} cause={}",
+                    gravar.get(0).linha(), gravar.size(), ex.getMessage());
+            for (ApoliceImportRow r : gravar) {
+                progress.reject(r.linha(), r.apolice().numeroApolice(), ex.getMessage());
+            }
+        }
+    }
+
+    private static Apolice normalize(Apolice a) {
+        String status = a.statusAtual() == null || a.statusAtual().isBlank()
+                ? STATUS_INICIAL_PADRAO : a.statusAtual().trim().toUpperCase();
+        List<Parcela> parcelas = a.parcelas() == null ? List.of() : a.parcelas().stream()
+                .map(p -> new Parcela(p.id(), p.apoliceId(), p.numeroParcela(), p.dataVencimento(), p.valorParcela(),
+                        p.statusPagamento() == null || p.statusPagamento().isBlank()
+                                ? STATUS_PARCELA_PADRAO : p.statusPagamento().trim().toUpperCase(),
+                        p.dataPagamento()))
+                .toList();
+        return new Apolice(null, a.numeroApolice() == null ? null : a.numeroApolice().trim(),
+                a.dataEmissao(), a.vigenciaInicio(), a.vigenciaFim(), a.valor(), a.comissaoPercentual(),
+                a.tipoContrato(), a.idCorretorCliente(), a.idProduto(), a.idSeguradora(),
+                status, parcelas, List.of(), List.of());
+    }
+
+    // Mesmas regras do cadastro unitário, mais a checagem de referências contra os ids em memória
+    private static String validate(Apolice a, ApoliceImportReferences refs) {
+        if (a.numeroApolice() == null || a.numeroApolice().isEmpty()) return "Número da apólice é obrigatório.";
+        if (a.numeroApolice().length() > 50) return "Número da apólice excede 50 caracteres.";
+        if (a.dataEmissao() == null || a.vigenciaInicio() == null || a.vigenciaFim() == null) {
+            return "Datas de emissão e vigência são obrigatórias.";
+        }
+        if (a.vigenciaFim().isBefore(a.vigenciaInicio())) {
+            return "Vigência fim deve ser maior ou igual à vigência início.";
+        }
+        if (a.valor() == null || a.comissaoPercentual() == null) return "Valor e comissão são obrigatórios.";
+        if (a.tipoContrato() == null || a.tipoContrato().isBlank()) return "Tipo de contrato é obrigatório.";
+        if (a.tipoContrato().length() > 50) return "Tipo de contrato excede 50 caracteres.";
+        if (!STATUS_APOLICE.contains(a.statusAtual())) return "Status de apólice inválido: " + a.statusAtual();
+        if (a.idCorretorCliente() == null || !refs.corretorClienteIds().contains(a.idCorretorCliente())) {
+            return "Vínculo corretor-cliente inexistente: " + a.idCorretorCliente();
+        }
+        if (a.idSeguradora() == null || !refs.seguradoraIds().contains(a.idSeguradora())) {
+            return "Seguradora inexistente: " + a.idSeguradora();
+        }
+        Integer seguradoraDoProduto = a.idProduto() == null ? null : refs.produtoSeguradora().get(a.idProduto());
+        if (seguradoraDoProduto == null) return "Produto inexistente: " + a.idProduto();
+        if (!seguradoraDoProduto.equals(a.idSeguradora())) {
+            return "Produto " + a.idProduto() + " não pertence à seguradora " + a.idSeguradora() + ".";
+        }
+        Set<Integer> numerosParcela = new HashSet<>();
+        for (Parcela p : a.parcelas()) {
+            if (p.numeroParcela() == null || p.dataVencimento() == null || p.valorParcela() == null) {
+                return "Parcela com número, vencimento e valor obrigatórios.";
+            }
+            if (!numerosParcela.add(p.numeroParcela())) return "Parcela " + p.numeroParcela() + " repetida.";
+            if (!STATUS_PARCELA.contains(p.statusPagamento())) {
+                return "Status de pagamento inválido na parcela " + p.numeroParcela() + ": " + p.statusPagamento();
+            }
+            if ("PAGA".equals(p.statusPagamento()) && p.dataPagamento() == null) {
+                return "Parcela " + p.numeroParcela() + " paga sem data de pagamento.";
+            }
+        }
+        return null;
+    }
+
+    private static final class Progress {
+        long total;
+        long importadas;
+        long rejeitadas;
+        final List<ApoliceImportError> erros = new ArrayList<>();
+
+        void reject(long linha, String numero, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < MAX_ERRORS) {
+                erros.add(new ApoliceImportError(linha, numero, mensagem));
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasadaPage;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaCursor;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaOverdueResult;
+import br.com.jmcodestudio.megabarros.application.port.in.parcela.OverdueParcelasUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ParcelaOverduePort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Parcelas em atraso: listagem paginada por chave e marcação em lotes (ATRASADA).
+ * Sem transação própria: cada lote é confirmado isoladamente pelo adapter.
+ */
+@Service
+public class OverdueParcelasUseCaseImpl implements OverdueParcelasUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueParcelasUseCaseImpl.class);
+    static final String ACTOR = "system";
+
+    private final ParcelaOverduePort overduePort;
+    private final DataScopeResolver scopeResolver;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public OverdueParcelasUseCaseImpl(ParcelaOverduePort overduePort,
+                                      DataScopeResolver scopeResolver,
+                                      @Value("${PARCELA_OVERDUE_CHUNK_SIZE:1000}") int chunkSize,
+                                      @Value("${PARCELA_OVERDUE_MAX_CHUNKS:100}") int maxChunks) {
+        this.overduePort = overduePort;
+        this.scopeResolver = scopeResolver;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunks = Math.max(1, maxChunks);
+    }
+
+    @Override
+    public ParcelaAtrasadaPage listOverdue(LocalDate hoje, ParcelaCursor after, int limit) {
+        return overduePort.findOverdue(hoje, scopeResolver.current(), after, PageSizes.pageSize(limit));
+    }
+
+    @Override
+    public ParcelaOverdueResult markOverdue(LocalDate hoje) {
+        log.info("parcela.overdue start actor={} hoje={} chunkSize={} maxChunks={}", ACTOR, hoje, chunkSize, maxChunks);
+        long atrasadas = 0;
+        int lotes = 0;
+        while (lotes < maxChunks) {
+            int count = overduePort.markOverdueChunk(hoje, chunkSize);
+            if (count == 0) break;
+            atrasadas += count;
+            lotes++;
+            if (count < chunkSize) break;
+        }
+        log.info("parcela.overdue success actor={} marked={} chunks={}", ACTOR, atrasadas, lotes);
+        return new ParcelaOverdueResult(atrasadas, lotes);
+    }
+}
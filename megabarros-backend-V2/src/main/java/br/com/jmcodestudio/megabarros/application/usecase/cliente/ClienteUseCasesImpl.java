@@ -2,6 +2,10 @@ package br.com.jmcodestudio.megabarros.application.usecase.cliente;
 
 import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
 import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClientePage;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchPage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
 import br.com.jmcodestudio.megabarros.application.port.in.cliente.CreateClienteUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.cliente.DeactivateClienteUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.cliente.ListClientesUseCase;
@@ -9,8 +13,9 @@ import br.com.jmcodestudio.megabarros.application.port.in.cliente.UpdateClienteU
 import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
 import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteRepositoryPort;
-import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorClienteQueryPort;
-import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteSearchPort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -27,22 +33,25 @@ public class ClienteUseCasesImpl implements
 
     private static final Logger log = LoggerFactory.getLogger(ClienteUseCasesImpl.class);
 
+    // Abaixo de 3 caracteres não há trigrama completo e o índice GIN não filtra nada
+    static final int MIN_TERM_LENGTH = 3;
+
     private final ClienteRepositoryPort repo;
     private final CurrentUserPort currentUser;
-    private final CorretorQueryPort corretorQuery;
-    private final CorretorClienteQueryPort corretorClienteQuery;
+    private final DataScopeResolver scopeResolver;
     private final ApoliceQueryPort apoliceQuery;
+    private final ClienteSearchPort searchPort;
 
     public ClienteUseCasesImpl(ClienteRepositoryPort repo,
                                CurrentUserPort currentUser,
-                               CorretorQueryPort corretorQuery,
-                               CorretorClienteQueryPort corretorClienteQuery,
-                               ApoliceQueryPort apoliceQuery) {
+                               DataScopeResolver scopeResolver,
+                               ApoliceQueryPort apoliceQuery,
+                               ClienteSearchPort searchPort) {
         this.repo = repo;
         this.currentUser = currentUser;
-        this.corretorQuery = corretorQuery;
-        this.corretorClienteQuery = corretorClienteQuery;
+        this.scopeResolver = scopeResolver;
         this.apoliceQuery = apoliceQuery;
+        this.searchPort = searchPort;
     }
 
     private boolean isCorretor() {
@@ -50,6 +59,12 @@ public class ClienteUseCasesImpl implements
         return role != null && role.equalsIgnoreCase("CORRETOR");
     }
 
+    // As consultas de cliente filtram pelo corretor (índice de vínculos ou subconsulta por id_corretor):
+    // só o id é resolvido, sem carregar a lista de vínculos de DataScopeResolver.current()
+    private DataScope scope() {
+        return isCorretor() ? DataScope.corretor(scopeResolver.corretorId(), null) : DataScope.all();
+    }
+
     private boolean isAdminOrUsuario() {
         String role = currentUser.role();
         return role != null && (role.equalsIgnoreCase("ADMIN") || role.equalsIgnoreCase("USUARIO"));
@@ -84,10 +99,9 @@ public class ClienteUseCasesImpl implements
         log.info("cliente.update start actor={} role={} id={}", actor, role, id.value());
 
         if (isCorretor()) {
-            Long userId = currentUser.userId();
-            Integer corretorId = userId != null ? corretorQuery.findCorretorIdByUsuarioId(userId)
-                    : corretorQuery.findCorretorIdByUsuarioEmail(actor);
-            if (corretorId == null || !corretorClienteQuery.existsByCorretorIdAndClienteId(corretorId, id.value())) {
+            // Leitura já no escopo do corretor: cliente não vinculado não é encontrado
+            Optional<Cliente> vinculado = repo.findById(id, scope());
+            if (vinculado.isEmpty()) {
                 log.warn("cliente.update denied not-linked actor={} role={} id={}", actor, role, id.value());
                 throw new AccessDeniedException("Corretores só podem alterar clientes vinculados.");
             }
@@ -95,7 +109,7 @@ public class ClienteUseCasesImpl implements
                 log.warn("cliente.update denied invalid-fields actor={} role={} id={}", actor, role, id.value());
                 throw new AccessDeniedException("Corretores só podem alterar email e telefone.");
             }
-            Optional<Cliente> res = repo.findById(id).map(existing -> {
+            Optional<Cliente> res = vinculado.map(existing -> {
                 Cliente merged = new Cliente(
                         existing.id(),
                         existing.nome(),
@@ -174,27 +188,49 @@ public class ClienteUseCasesImpl implements
     @Transactional(readOnly = true)
     public List<Cliente> listMine() {
         String actor = currentUser.username();
-        Integer corretorId = corretorQuery.findCorretorIdByUsuarioId(currentUser.userId());
-        if (corretorId == null) corretorId = corretorQuery.findCorretorIdByUsuarioEmail(actor);
+        Integer corretorId = scopeResolver.corretorId();
         List<Cliente> res = (corretorId == null) ? List.of() : repo.findByCorretorId(corretorId);
         log.info("cliente.listMine actor={} corretorId={} count={}", actor, corretorId, res.size());
         return res;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ClientePage search(Integer afterId, int limit) {
+        int size = PageSizes.pageSize(limit);
+        ClientePage page = repo.findPage(scope(), afterId, size);
+        log.info("cliente.search actor={} role={} after={} count={}", currentUser.username(), currentUser.role(), afterId, page.items().size());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClienteSearchPage search(String termo, ClienteSearchCursor after, int limit) {
+        String t = termo == null ? "" : termo.strip();
+        String digitos = t.replaceAll("[.\\-/\\s]", "");
+        ClienteSearchPage page;
+        if (digitos.matches("\\d{11}|\\d{14}")) {
+            page = searchPort.findByDocumento(digitos, t, scope());
+        } else {
+            if (t.length() < MIN_TERM_LENGTH) {
+                throw new IllegalArgumentException("Informe ao menos " + MIN_TERM_LENGTH + " caracteres para a busca.");
+            }
+            page = searchPort.searchText(t.toLowerCase(Locale.ROOT), scope(), after, PageSizes.pageSize(limit));
+        }
+        log.info("cliente.searchText actor={} role={} count={} hasNext={}", currentUser.username(), currentUser.role(), page.items().size(), page.hasNext());
+        return page;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Cliente> getById(Integer id) {
         String actor = currentUser.username();
         String role = currentUser.role();
-        if (isCorretor()) {
-            Integer corretorId = corretorQuery.findCorretorIdByUsuarioId(currentUser.userId());
-            if (corretorId == null) corretorId = corretorQuery.findCorretorIdByUsuarioEmail(actor);
-            if (corretorId == null || !corretorClienteQuery.existsByCorretorIdAndClienteId(corretorId, id)) {
-                log.warn("cliente.getById denied not-linked actor={} role={} id={}", actor, role, id);
-                throw new AccessDeniedException("Corretores só podem consultar clientes vinculados.");
-            }
+        Optional<Cliente> res = repo.findById(new ClienteId(id), scope());
+        if (res.isEmpty() && isCorretor()) {
+            log.warn("cliente.getById denied not-linked actor={} role={} id={}", actor, role, id);
+            throw new AccessDeniedException("Corretores só podem consultar clientes vinculados.");
         }
-        Optional<Cliente> res = repo.findById(new ClienteId(id));
         log.info("cliente.getById actor={} role={} id={} found={}", actor, role, id, res.isPresent());
         return res;
     }
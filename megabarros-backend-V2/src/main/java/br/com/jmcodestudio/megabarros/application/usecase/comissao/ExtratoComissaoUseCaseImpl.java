@@ -0,0 +1,127 @@
+package br.com.jmcodestudio.megabarros.application.usecase.comissao;
+
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissao;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoItem;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.PeriodoExtrato;
+import br.com.jmcodestudio.megabarros.application.domain.corretor.CorretorId;
+import br.com.jmcodestudio.megabarros.application.port.in.comissao.ExtratoComissaoUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.comissao.ExtratoComissaoPort;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Extrato de comissão: os totais de um mês encerrado são calculados uma vez e lidos do cache (corretor, mês)
+ * nas consultas seguintes. Mês encerrado ainda pode mudar (importação com pagamento retroativo, parcela
+ * excluída, comissão ou vínculo da apólice alterados); os triggers do banco apagam os meses afetados e a
+ * próxima consulta os recalcula.
+ */
+@Service
+public class ExtratoComissaoUseCaseImpl implements ExtratoComissaoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExtratoComissaoUseCaseImpl.class);
+
+    private final ExtratoComissaoPort extratoPort;
+    private final CorretorRepositoryPort corretorRepo;
+    private final DataScopeResolver scopeResolver;
+    private final CurrentUserPort currentUser;
+    private final Clock clock;
+
+    public ExtratoComissaoUseCaseImpl(ExtratoComissaoPort extratoPort,
+                                      CorretorRepositoryPort corretorRepo,
+                                      DataScopeResolver scopeResolver,
+                                      CurrentUserPort currentUser,
+                                      Clock clock) {
+        this.extratoPort = extratoPort;
+        this.corretorRepo = corretorRepo;
+        this.scopeResolver = scopeResolver;
+        this.currentUser = currentUser;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean checkAccess(Integer corretorId) {
+        String role = currentUser.role();
+        if (role != null && role.equalsIgnoreCase("CORRETOR")) {
+            Integer proprio = scopeResolver.corretorId();
+            if (!Objects.equals(proprio, corretorId)) {
+                log.warn("comissao.extrato permission denied actor={} corretorId={}", currentUser.username(), corretorId);
+                throw new AccessDeniedException("Corretor só pode consultar o próprio extrato.");
+            }
+        }
+        return corretorRepo.findById(new CorretorId(corretorId)).isPresent();
+    }
+
+    @Override
+    public Optional<ExtratoComissao> extrato(Integer corretorId, PeriodoExtrato periodo) {
+        String actor = currentUser.username();
+        log.info("comissao.extrato start actor={} corretorId={} de={} ate={}", actor, corretorId, periodo.de(), periodo.ate());
+        if (!checkAccess(corretorId)) return Optional.empty();
+
+        YearMonth atual = YearMonth.now(clock);
+        Map<YearMonth, ExtratoComissaoMes> porMes = new TreeMap<>();
+        extratoPort.findCachedMonths(corretorId, periodo.de(), periodo.ate()).forEach(m -> porMes.put(m.mes(), m));
+
+        List<YearMonth> faltantes = new ArrayList<>();
+        for (YearMonth m = periodo.de(); !m.isAfter(periodo.ate()); m = m.plusMonths(1)) {
+            if (!porMes.containsKey(m)) faltantes.add(m);
+        }
+        if (!faltantes.isEmpty()) {
+            // Uma consulta para o intervalo dos meses faltantes
+            Map<YearMonth, ExtratoComissaoMes> calculados = extratoPort
+                    .computeMonths(corretorId, faltantes.get(0), faltantes.get(faltantes.size() - 1))
+                    .stream().collect(Collectors.toMap(ExtratoComissaoMes::mes, Function.identity()));
+            List<YearMonth> encerrados = new ArrayList<>();
+            for (YearMonth m : faltantes) {
+                ExtratoComissaoMes mes = calculados.getOrDefault(m, ExtratoComissaoMes.vazio(m));
+                porMes.put(m, mes);
+                if (m.isBefore(atual)) encerrados.add(m);
+            }
+            if (!encerrados.isEmpty()) extratoPort.cacheMonths(corretorId, encerrados);
+        }
+
+        List<ExtratoComissaoMes> meses = List.copyOf(porMes.values());
+        long parcelas = 0;
+        BigDecimal valor = BigDecimal.ZERO;
+        BigDecimal comissao = BigDecimal.ZERO;
+        for (ExtratoComissaoMes m : meses) {
+            parcelas += m.parcelasPagas();
+            valor = valor.add(m.valorPago());
+            comissao = comissao.add(m.comissao());
+        }
+        log.info("comissao.extrato success actor={} corretorId={} months={} computed={}", actor, corretorId, meses.size(), faltantes.size());
+        return Optional.of(new ExtratoComissao(corretorId, periodo.de(), periodo.ate(), meses,
+                new ExtratoComissaoMes(null, parcelas, valor, comissao)));
+    }
+
+    // Transação somente leitura: necessária para o driver usar cursor no servidor (autocommit desligado)
+    @Override
+    @Transactional(readOnly = true)
+    public long streamItens(Integer corretorId, PeriodoExtrato periodo, Consumer<ExtratoComissaoItem> sink) {
+        String actor = currentUser.username();
+        long start = System.currentTimeMillis();
+        log.info("comissao.itens start actor={} corretorId={} de={} ate={}", actor, corretorId, periodo.de(), periodo.ate());
+        long rows = extratoPort.streamItens(corretorId, periodo.de(), periodo.ate(), sink);
+        log.info("comissao.itens success actor={} rows={} tookMs={}", actor, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+}
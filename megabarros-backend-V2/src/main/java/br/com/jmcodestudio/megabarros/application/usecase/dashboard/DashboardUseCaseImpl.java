@@ -0,0 +1,57 @@
+package br.com.jmcodestudio.megabarros.application.usecase.dashboard;
+
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.Dashboard;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardLinha;
+import br.com.jmcodestudio.megabarros.application.port.in.dashboard.DashboardUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.dashboard.ApoliceResumoPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class DashboardUseCaseImpl implements DashboardUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardUseCaseImpl.class);
+
+    private final ApoliceResumoPort resumoPort;
+    private final CurrentUserPort currentUser;
+
+    public DashboardUseCaseImpl(ApoliceResumoPort resumoPort, CurrentUserPort currentUser) {
+        this.resumoPort = resumoPort;
+        this.currentUser = currentUser;
+    }
+
+    @Override
+    public Dashboard load(DashboardFiltro filtro, Set<DashboardDimensao> agrupamento) {
+        log.info("dashboard.load start actor={} groupBy={} filtro={}", currentUser.username(), agrupamento, filtro);
+        List<DashboardLinha> linhas = resumoPort.aggregate(filtro, agrupamento);
+        // Total somado sobre os grupos já agregados
+        long quantidade = 0;
+        BigDecimal valor = BigDecimal.ZERO;
+        BigDecimal comissao = BigDecimal.ZERO;
+        for (DashboardLinha l : linhas) {
+            quantidade += l.quantidade();
+            valor = valor.add(l.valorTotal());
+            comissao = comissao.add(l.comissaoTotal());
+        }
+        return new Dashboard(linhas, new DashboardLinha(null, null, null, null, quantidade, valor, comissao));
+    }
+
+    @Override
+    public int rebuildResumo() {
+        log.info("dashboard.rebuild start actor=system");
+        int corrigidos = resumoPort.rebuild();
+        if (corrigidos > 0) {
+            log.warn("dashboard.rebuild drift corrected groups={}", corrigidos);
+        }
+        log.info("dashboard.rebuild success actor=system corrected={}", corrigidos);
+        return corrigidos;
+    }
+}
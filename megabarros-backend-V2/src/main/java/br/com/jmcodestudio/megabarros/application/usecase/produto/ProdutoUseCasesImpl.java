@@ -8,6 +8,7 @@ import br.com.jmcodestudio.megabarros.application.port.in.produto.DeleteProdutoU
 import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
 import br.com.jmcodestudio.megabarros.application.port.out.produto.ProdutoRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +20,14 @@ public class ProdutoUseCasesImpl implements CreateProdutoUseCase, DeleteProdutoU
     private final ProdutoRepositoryPort produtoRepo;
     private final ApoliceQueryPort apoliceQuery;
     private final CurrentUserPort currentUser;
+    private final SeguradoraCatalogPort catalog;
 
-    public ProdutoUseCasesImpl(ProdutoRepositoryPort produtoRepo, ApoliceQueryPort apoliceQuery, CurrentUserPort currentUser) {
+    public ProdutoUseCasesImpl(ProdutoRepositoryPort produtoRepo, ApoliceQueryPort apoliceQuery,
+                               CurrentUserPort currentUser, SeguradoraCatalogPort catalog) {
         this.produtoRepo = produtoRepo;
         this.apoliceQuery = apoliceQuery;
         this.currentUser = currentUser;
+        this.catalog = catalog;
     }
 
     @Override
@@ -33,8 +37,10 @@ public class ProdutoUseCasesImpl implements CreateProdutoUseCase, DeleteProdutoU
         if (role != null && role.equalsIgnoreCase("CORRETOR")) {
             throw new AccessDeniedException("Corretores não podem cadastrar produtos.");
         }
-        return produtoRepo.save(new Produto(null, SeguradoraId.of(produto.seguradoraId().value()),
+        Produto created = produtoRepo.save(new Produto(null, SeguradoraId.of(produto.seguradoraId().value()),
                 produto.nome(), produto.tipo()));
+        catalog.invalidate();
+        return created;
     }
 
     @Override
@@ -48,5 +54,6 @@ public class ProdutoUseCasesImpl implements CreateProdutoUseCase, DeleteProdutoU
             throw new IllegalStateException("Não é possível excluir o produto: existem apólices vinculadas.");
         }
         produtoRepo.deleteById(id);
+        catalog.invalidate();
     }
 }
@@ -0,0 +1,52 @@
+package br.com.jmcodestudio.megabarros.application.usecase.scope;
+
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorClienteQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Resolve o escopo de dados do usuário atual. Só CORRETOR consulta o banco, e apenas os vínculos
+ * (até o limite para lista inline, por índice): o id do corretor vem do claim do access token.
+ * Tokens sem o claim (emitidos antes dele existir) ainda resolvem o id pelo usuário.
+ */
+@Component
+public class DataScopeResolver {
+
+    private final CurrentUserPort currentUser;
+    private final CorretorQueryPort corretorQuery;
+    private final CorretorClienteQueryPort corretorClienteQuery;
+    private final int maxInlineIds;
+
+    public DataScopeResolver(CurrentUserPort currentUser,
+                             CorretorQueryPort corretorQuery,
+                             CorretorClienteQueryPort corretorClienteQuery,
+                             @Value("${DATA_SCOPE_MAX_INLINE_IDS:1000}") int maxInlineIds) {
+        this.currentUser = currentUser;
+        this.corretorQuery = corretorQuery;
+        this.corretorClienteQuery = corretorClienteQuery;
+        this.maxInlineIds = Math.max(0, maxInlineIds);
+    }
+
+    public DataScope current() {
+        String role = currentUser.role();
+        if (role == null || !role.equalsIgnoreCase("CORRETOR")) return DataScope.all();
+        Integer corretorId = corretorId();
+        if (corretorId == null) return DataScope.corretor(null, List.of());
+
+        // Um a mais que o limite indica carteira grande: as consultas passam a usar subconsulta
+        List<Integer> ids = corretorClienteQuery.findIdsByCorretorId(corretorId, maxInlineIds + 1);
+        return DataScope.corretor(corretorId, ids.size() > maxInlineIds ? null : ids);
+    }
+
+    // Id do corretor do usuário atual (nulo se não houver cadastro de corretor)
+    public Integer corretorId() {
+        Integer claim = currentUser.corretorId();
+        if (claim != null) return claim;
+        return corretorQuery.findCorretorIdByUsuario(currentUser.userId(), currentUser.username());
+    }
+}
@@ -10,11 +10,13 @@ import br.com.jmcodestudio.megabarros.application.port.in.seguradora.UpdateSegur
 import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
 import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
 import br.com.jmcodestudio.megabarros.application.port.out.produto.ProdutoRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
 import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -31,15 +33,18 @@ public class SeguradoraUseCasesImpl implements
     private final ProdutoRepositoryPort produtoRepo;
     private final ApoliceQueryPort apoliceQuery;
     private final CurrentUserPort currentUser;
+    private final SeguradoraCatalogPort catalog;
 
     public SeguradoraUseCasesImpl(SeguradoraRepositoryPort seguradoraRepo,
                                   ProdutoRepositoryPort produtoRepo,
                                   ApoliceQueryPort apoliceQuery,
-                                  CurrentUserPort currentUser) {
+                                  CurrentUserPort currentUser,
+                                  SeguradoraCatalogPort catalog) {
         this.seguradoraRepo = seguradoraRepo;
         this.produtoRepo = produtoRepo;
         this.apoliceQuery = apoliceQuery;
         this.currentUser = currentUser;
+        this.catalog = catalog;
     }
 
     @Override
@@ -56,22 +61,22 @@ public class SeguradoraUseCasesImpl implements
         Seguradora created = seguradoraRepo.save(new Seguradora(null, seguradora.nome(), List.of()));
 
         List<Produto> produtosCriados = List.of();
-        if (seguradora.produtos() != null) {
-            produtosCriados = seguradora.produtos().stream()
-                    .map(p -> produtoRepo.save(new Produto(null, SeguradoraId.of(created.id().value()), p.nome(), p.tipo())))
-                    .toList();
+        if (seguradora.produtos() != null && !seguradora.produtos().isEmpty()) {
+            produtosCriados = produtoRepo.saveAll(seguradora.produtos().stream()
+                    .map(p -> new Produto(null, SeguradoraId.of(created.id().value()), p.nome(), p.tipo()))
+                    .toList());
         }
         Seguradora res = new Seguradora(created.id(), created.nome(), produtosCriados);
+        catalog.invalidate();
         log.info("seguradora.create success actor={} id={} produtosCount={}", actor, res.id().value(), res.produtos().size());
         return res;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // Sem transação própria: com o catálogo em memória a leitura não pega conexão do pool
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Seguradora> listAll() {
-        var list = seguradoraRepo.findAll().stream()
-                .map(s -> new Seguradora(s.id(), s.nome(), produtoRepo.findBySeguradoraId(s.id())))
-                .toList();
+        var list = catalog.findAll();
         log.info("seguradora.listAll actor={} role={} count={}", currentUser.username(), currentUser.role(), list.size());
         return list;
     }
@@ -94,6 +99,7 @@ public class SeguradoraUseCasesImpl implements
                     existing.produtos()));
             List<Produto> produtos = produtoRepo.findBySeguradoraId(saved.id());
             Seguradora res = new Seguradora(saved.id(), saved.nome(), produtos);
+            catalog.invalidate();
             log.info("seguradora.update success actor={} id={}", actor, id.value());
             return res;
         });
@@ -109,19 +115,14 @@ public class SeguradoraUseCasesImpl implements
             throw new AccessDeniedException("Corretores não podem excluir seguradoras.");
         }
 
-        if (apoliceQuery.existsBySeguradoraId(id)) {
+        // Uma consulta para a seguradora e todos os produtos; depois uma exclusão em lote
+        if (apoliceQuery.existsBySeguradoraOrProdutos(id)) {
             log.warn("seguradora.delete conflict apolices-exist actor={} id={}", actor, id.value());
-            throw new IllegalStateException("Não é possível excluir a seguradora: existem apólices vinculadas.");
-        }
-        List<Produto> produtos = produtoRepo.findBySeguradoraId(id);
-        for (Produto p : produtos) {
-            if (apoliceQuery.existsByProdutoId(p.id())) {
-                log.warn("seguradora.delete conflict apolices-by-prod actor={} produtoId={}", actor, p.id().value());
-                throw new IllegalStateException("Não é possível excluir a seguradora: apólices vinculadas a produtos.");
-            }
-            produtoRepo.deleteById(p.id());
+            throw new IllegalStateException("Não é possível excluir a seguradora: existem apólices vinculadas à seguradora ou a seus produtos.");
         }
+        int produtos = produtoRepo.deleteBySeguradoraId(id);
         seguradoraRepo.deleteById(id);
-        log.info("seguradora.delete success actor={} id={}", actor, id.value());
+        catalog.invalidate();
+        log.info("seguradora.delete success actor={} id={} produtosCount={}", actor, id.value(), produtos);
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package br.com.jmcodestudio.megabarros.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Habilita os jobs agendados (@Scheduled). Cada job tem sua própria propriedade *_ENABLED
+ * para ser desligado por instância.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // Relógio dos jobs e consultas ("hoje" de referência, métricas de atraso) e da idade dos caches em memória; substituível em testes
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
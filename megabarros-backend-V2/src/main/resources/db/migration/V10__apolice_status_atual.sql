@@ -0,0 +1,64 @@
+-- Projeção do status atual da apólice: coluna apolice.status_atual mantida por trigger
+-- a partir da linha aberta (data_fim IS NULL) de apolice_status.
+
+-- 1) Garante no máximo um status aberto por apólice (mantém o mais recente)
+WITH ranked AS (
+    SELECT id_status,
+           ROW_NUMBER() OVER (PARTITION BY id_apolice ORDER BY data_inicio DESC NULLS LAST, id_status DESC) AS rn
+    FROM public.apolice_status
+    WHERE data_fim IS NULL
+)
+UPDATE public.apolice_status s
+SET data_fim = now()
+FROM ranked r
+WHERE r.id_status = s.id_status
+  AND r.rn > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_apolice_status_aberto
+    ON public.apolice_status (id_apolice) WHERE data_fim IS NULL;
+
+-- 2) Coluna de projeção + backfill
+ALTER TABLE public.apolice ADD COLUMN IF NOT EXISTS status_atual VARCHAR(50);
+
+UPDATE public.apolice a
+SET status_atual = s.status
+FROM public.apolice_status s
+WHERE s.id_apolice = a.id_apolice
+  AND s.data_fim IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_apolice_status_atual ON public.apolice (status_atual);
+CREATE INDEX IF NOT EXISTS idx_apolice_cc_status ON public.apolice (id_corretor_cliente, status_atual);
+
+-- 3) Sincronização por trigger de instrução (uma atualização por comando, não por linha)
+CREATE OR REPLACE FUNCTION public.fn_apolice_sync_status_atual() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    UPDATE public.apolice a
+    SET status_atual = s.status
+    FROM (SELECT DISTINCT id_apolice FROM alteradas) t
+             LEFT JOIN public.apolice_status s
+                       ON s.id_apolice = t.id_apolice AND s.data_fim IS NULL
+    WHERE a.id_apolice = t.id_apolice
+      AND a.status_atual IS DISTINCT FROM s.status;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_apolice_status_ins ON public.apolice_status;
+CREATE TRIGGER trg_apolice_status_ins
+    AFTER INSERT ON public.apolice_status
+    REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_sync_status_atual();
+
+DROP TRIGGER IF EXISTS trg_apolice_status_upd ON public.apolice_status;
+CREATE TRIGGER trg_apolice_status_upd
+    AFTER UPDATE ON public.apolice_status
+    REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_sync_status_atual();
+
+DROP TRIGGER IF EXISTS trg_apolice_status_del ON public.apolice_status;
+CREATE TRIGGER trg_apolice_status_del
+    AFTER DELETE ON public.apolice_status
+    REFERENCING OLD TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_sync_status_atual();
@@ -0,0 +1,48 @@
+-- Troca IDENTITY/SERIAL por sequências com incremento 50 nas tabelas mapeadas por entidades,
+-- permitindo que o Hibernate pré-aloque ids (pooled-lo) e agrupe INSERTs em batch JDBC.
+-- O DEFAULT da coluna continua apontando para a sequência, então INSERTs diretos via SQL seguem funcionando.
+DO $$
+DECLARE
+    t RECORD;
+    seq_antiga TEXT;
+    seq_nova TEXT;
+BEGIN
+    FOR t IN
+        SELECT * FROM (VALUES
+            ('usuario', 'id_usuario'),
+            ('refresh_token', 'id_refresh_token'),
+            ('audit_log', 'id_audit'),
+            ('cliente', 'id_cliente'),
+            ('cliente_endereco', 'id_endereco'),
+            ('seguradora', 'id_seguradora'),
+            ('produto', 'id_produto'),
+            ('corretor', 'id_corretor'),
+            ('apolice', 'id_apolice'),
+            ('apolice_status', 'id_status'),
+            ('apolice_cobertura', 'id_apolice_cobertura'),
+            ('beneficiario', 'id_beneficiario'),
+            ('parcela_apolice', 'id_parcela')
+        ) AS v(tabela, coluna)
+    LOOP
+        seq_nova := t.tabela || '_seq';
+
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = 'public' AND table_name = t.tabela
+                     AND column_name = t.coluna AND is_identity = 'YES') THEN
+            EXECUTE format('ALTER TABLE public.%I ALTER COLUMN %I DROP IDENTITY', t.tabela, t.coluna);
+        ELSE
+            seq_antiga := pg_get_serial_sequence('public.' || t.tabela, t.coluna);
+            EXECUTE format('ALTER TABLE public.%I ALTER COLUMN %I DROP DEFAULT', t.tabela, t.coluna);
+            IF seq_antiga IS NOT NULL THEN
+                EXECUTE format('DROP SEQUENCE %s', seq_antiga);
+            END IF;
+        END IF;
+
+        EXECUTE format('CREATE SEQUENCE public.%I INCREMENT BY 50 OWNED BY public.%I.%I',
+                       seq_nova, t.tabela, t.coluna);
+        EXECUTE format('SELECT setval(''public.%I'', COALESCE((SELECT MAX(%I) FROM public.%I), 0) + 1, false)',
+                       seq_nova, t.coluna, t.tabela);
+        EXECUTE format('ALTER TABLE public.%I ALTER COLUMN %I SET DEFAULT nextval(''public.%I'')',
+                       t.tabela, t.coluna, seq_nova);
+    END LOOP;
+END $$;
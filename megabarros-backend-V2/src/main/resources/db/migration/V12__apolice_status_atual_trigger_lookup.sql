@@ -0,0 +1,20 @@
+-- Com lotes pequenos (inserts em batch reescritos em vários statements) o planner não conhece o tamanho
+-- da transition table e escolhia hash join com seq scan em apolice_status a cada disparo do trigger.
+-- A subconsulta correlacionada força a busca pelo índice parcial uq_apolice_status_aberto por apólice alterada.
+CREATE OR REPLACE FUNCTION public.fn_apolice_sync_status_atual() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    UPDATE public.apolice a
+    SET status_atual = t.status
+    FROM (SELECT d.id_apolice,
+                 (SELECT s.status
+                    FROM public.apolice_status s
+                   WHERE s.id_apolice = d.id_apolice
+                     AND s.data_fim IS NULL) AS status
+            FROM (SELECT DISTINCT id_apolice FROM alteradas) d) t
+    WHERE a.id_apolice = t.id_apolice
+      AND a.status_atual IS DISTINCT FROM t.status;
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,4 @@
+-- Índice parcial para o job de vencimento: só apólices ainda ativas, na ordem em que vencem
+CREATE INDEX IF NOT EXISTS idx_apolice_ativa_vigencia_fim
+    ON public.apolice (vigencia_fim, id_apolice)
+    WHERE status_atual = 'ATIVA';
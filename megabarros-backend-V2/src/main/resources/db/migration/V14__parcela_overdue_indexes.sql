@@ -0,0 +1,10 @@
+-- Parcelas em aberto por vencimento: consulta de inadimplência (parcelas pagas ficam fora do índice)
+CREATE INDEX IF NOT EXISTS idx_parcela_em_aberto_vencimento
+    ON public.parcela_apolice (data_vencimento, id_parcela)
+    WHERE status_pagamento IS DISTINCT FROM 'PAGA';
+
+-- Parcelas ainda não marcadas como ATRASADA: o job não percorre as que já foram marcadas
+CREATE INDEX IF NOT EXISTS idx_parcela_pendente_vencimento
+    ON public.parcela_apolice (data_vencimento, id_parcela)
+    WHERE status_pagamento IS DISTINCT FROM 'PAGA'
+      AND status_pagamento IS DISTINCT FROM 'ATRASADA';
@@ -0,0 +1,113 @@
+-- Resumo mensal de prêmio e comissão por (mês de emissão, seguradora, produto, corretor) para o dashboard.
+-- Apólices CANCELADA não contam. Mantido por triggers de instrução em apolice; a reconciliação
+-- (ApoliceResumoRebuildJob) recalcula tudo a partir de apolice e corrige divergências.
+CREATE TABLE IF NOT EXISTS public.apolice_resumo_mensal (
+    mes            DATE           NOT NULL,
+    id_seguradora  INT            NOT NULL,
+    id_produto     INT            NOT NULL,
+    id_corretor    INT            NOT NULL,
+    quantidade     BIGINT         NOT NULL DEFAULT 0,
+    valor_total    NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    comissao_total NUMERIC(20, 6) NOT NULL DEFAULT 0,
+    CONSTRAINT pk_apolice_resumo_mensal PRIMARY KEY (mes, id_seguradora, id_produto, id_corretor)
+);
+
+-- Cada comando aplica o delta agregado por grupo (uma linha de resumo por grupo, não por apólice).
+-- ORDER BY na chave: transações concorrentes travam as linhas de resumo na mesma ordem.
+CREATE OR REPLACE FUNCTION public.fn_apolice_resumo_sync() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO public.apolice_resumo_mensal AS r
+               (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total, comissao_total)
+        SELECT date_trunc('month', n.data_emissao)::date, n.id_seguradora, n.id_produto, cc.id_corretor,
+               count(*), sum(n.valor), sum(n.valor * n.comissao_percentual / 100)
+          FROM novas n
+          JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = n.id_corretor_cliente
+         WHERE n.status_atual IS DISTINCT FROM 'CANCELADA'
+         GROUP BY 1, 2, 3, 4
+         ORDER BY 1, 2, 3, 4
+        ON CONFLICT (mes, id_seguradora, id_produto, id_corretor) DO UPDATE
+            SET quantidade     = r.quantidade + EXCLUDED.quantidade,
+                valor_total    = r.valor_total + EXCLUDED.valor_total,
+                comissao_total = r.comissao_total + EXCLUDED.comissao_total;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO public.apolice_resumo_mensal AS r
+               (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total, comissao_total)
+        SELECT date_trunc('month', o.data_emissao)::date, o.id_seguradora, o.id_produto, cc.id_corretor,
+               -count(*), -sum(o.valor), -sum(o.valor * o.comissao_percentual / 100)
+          FROM antigas o
+          JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = o.id_corretor_cliente
+         WHERE o.status_atual IS DISTINCT FROM 'CANCELADA'
+         GROUP BY 1, 2, 3, 4
+         ORDER BY 1, 2, 3, 4
+        ON CONFLICT (mes, id_seguradora, id_produto, id_corretor) DO UPDATE
+            SET quantidade     = r.quantidade + EXCLUDED.quantidade,
+                valor_total    = r.valor_total + EXCLUDED.valor_total,
+                comissao_total = r.comissao_total + EXCLUDED.comissao_total;
+
+    ELSE
+        -- UPDATE: só apólices cujas colunas do resumo mudaram (a maioria das trocas de status
+        -- entre estados não cancelados não gera delta); sai a versão antiga, entra a nova
+        INSERT INTO public.apolice_resumo_mensal AS r
+               (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total, comissao_total)
+        SELECT date_trunc('month', d.data_emissao)::date, d.id_seguradora, d.id_produto, cc.id_corretor,
+               sum(d.sinal), sum(d.sinal * d.valor), sum(d.sinal * d.valor * d.comissao_percentual / 100)
+          FROM antigas o
+          JOIN novas n ON n.id_apolice = o.id_apolice
+         CROSS JOIN LATERAL (VALUES
+                   (-1, o.data_emissao, o.id_seguradora, o.id_produto, o.id_corretor_cliente,
+                    o.valor, o.comissao_percentual, o.status_atual),
+                   (1, n.data_emissao, n.id_seguradora, n.id_produto, n.id_corretor_cliente,
+                    n.valor, n.comissao_percentual, n.status_atual))
+               AS d(sinal, data_emissao, id_seguradora, id_produto, id_corretor_cliente,
+                    valor, comissao_percentual, status_atual)
+          JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = d.id_corretor_cliente
+         WHERE (o.data_emissao, o.id_seguradora, o.id_produto, o.id_corretor_cliente, o.valor,
+                o.comissao_percentual, o.status_atual IS DISTINCT FROM 'CANCELADA')
+               IS DISTINCT FROM
+               (n.data_emissao, n.id_seguradora, n.id_produto, n.id_corretor_cliente, n.valor,
+                n.comissao_percentual, n.status_atual IS DISTINCT FROM 'CANCELADA')
+           AND d.status_atual IS DISTINCT FROM 'CANCELADA'
+         GROUP BY 1, 2, 3, 4
+        HAVING sum(d.sinal) <> 0 OR sum(d.sinal * d.valor) <> 0
+            OR sum(d.sinal * d.valor * d.comissao_percentual / 100) <> 0
+         ORDER BY 1, 2, 3, 4
+        ON CONFLICT (mes, id_seguradora, id_produto, id_corretor) DO UPDATE
+            SET quantidade     = r.quantidade + EXCLUDED.quantidade,
+                valor_total    = r.valor_total + EXCLUDED.valor_total,
+                comissao_total = r.comissao_total + EXCLUDED.comissao_total;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_apolice_resumo_ins ON public.apolice;
+CREATE TRIGGER trg_apolice_resumo_ins
+    AFTER INSERT ON public.apolice
+    REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_resumo_sync();
+
+DROP TRIGGER IF EXISTS trg_apolice_resumo_upd ON public.apolice;
+CREATE TRIGGER trg_apolice_resumo_upd
+    AFTER UPDATE ON public.apolice
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_resumo_sync();
+
+DROP TRIGGER IF EXISTS trg_apolice_resumo_del ON public.apolice;
+CREATE TRIGGER trg_apolice_resumo_del
+    AFTER DELETE ON public.apolice
+    REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_resumo_sync();
+
+-- Carga inicial
+INSERT INTO public.apolice_resumo_mensal (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total, comissao_total)
+SELECT date_trunc('month', a.data_emissao)::date, a.id_seguradora, a.id_produto, cc.id_corretor,
+       count(*), sum(a.valor), sum(a.valor * a.comissao_percentual / 100)
+  FROM public.apolice a
+  JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
+ WHERE a.status_atual IS DISTINCT FROM 'CANCELADA'
+ GROUP BY 1, 2, 3, 4
+ON CONFLICT DO NOTHING;
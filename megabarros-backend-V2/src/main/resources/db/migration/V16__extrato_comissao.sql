@@ -0,0 +1,21 @@
+-- Extrato de comissão do corretor: parcelas PAGA por mês de pagamento.
+-- Índices cobrindo o caminho corretor_cliente -> apolice -> parcela_apolice sem ler o heap.
+CREATE INDEX IF NOT EXISTS idx_apolice_cc_comissao
+    ON public.apolice (id_corretor_cliente, id_apolice) INCLUDE (comissao_percentual);
+
+CREATE INDEX IF NOT EXISTS idx_parcela_paga_apolice_pagamento
+    ON public.parcela_apolice (id_apolice, data_pagamento) INCLUDE (valor_parcela)
+    WHERE status_pagamento = 'PAGA';
+
+-- Totais de meses encerrados (anteriores ao mês corrente), gravados na primeira consulta
+CREATE TABLE IF NOT EXISTS public.extrato_comissao_mensal (
+    id_corretor    INT            NOT NULL,
+    mes            DATE           NOT NULL,
+    parcelas_pagas BIGINT         NOT NULL,
+    valor_pago     NUMERIC(18, 2) NOT NULL,
+    comissao_total NUMERIC(20, 6) NOT NULL,
+    gerado_em      TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_extrato_comissao_mensal PRIMARY KEY (id_corretor, mes),
+    CONSTRAINT fk_extrato_comissao_corretor FOREIGN KEY (id_corretor)
+        REFERENCES public.corretor (id_corretor) ON DELETE CASCADE
+);
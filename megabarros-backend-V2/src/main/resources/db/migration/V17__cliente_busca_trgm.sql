@@ -0,0 +1,9 @@
+-- Busca de clientes (ClienteSearchAdapter). As expressões dos índices são repetidas exatamente nas consultas.
+-- pg_trgm: trecho/semelhança de nome e e-mail. CPF/CNPJ usa o índice único já existente (busca exata).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_cliente_nome_trgm ON public.cliente USING gin (lower(nome_cliente) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_cliente_email_trgm ON public.cliente USING gin (lower(email) gin_trgm_ops);
+
+-- Nome começando pelo termo, já na ordem da página: com collation "C" o LIKE 'termo%' vira faixa do B-tree
+-- e o keyset (nome, id) continua no índice, sem ordenar os candidatos
+CREATE INDEX IF NOT EXISTS idx_cliente_nome_prefixo ON public.cliente ((lower(nome_cliente) COLLATE "C"), id_cliente);
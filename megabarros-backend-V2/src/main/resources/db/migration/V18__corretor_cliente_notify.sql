@@ -0,0 +1,30 @@
+-- Avisa a aplicação (LISTEN corretor_cliente_changed) para descartar os vínculos do corretor mantidos
+-- em memória (CorretorClienteLinkIndex). O aviso só é entregue no commit, e payloads iguais na mesma
+-- transação chegam uma única vez; TRUNCATE descarta tudo ('*').
+CREATE OR REPLACE FUNCTION public.fn_corretor_cliente_notify() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        PERFORM pg_notify('corretor_cliente_changed', '*');
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM pg_notify('corretor_cliente_changed', OLD.id_corretor::text);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM pg_notify('corretor_cliente_changed', NEW.id_corretor::text);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_corretor_cliente_notify ON public.corretor_cliente;
+CREATE TRIGGER trg_corretor_cliente_notify
+    AFTER INSERT OR UPDATE OR DELETE ON public.corretor_cliente
+    FOR EACH ROW EXECUTE FUNCTION public.fn_corretor_cliente_notify();
+
+DROP TRIGGER IF EXISTS trg_corretor_cliente_notify_truncate ON public.corretor_cliente;
+CREATE TRIGGER trg_corretor_cliente_notify_truncate
+    AFTER TRUNCATE ON public.corretor_cliente
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_corretor_cliente_notify();
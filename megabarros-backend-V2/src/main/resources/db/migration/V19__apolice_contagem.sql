@@ -0,0 +1,104 @@
+-- Quantidade de apólices (todos os status) por seguradora e por produto: contagens do catálogo e
+-- travas de exclusão viram leitura por chave primária. Mantidas por triggers de instrução em apolice,
+-- na mesma transação da escrita (mesmo esquema do resumo mensal da V15).
+CREATE TABLE IF NOT EXISTS public.apolice_contagem_seguradora (
+    id_seguradora INT    NOT NULL,
+    quantidade    BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_apolice_contagem_seguradora PRIMARY KEY (id_seguradora),
+    CONSTRAINT fk_apolice_contagem_seguradora FOREIGN KEY (id_seguradora)
+        REFERENCES public.seguradora (id_seguradora) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS public.apolice_contagem_produto (
+    id_produto INT    NOT NULL,
+    quantidade BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_apolice_contagem_produto PRIMARY KEY (id_produto),
+    CONSTRAINT fk_apolice_contagem_produto FOREIGN KEY (id_produto)
+        REFERENCES public.produto (id_produto) ON DELETE CASCADE
+);
+
+-- Um delta por seguradora/produto afetado, não por apólice; as duas tabelas numa instrução só (CTE).
+-- ORDER BY na chave: transações concorrentes travam as linhas de contagem na mesma ordem.
+-- UPDATE só gera delta quando a apólice troca de seguradora ou produto (trocas de status passam sem linhas).
+CREATE OR REPLACE FUNCTION public.fn_apolice_contagem_sync() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        DELETE FROM public.apolice_contagem_seguradora;
+        DELETE FROM public.apolice_contagem_produto;
+
+    ELSIF TG_OP = 'INSERT' THEN
+        WITH delta AS (SELECT n.id_seguradora, n.id_produto, 1 AS sinal FROM novas n),
+             seg AS (
+                 INSERT INTO public.apolice_contagem_seguradora AS c (id_seguradora, quantidade)
+                 SELECT id_seguradora, sum(sinal) FROM delta GROUP BY id_seguradora ORDER BY id_seguradora
+                 ON CONFLICT (id_seguradora) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade)
+        INSERT INTO public.apolice_contagem_produto AS c (id_produto, quantidade)
+        SELECT id_produto, sum(sinal) FROM delta GROUP BY id_produto ORDER BY id_produto
+        ON CONFLICT (id_produto) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        WITH delta AS (SELECT o.id_seguradora, o.id_produto, -1 AS sinal FROM antigas o),
+             seg AS (
+                 INSERT INTO public.apolice_contagem_seguradora AS c (id_seguradora, quantidade)
+                 SELECT id_seguradora, sum(sinal) FROM delta GROUP BY id_seguradora ORDER BY id_seguradora
+                 ON CONFLICT (id_seguradora) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade)
+        INSERT INTO public.apolice_contagem_produto AS c (id_produto, quantidade)
+        SELECT id_produto, sum(sinal) FROM delta GROUP BY id_produto ORDER BY id_produto
+        ON CONFLICT (id_produto) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade;
+
+    ELSE
+        WITH delta AS (
+                 SELECT d.id_seguradora, d.id_produto, d.sinal
+                   FROM antigas o
+                   JOIN novas n ON n.id_apolice = o.id_apolice
+                  CROSS JOIN LATERAL (VALUES (o.id_seguradora, o.id_produto, -1),
+                                             (n.id_seguradora, n.id_produto, 1))
+                        AS d(id_seguradora, id_produto, sinal)
+                  WHERE (o.id_seguradora, o.id_produto) IS DISTINCT FROM (n.id_seguradora, n.id_produto)),
+             seg AS (
+                 INSERT INTO public.apolice_contagem_seguradora AS c (id_seguradora, quantidade)
+                 SELECT id_seguradora, sum(sinal) FROM delta GROUP BY id_seguradora
+                 HAVING sum(sinal) <> 0 ORDER BY id_seguradora
+                 ON CONFLICT (id_seguradora) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade)
+        INSERT INTO public.apolice_contagem_produto AS c (id_produto, quantidade)
+        SELECT id_produto, sum(sinal) FROM delta GROUP BY id_produto
+        HAVING sum(sinal) <> 0 ORDER BY id_produto
+        ON CONFLICT (id_produto) DO UPDATE SET quantidade = c.quantidade + EXCLUDED.quantidade;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_apolice_contagem_ins ON public.apolice;
+CREATE TRIGGER trg_apolice_contagem_ins
+    AFTER INSERT ON public.apolice
+    REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_contagem_sync();
+
+DROP TRIGGER IF EXISTS trg_apolice_contagem_upd ON public.apolice;
+CREATE TRIGGER trg_apolice_contagem_upd
+    AFTER UPDATE ON public.apolice
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_contagem_sync();
+
+DROP TRIGGER IF EXISTS trg_apolice_contagem_del ON public.apolice;
+CREATE TRIGGER trg_apolice_contagem_del
+    AFTER DELETE ON public.apolice
+    REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_contagem_sync();
+
+DROP TRIGGER IF EXISTS trg_apolice_contagem_truncate ON public.apolice;
+CREATE TRIGGER trg_apolice_contagem_truncate
+    AFTER TRUNCATE ON public.apolice
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_contagem_sync();
+
+-- Carga inicial
+INSERT INTO public.apolice_contagem_seguradora (id_seguradora, quantidade)
+SELECT id_seguradora, count(*) FROM public.apolice GROUP BY id_seguradora
+ON CONFLICT DO NOTHING;
+
+INSERT INTO public.apolice_contagem_produto (id_produto, quantidade)
+SELECT id_produto, count(*) FROM public.apolice GROUP BY id_produto
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,34 @@
+-- Avisa a aplicação (LISTEN seguradora_catalog_changed) para refazer o catálogo servido da memória
+-- (SeguradoraCatalogCache e o JSON pré-serializado de GET /api/seguradoras). O aviso só é entregue no
+-- commit, e payloads iguais na mesma transação chegam uma única vez.
+-- 'catalogo': seguradora ou produto mudou. 'contagem': mudou alguma contagem da V19.
+CREATE OR REPLACE FUNCTION public.fn_seguradora_catalog_notify() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM pg_notify('seguradora_catalog_changed', TG_ARGV[0]);
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_seguradora_catalog_notify ON public.seguradora;
+CREATE TRIGGER trg_seguradora_catalog_notify
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.seguradora
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_seguradora_catalog_notify('catalogo');
+
+DROP TRIGGER IF EXISTS trg_produto_catalog_notify ON public.produto;
+CREATE TRIGGER trg_produto_catalog_notify
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.produto
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_seguradora_catalog_notify('catalogo');
+
+-- Por linha: as triggers da V19 rodam a cada UPDATE de apolice (trocas de status inclusive) e quase
+-- sempre não gravam nada; por instrução, cada uma dessas avisaria sem necessidade
+DROP TRIGGER IF EXISTS trg_apolice_contagem_seguradora_notify ON public.apolice_contagem_seguradora;
+CREATE TRIGGER trg_apolice_contagem_seguradora_notify
+    AFTER INSERT OR UPDATE OR DELETE ON public.apolice_contagem_seguradora
+    FOR EACH ROW EXECUTE FUNCTION public.fn_seguradora_catalog_notify('contagem');
+
+DROP TRIGGER IF EXISTS trg_apolice_contagem_produto_notify ON public.apolice_contagem_produto;
+CREATE TRIGGER trg_apolice_contagem_produto_notify
+    AFTER INSERT OR UPDATE OR DELETE ON public.apolice_contagem_produto
+    FOR EACH ROW EXECUTE FUNCTION public.fn_seguradora_catalog_notify('contagem');
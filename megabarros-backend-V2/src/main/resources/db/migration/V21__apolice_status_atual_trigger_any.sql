@@ -0,0 +1,21 @@
+-- Substitui a versão da V12: com estatísticas em apolice o planner voltava ao hash join com seq scan
+-- de apolice a cada statement do batch (importação em massa, cancelamento em lote).
+-- "= ANY (ARRAY(...))" mantém a busca pela PK de apolice e a subconsulta correlacionada usa o índice
+-- parcial uq_apolice_status_aberto; linhas cujo status_atual já está correto não são reescritas.
+CREATE OR REPLACE FUNCTION public.fn_apolice_sync_status_atual() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    UPDATE public.apolice a
+    SET status_atual = (SELECT s.status
+                          FROM public.apolice_status s
+                         WHERE s.id_apolice = a.id_apolice
+                           AND s.data_fim IS NULL)
+    WHERE a.id_apolice = ANY (ARRAY(SELECT DISTINCT id_apolice FROM alteradas))
+      AND a.status_atual IS DISTINCT FROM (SELECT s.status
+                                             FROM public.apolice_status s
+                                            WHERE s.id_apolice = a.id_apolice
+                                              AND s.data_fim IS NULL);
+    RETURN NULL;
+END;
+$$;
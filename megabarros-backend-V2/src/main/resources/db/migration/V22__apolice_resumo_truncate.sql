@@ -0,0 +1,15 @@
+-- TRUNCATE em apolice (inclusive em cascata) não dispara os triggers de INSERT/UPDATE/DELETE de V15 e deixava
+-- apolice_resumo_mensal com os totais antigos até a próxima reconciliação. Sem apólices, o resumo é vazio.
+CREATE OR REPLACE FUNCTION public.fn_apolice_resumo_truncate() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    DELETE FROM public.apolice_resumo_mensal;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_apolice_resumo_truncate ON public.apolice;
+CREATE TRIGGER trg_apolice_resumo_truncate
+    AFTER TRUNCATE ON public.apolice
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_apolice_resumo_truncate();
@@ -0,0 +1,158 @@
+-- Meses encerrados do extrato (V16) mudam depois de gravados: importação com parcelas PAGA retroativas,
+-- exclusão de parcela, troca de comissão ou de vínculo na apólice e troca de corretor no vínculo.
+-- Os triggers abaixo apagam os (corretor, mês) afetados; a próxima consulta recalcula e grava de novo.
+--
+-- Trava consultiva por corretor, a mesma que ExtratoComissaoAdapter.cacheMonths toma antes de recalcular:
+-- quem invalida espera uma gravação em andamento terminar (e apaga o que ela gravou), e quem grava espera
+-- o commit de quem invalidou (e já recalcula com o pagamento novo).
+CREATE OR REPLACE FUNCTION public.fn_extrato_comissao_invalidar(p_corretores INT[], p_meses DATE[]) RETURNS void
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    -- Ordem fixa: transações concorrentes travam os corretores na mesma sequência
+    PERFORM pg_advisory_xact_lock(hashtext('extrato_comissao_mensal'), c.id_corretor)
+       FROM (SELECT DISTINCT unnest(p_corretores) AS id_corretor ORDER BY 1) c;
+    -- Mês nulo: todos os meses do corretor
+    DELETE FROM public.extrato_comissao_mensal e
+     USING unnest(p_corretores, p_meses) AS x(id_corretor, mes)
+     WHERE e.id_corretor = x.id_corretor
+       AND (x.mes IS NULL OR e.mes = x.mes);
+END;
+$$;
+
+-- Parcelas: só linhas PAGA (antes ou depois) contam; marcar ATRASADA ou gravar PENDENTE não invalida nada
+CREATE OR REPLACE FUNCTION public.fn_extrato_comissao_parcela() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    v_corretores INT[];
+    v_meses      DATE[];
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        DELETE FROM public.extrato_comissao_mensal;
+        RETURN NULL;
+
+    ELSIF TG_OP = 'INSERT' THEN
+        SELECT array_agg(x.id_corretor), array_agg(x.mes) INTO v_corretores, v_meses
+          FROM (SELECT DISTINCT cc.id_corretor, date_trunc('month', p.data_pagamento)::date AS mes
+                  FROM novas p
+                  JOIN public.apolice a ON a.id_apolice = p.id_apolice
+                  JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
+                 WHERE p.status_pagamento = 'PAGA' AND p.data_pagamento IS NOT NULL) x;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(x.id_corretor), array_agg(x.mes) INTO v_corretores, v_meses
+          FROM (SELECT DISTINCT cc.id_corretor, date_trunc('month', p.data_pagamento)::date AS mes
+                  FROM antigas p
+                  JOIN public.apolice a ON a.id_apolice = p.id_apolice
+                  JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
+                 WHERE p.status_pagamento = 'PAGA' AND p.data_pagamento IS NOT NULL) x;
+
+    ELSE
+        -- UPDATE: versão antiga e nova das parcelas que mudaram em algo que o extrato soma
+        SELECT array_agg(x.id_corretor), array_agg(x.mes) INTO v_corretores, v_meses
+          FROM (SELECT DISTINCT cc.id_corretor, date_trunc('month', p.data_pagamento)::date AS mes
+                  FROM antigas o
+                  JOIN novas n ON n.id_parcela = o.id_parcela
+                 CROSS JOIN LATERAL (VALUES (o.id_apolice, o.status_pagamento, o.data_pagamento),
+                                            (n.id_apolice, n.status_pagamento, n.data_pagamento))
+                       AS p(id_apolice, status_pagamento, data_pagamento)
+                  JOIN public.apolice a ON a.id_apolice = p.id_apolice
+                  JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = a.id_corretor_cliente
+                 WHERE (o.id_apolice, o.status_pagamento, o.data_pagamento, o.valor_parcela)
+                       IS DISTINCT FROM (n.id_apolice, n.status_pagamento, n.data_pagamento, n.valor_parcela)
+                   AND p.status_pagamento = 'PAGA' AND p.data_pagamento IS NOT NULL) x;
+    END IF;
+
+    IF v_corretores IS NOT NULL THEN
+        PERFORM public.fn_extrato_comissao_invalidar(v_corretores, v_meses);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_extrato_comissao_parcela_ins ON public.parcela_apolice;
+CREATE TRIGGER trg_extrato_comissao_parcela_ins
+    AFTER INSERT ON public.parcela_apolice
+    REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_parcela();
+
+DROP TRIGGER IF EXISTS trg_extrato_comissao_parcela_upd ON public.parcela_apolice;
+CREATE TRIGGER trg_extrato_comissao_parcela_upd
+    AFTER UPDATE ON public.parcela_apolice
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_parcela();
+
+DROP TRIGGER IF EXISTS trg_extrato_comissao_parcela_del ON public.parcela_apolice;
+CREATE TRIGGER trg_extrato_comissao_parcela_del
+    AFTER DELETE ON public.parcela_apolice
+    REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_parcela();
+
+-- TRUNCATE apolice ... CASCADE também trunca parcela_apolice e dispara este
+DROP TRIGGER IF EXISTS trg_extrato_comissao_parcela_truncate ON public.parcela_apolice;
+CREATE TRIGGER trg_extrato_comissao_parcela_truncate
+    AFTER TRUNCATE ON public.parcela_apolice
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_parcela();
+
+-- Apólice: comissão ou vínculo trocados mudam todos os meses com parcela paga, no corretor antigo e no novo.
+-- Exclusão não precisa de trigger: as parcelas saem antes (FK) e já invalidam.
+CREATE OR REPLACE FUNCTION public.fn_extrato_comissao_apolice() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    v_corretores INT[];
+    v_meses      DATE[];
+BEGIN
+    SELECT array_agg(x.id_corretor), array_agg(x.mes) INTO v_corretores, v_meses
+      FROM (SELECT DISTINCT cc.id_corretor, date_trunc('month', p.data_pagamento)::date AS mes
+              FROM antigas o
+              JOIN novas n ON n.id_apolice = o.id_apolice
+             CROSS JOIN LATERAL (VALUES (o.id_corretor_cliente), (n.id_corretor_cliente)) AS v(id_corretor_cliente)
+              JOIN public.corretor_cliente cc ON cc.id_corretor_cliente = v.id_corretor_cliente
+              JOIN public.parcela_apolice p ON p.id_apolice = n.id_apolice
+             WHERE (o.comissao_percentual, o.id_corretor_cliente)
+                   IS DISTINCT FROM (n.comissao_percentual, n.id_corretor_cliente)
+               AND p.status_pagamento = 'PAGA' AND p.data_pagamento IS NOT NULL) x;
+
+    IF v_corretores IS NOT NULL THEN
+        PERFORM public.fn_extrato_comissao_invalidar(v_corretores, v_meses);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_extrato_comissao_apolice_upd ON public.apolice;
+CREATE TRIGGER trg_extrato_comissao_apolice_upd
+    AFTER UPDATE ON public.apolice
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_apolice();
+
+-- Vínculo passado para outro corretor: os dois perdem o extrato inteiro (raro, e mês a mês sairia caro)
+CREATE OR REPLACE FUNCTION public.fn_extrato_comissao_vinculo() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    v_corretores INT[];
+BEGIN
+    SELECT array_agg(DISTINCT v.id_corretor) INTO v_corretores
+      FROM antigas o
+      JOIN novas n ON n.id_corretor_cliente = o.id_corretor_cliente
+     CROSS JOIN LATERAL (VALUES (o.id_corretor), (n.id_corretor)) AS v(id_corretor)
+     WHERE o.id_corretor IS DISTINCT FROM n.id_corretor;
+
+    IF v_corretores IS NOT NULL THEN
+        PERFORM public.fn_extrato_comissao_invalidar(v_corretores, array_fill(NULL::date, ARRAY[cardinality(v_corretores)]));
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_extrato_comissao_vinculo_upd ON public.corretor_cliente;
+CREATE TRIGGER trg_extrato_comissao_vinculo_upd
+    AFTER UPDATE ON public.corretor_cliente
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION public.fn_extrato_comissao_vinculo();
+
+-- Meses gravados antes desta versão podem já estar defasados
+DELETE FROM public.extrato_comissao_mensal;
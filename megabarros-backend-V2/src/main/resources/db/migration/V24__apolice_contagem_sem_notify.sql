@@ -0,0 +1,6 @@
+-- Os avisos 'contagem' da V20 (por linha em apolice_contagem_*) disparavam a cada apólice gravada,
+-- e o pg_notify serializa os commits de todas as transações que avisam. Para o catálogo bastam os
+-- avisos de seguradora/produto; as contagens entram na versão do catálogo por uma leitura periódica
+-- das próprias tabelas de contagem (SeguradoraCatalogCache).
+DROP TRIGGER IF EXISTS trg_apolice_contagem_seguradora_notify ON public.apolice_contagem_seguradora;
+DROP TRIGGER IF EXISTS trg_apolice_contagem_produto_notify ON public.apolice_contagem_produto;
@@ -0,0 +1,3 @@
+-- Índices de suporte à paginação por chave e aos filtros de emissão da listagem de apólices
+CREATE INDEX IF NOT EXISTS idx_apolice_vigencia_fim_id ON public.apolice (vigencia_fim, id_apolice);
+CREATE INDEX IF NOT EXISTS idx_apolice_data_emissao ON public.apolice (data_emissao);
@@ -0,0 +1,81 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PgNotificationListenerTest {
+
+    DataSource dataSource;
+    Connection conn;
+    PGConnection pg;
+    Statement st;
+    PgChannelHandler handler;
+    PgNotificationListener listener;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        dataSource = mock(DataSource.class);
+        conn = mock(Connection.class);
+        pg = mock(PGConnection.class);
+        st = mock(Statement.class);
+        handler = mock(PgChannelHandler.class);
+        when(handler.channel()).thenReturn("teste");
+        when(dataSource.getConnection()).thenReturn(conn);
+        when(conn.unwrap(PGConnection.class)).thenReturn(pg);
+        when(conn.createStatement()).thenReturn(st);
+        when(pg.getNotifications(anyInt())).thenReturn(null);
+        listener = new PgNotificationListener(dataSource, List.of(handler), 1, 10, 0);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        listener.stop();
+    }
+
+    @Test
+    void heartbeat_runsOnTheListenConnection_withNetworkTimeout() throws SQLException {
+        listener.start();
+
+        verify(st, timeout(1000).atLeast(2)).execute("SELECT 1");
+        verify(conn).setNetworkTimeout(any(), eq(0));
+        verify(st).execute("LISTEN teste");
+        verify(handler, never()).onListening(false);
+    }
+
+    @Test
+    void failedHeartbeat_isTreatedAsDisconnect_andListenIsRedone() throws SQLException {
+        // Conexão meio aberta: o poll segue sem erro, só a ida e volta falha
+        when(st.execute("SELECT 1")).thenThrow(new SQLException("Read timed out"));
+
+        listener.start();
+
+        verify(handler, timeout(1000).atLeastOnce()).onListening(false);
+        verify(dataSource, timeout(1000).atLeast(2)).getConnection();
+        verify(st, timeout(1000).atLeast(2)).execute("LISTEN teste");
+        verify(conn, timeout(1000).atLeast(2)).close();
+    }
+
+    @Test
+    void notifications_areDispatchedToTheChannelHandler() throws SQLException {
+        PGNotification n = mock(PGNotification.class);
+        when(n.getName()).thenReturn("teste");
+        when(n.getParameter()).thenReturn("42");
+        when(pg.getNotifications(anyInt())).thenReturn(new PGNotification[]{n}).thenReturn(null);
+
+        listener.start();
+
+        verify(handler, timeout(1000)).onNotification("42");
+    }
+}
@@ -0,0 +1,309 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceCoberturaEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceStatusEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.BeneficiarioEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.parcela.ParcelaApoliceEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ApolicePersistenceMapper;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.*;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.parcela.ParcelaApoliceJpaRepository;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceExpand;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceStatus;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApoliceRepositoryAdapterTest {
+
+    ApoliceJpaRepository apoliceRepo;
+    ApoliceStatusJpaRepository statusRepo;
+    ParcelaApoliceJpaRepository parcelaRepo;
+    ApoliceCoberturaJpaRepository coberturaRepo;
+    BeneficiarioJpaRepository beneficiarioRepo;
+
+    ApoliceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        apoliceRepo = mock(ApoliceJpaRepository.class);
+        statusRepo = mock(ApoliceStatusJpaRepository.class);
+        parcelaRepo = mock(ParcelaApoliceJpaRepository.class);
+        coberturaRepo = mock(ApoliceCoberturaJpaRepository.class);
+        beneficiarioRepo = mock(BeneficiarioJpaRepository.class);
+
+        adapter = new ApoliceRepositoryAdapter(apoliceRepo, statusRepo, parcelaRepo, coberturaRepo, beneficiarioRepo,
+                Mappers.getMapper(ApolicePersistenceMapper.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void findAll_queryCount_isConstant_regardlessOfSize(int n) {
+        List<ApoliceEntity> apolices = IntStream.rangeClosed(1, n).mapToObj(ApoliceRepositoryAdapterTest::apolice).toList();
+        when(apoliceRepo.findAll()).thenReturn(apolices);
+        when(parcelaRepo.findByIdApoliceIn(anyCollection())).thenAnswer(inv -> parcelas(inv.getArgument(0)));
+
+        List<Apolice> result = adapter.findAll();
+
+        assertEquals(n, result.size());
+        assertTrue(result.stream().allMatch(a -> "ATIVA".equals(a.statusAtual()) && a.parcelas().size() == 2));
+        verify(apoliceRepo, times(1)).findAll();
+        verify(parcelaRepo, times(1)).findByIdApoliceIn(anyCollection());
+        verify(parcelaRepo, never()).findByIdApolice(any());
+        // status atual vem da própria linha (apolice.status_atual)
+        verifyNoInteractions(statusRepo);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void findAll_coberturasAndBeneficiarios_oneQueryPerRelation(int n) {
+        List<ApoliceEntity> apolices = IntStream.rangeClosed(1, n).mapToObj(ApoliceRepositoryAdapterTest::apolice).toList();
+        when(apoliceRepo.findAll()).thenReturn(apolices);
+        when(coberturaRepo.findByIdApoliceIn(anyCollection())).thenAnswer(inv -> coberturas(inv.getArgument(0)));
+        when(beneficiarioRepo.findByIdApoliceIn(anyCollection())).thenAnswer(inv -> beneficiarios(inv.getArgument(0)));
+
+        List<Apolice> result = adapter.findAll();
+
+        assertEquals(n, result.size());
+        for (Apolice a : result) {
+            assertEquals(3, a.coberturas().size());
+            assertTrue(a.coberturas().stream().allMatch(c -> c.apoliceId().equals(a.id())));
+            assertEquals(1, a.beneficiarios().size());
+            assertEquals(a.id(), a.beneficiarios().get(0).apoliceId());
+        }
+        verify(coberturaRepo, times(1)).findByIdApoliceIn(anyCollection());
+        verify(beneficiarioRepo, times(1)).findByIdApoliceIn(anyCollection());
+        verify(coberturaRepo, never()).findByIdApolice(any());
+        verify(beneficiarioRepo, never()).findByIdApolice(any());
+    }
+
+    @Test
+    void findAll_largeList_isChunked() {
+        int n = ApoliceRepositoryAdapter.HYDRATION_CHUNK_SIZE * 2 + 1;
+        List<ApoliceEntity> apolices = IntStream.rangeClosed(1, n).mapToObj(ApoliceRepositoryAdapterTest::apolice).toList();
+        when(apoliceRepo.findAll()).thenReturn(apolices);
+        when(parcelaRepo.findByIdApoliceIn(anyCollection())).thenAnswer(inv -> parcelas(inv.getArgument(0)));
+
+        assertEquals(n, adapter.findAll().size());
+        verify(parcelaRepo, times(3)).findByIdApoliceIn(anyCollection());
+        verify(coberturaRepo, times(3)).findByIdApoliceIn(anyCollection());
+        verify(beneficiarioRepo, times(3)).findByIdApoliceIn(anyCollection());
+    }
+
+    @Test
+    void findAllFiltered_onlyExpandedRelations_areQueried() {
+        when(apoliceRepo.findAll(ArgumentMatchers.<Specification<ApoliceEntity>>any(), any(Sort.class))).thenReturn(List.of(apolice(1), apolice(2)));
+        when(coberturaRepo.findByIdApoliceIn(anyCollection())).thenAnswer(inv -> coberturas(inv.getArgument(0)));
+
+        List<Apolice> result = adapter.findAll(ApoliceFilter.empty(), EnumSet.of(ApoliceExpand.COBERTURAS));
+
+        assertEquals(3, result.get(1).coberturas().size());
+        assertTrue(result.get(1).beneficiarios().isEmpty());
+        verify(coberturaRepo, times(1)).findByIdApoliceIn(List.of(1, 2));
+        verifyNoInteractions(parcelaRepo, beneficiarioRepo);
+    }
+
+    @Test
+    void deleteCoberturas_isOneStatement_scopedToTheApolice() {
+        when(coberturaRepo.deleteByIdApoliceAndIdIn(7, List.of(71, 72))).thenReturn(2);
+
+        assertEquals(2, adapter.deleteCoberturas(new ApoliceId(7), List.of(71, 72)));
+        assertEquals(0, adapter.deleteCoberturas(new ApoliceId(7), List.of()));
+
+        verify(coberturaRepo, times(1)).deleteByIdApoliceAndIdIn(anyInt(), anyCollection());
+        verify(coberturaRepo, never()).deleteById(any());
+    }
+
+    @Test
+    void findAll_usesStatusProjection_andEmptyParcelas() {
+        ApoliceEntity e = apolice(1);
+        e.setStatusAtual("CANCELADA");
+        when(apoliceRepo.findAll()).thenReturn(List.of(e));
+        when(parcelaRepo.findByIdApoliceIn(anyCollection())).thenReturn(List.of());
+
+        Apolice a = adapter.findAll().get(0);
+
+        assertEquals("CANCELADA", a.statusAtual());
+        assertTrue(a.parcelas().isEmpty());
+    }
+
+    @Test
+    void findAllFiltered_withoutParcelasExpand_skipsParcelaQuery() {
+        when(apoliceRepo.findAll(ArgumentMatchers.<Specification<ApoliceEntity>>any(), any(Sort.class))).thenReturn(List.of(apolice(1), apolice(2)));
+
+        List<Apolice> result = adapter.findAll(ApoliceFilter.empty(), ApoliceExpand.none());
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).parcelas().isEmpty());
+        verifyNoInteractions(parcelaRepo, statusRepo, coberturaRepo, beneficiarioRepo);
+    }
+
+    @Test
+    void findAll_empty_skipsHydrationQueries() {
+        when(apoliceRepo.findAll()).thenReturn(List.of());
+
+        assertTrue(adapter.findAll().isEmpty());
+        verifyNoInteractions(statusRepo, parcelaRepo, coberturaRepo, beneficiarioRepo);
+    }
+
+    @Test
+    void findById_scope_isPartOfTheQuery() {
+        when(apoliceRepo.findOne(ArgumentMatchers.<Specification<ApoliceEntity>>any())).thenReturn(Optional.of(apolice(1)));
+
+        assertTrue(adapter.findById(new ApoliceId(1), DataScope.corretor(3, List.of(5, 6))).isPresent());
+        // Corretor sem cadastro: nada visível, nenhuma consulta
+        assertTrue(adapter.findById(new ApoliceId(1), DataScope.corretor(null, List.of())).isEmpty());
+
+        verify(apoliceRepo, times(1)).findOne(ArgumentMatchers.<Specification<ApoliceEntity>>any());
+        verify(apoliceRepo, never()).findById(any());
+    }
+
+    @Test
+    void create_writesApoliceAndStatusInOneFlush_withoutReReading() {
+        when(apoliceRepo.save(any(ApoliceEntity.class))).thenAnswer(inv -> {
+            ApoliceEntity e = inv.getArgument(0);
+            e.setId(77);
+            return e;
+        });
+        ArgumentCaptor<ApoliceStatusEntity> status = ArgumentCaptor.forClass(ApoliceStatusEntity.class);
+
+        Apolice created = adapter.create(novaApolice(), statusInicial());
+
+        verify(statusRepo).saveAndFlush(status.capture());
+        assertEquals(77, status.getValue().getIdApolice());
+        assertEquals("ATIVA", status.getValue().getStatus());
+        assertEquals(new ApoliceId(77), created.id());
+        assertEquals("ATIVA", created.statusAtual());
+        assertTrue(created.parcelas().isEmpty());
+        verify(apoliceRepo, never()).findById(any());
+        verifyNoInteractions(parcelaRepo, coberturaRepo, beneficiarioRepo);
+    }
+
+    @Test
+    void create_duplicateNumero_byHibernateConstraintName_isConflict() {
+        when(apoliceRepo.save(any(ApoliceEntity.class))).thenReturn(apolice(1));
+        when(statusRepo.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"), "uq_apolice_numero")));
+
+        var ex = assertThrows(IllegalStateException.class, () -> adapter.create(novaApolice(), statusInicial()));
+        assertTrue(ex.getMessage().contains("AP-NOVA"));
+    }
+
+    @Test
+    void create_duplicateNumero_byDriverServerMessage_isConflict() {
+        when(apoliceRepo.save(any(ApoliceEntity.class))).thenReturn(apolice(1));
+        var pg = new PSQLException(new ServerErrorMessage("SERROR\0C23505\0Mduplicate key\0nuq_apolice_numero\0"));
+        when(statusRepo.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute statement", pg));
+
+        assertThrows(IllegalStateException.class, () -> adapter.create(novaApolice(), statusInicial()));
+    }
+
+    @Test
+    void create_otherViolation_mentioningConstraintInMessage_isRethrown() {
+        when(apoliceRepo.save(any(ApoliceEntity.class))).thenReturn(apolice(1));
+        // FK violada cuja mensagem cita o nome da constraint de unicidade: não é número duplicado
+        var pg = new PSQLException(new ServerErrorMessage(
+                "SERROR\0C23503\0Mviolates fk (see uq_apolice_numero)\0nfk_apolice_produto\0"));
+        var dive = new DataIntegrityViolationException("uq_apolice_numero mentioned here", pg);
+        when(statusRepo.saveAndFlush(any())).thenThrow(dive);
+
+        assertSame(dive, assertThrows(DataIntegrityViolationException.class,
+                () -> adapter.create(novaApolice(), statusInicial())));
+    }
+
+    private static Apolice novaApolice() {
+        return new Apolice(null, "AP-NOVA", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                new BigDecimal("1000.00"), new BigDecimal("10.00"), "ANUAL", 1, 1, 1, null,
+                List.of(), List.of(), List.of());
+    }
+
+    private static ApoliceStatus statusInicial() {
+        return new ApoliceStatus(null, null, "ATIVA", LocalDateTime.of(2025, 1, 1, 0, 0), null);
+    }
+
+    private static ApoliceEntity apolice(int id) {
+        ApoliceEntity e = new ApoliceEntity();
+        e.setId(id);
+        e.setNumero("AP-" + id);
+        e.setDataEmissao(LocalDate.of(2025, 1, 1));
+        e.setValor(new BigDecimal("1000.00"));
+        e.setIdCorretorCliente(1);
+        e.setIdProduto(1);
+        e.setIdSeguradora(1);
+        e.setStatusAtual("ATIVA");
+        return e;
+    }
+
+    private static List<ParcelaApoliceEntity> parcelas(Collection<Integer> ids) {
+        List<ParcelaApoliceEntity> out = new ArrayList<>();
+        for (Integer id : ids) {
+            for (int n = 1; n <= 2; n++) {
+                ParcelaApoliceEntity p = new ParcelaApoliceEntity();
+                p.setId(id * 10 + n);
+                p.setIdApolice(id);
+                p.setNumeroParcela(n);
+                p.setDataVencimento(LocalDate.of(2025, n, 10));
+                p.setValorParcela(new BigDecimal("500.00"));
+                out.add(p);
+            }
+        }
+        return out;
+    }
+
+    private static List<ApoliceCoberturaEntity> coberturas(Collection<Integer> ids) {
+        List<ApoliceCoberturaEntity> out = new ArrayList<>();
+        for (Integer id : ids) {
+            for (int n = 1; n <= 3; n++) {
+                ApoliceCoberturaEntity c = new ApoliceCoberturaEntity();
+                c.setId(id * 10 + n);
+                c.setIdApolice(id);
+                c.setIdCobertura(n);
+                c.setValorContratado(new BigDecimal("10000.00"));
+                out.add(c);
+            }
+        }
+        return out;
+    }
+
+    private static List<BeneficiarioEntity> beneficiarios(Collection<Integer> ids) {
+        List<BeneficiarioEntity> out = new ArrayList<>();
+        for (Integer id : ids) {
+            BeneficiarioEntity b = new BeneficiarioEntity();
+            b.setId(id);
+            b.setIdApolice(id);
+            b.setNomeBeneficiario("Beneficiário " + id);
+            b.setPercentualParticipacao(new BigDecimal("100.00"));
+            out.add(b);
+        }
+        return out;
+    }
+}
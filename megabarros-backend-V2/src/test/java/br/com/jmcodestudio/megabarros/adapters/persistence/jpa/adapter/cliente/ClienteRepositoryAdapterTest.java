@@ -0,0 +1,110 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.cliente;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor.CorretorClienteLinkIndex;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEnderecoEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.cliente.ClienteEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ClientePersistenceMapper;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente.ClienteEnderecoJpaRepository;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente.ClienteJpaRepository;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.cliente.ClienteQueryRepository;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClienteRepositoryAdapterTest {
+
+    ClienteJpaRepository clienteRepo;
+    ClienteEnderecoJpaRepository enderecoRepo;
+    ClienteQueryRepository queryRepo;
+
+    ClienteRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        clienteRepo = mock(ClienteJpaRepository.class);
+        enderecoRepo = mock(ClienteEnderecoJpaRepository.class);
+        queryRepo = mock(ClienteQueryRepository.class);
+        when(enderecoRepo.findByIdClienteIn(anyCollection())).thenAnswer(inv -> enderecos(inv.getArgument(0)));
+
+        adapter = new ClienteRepositoryAdapter(clienteRepo, enderecoRepo, queryRepo,
+                Mappers.getMapper(ClientePersistenceMapper.class), mock(CorretorClienteLinkIndex.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void findAll_queryCount_isConstant_regardlessOfSize(int n) {
+        when(clienteRepo.findAll()).thenReturn(clientes(1, n));
+
+        List<Cliente> result = adapter.findAll();
+
+        assertEquals(n, result.size());
+        assertTrue(result.stream().allMatch(c -> c.enderecos().size() == 2
+                && c.enderecos().stream().allMatch(e -> e.clienteId().equals(c.id()))));
+        verify(enderecoRepo, times(1)).findByIdClienteIn(anyCollection());
+        verify(enderecoRepo, never()).findByIdCliente(any());
+    }
+
+    @Test
+    void findAll_largeList_isChunked() {
+        int n = ClienteRepositoryAdapter.HYDRATION_CHUNK_SIZE * 2 + 1;
+        when(clienteRepo.findAll()).thenReturn(clientes(1, n));
+
+        assertEquals(n, adapter.findAll().size());
+        verify(enderecoRepo, times(3)).findByIdClienteIn(anyCollection());
+    }
+
+    @Test
+    void findPage_corretor_usesJoinQuery_andLimitPlusOne() {
+        when(queryRepo.findPageByCorretorId(eq(7), eq(10), any(Limit.class))).thenReturn(clientes(11, 13));
+
+        var page = adapter.findPage(DataScope.corretor(7, List.of(1)), 10, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(12, page.nextCursor());
+        verify(queryRepo).findPageByCorretorId(7, 10, Limit.of(3));
+        verifyNoInteractions(clienteRepo);
+    }
+
+    @Test
+    void findPage_emptyScope_skipsQueries() {
+        var page = adapter.findPage(DataScope.corretor(null, List.of()), null, 10);
+
+        assertTrue(page.items().isEmpty());
+        assertFalse(page.hasNext());
+        verifyNoInteractions(clienteRepo, queryRepo, enderecoRepo);
+    }
+
+    private static List<ClienteEntity> clientes(int from, int to) {
+        return IntStream.rangeClosed(from, to).mapToObj(id -> {
+            ClienteEntity e = new ClienteEntity();
+            e.setId(id);
+            e.setNome("Cliente " + id);
+            e.setCpfCnpj(String.valueOf(id));
+            e.setAtivo(true);
+            return e;
+        }).toList();
+    }
+
+    private static List<ClienteEnderecoEntity> enderecos(Collection<Integer> ids) {
+        return ids.stream().flatMap(id -> IntStream.rangeClosed(1, 2).mapToObj(n -> {
+            ClienteEnderecoEntity e = new ClienteEnderecoEntity();
+            e.setId(id * 10 + n);
+            e.setIdCliente(id);
+            e.setLogradouro("Rua " + n);
+            return e;
+        })).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.corretor;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.corretor.CorretorClienteEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.corretor.CorretorClienteQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CorretorClienteLinkIndexTest {
+
+    CorretorClienteQueryRepository repo;
+    SimpleMeterRegistry registry;
+    Clock clock;
+    CorretorClienteLinkIndex index;
+
+    @BeforeEach
+    void setup() {
+        repo = mock(CorretorClienteQueryRepository.class);
+        registry = new SimpleMeterRegistry();
+        List<CorretorClienteEntity> links = List.of(link(12, 200), link(10, 100), link(11, 100));
+        when(repo.findLinksByCorretorId(3)).thenReturn(links);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L);
+        index = new CorretorClienteLinkIndex(repo, registry, clock, true, 60_000);
+        index.setListening(true);
+    }
+
+    @Test
+    void linkChecks_areServedFromMemory_afterFirstLoad() {
+        assertTrue(index.isLinked(3, 100));
+        assertTrue(index.isLinked(3, 200));
+        assertFalse(index.isLinked(3, 300));
+        assertEquals(List.of(10, 11), index.corretorClienteIds(3, 2));
+
+        verify(repo, times(1)).findLinksByCorretorId(3);
+        assertEquals(1, registry.get("corretor.links.miss").counter().count());
+        assertEquals(3, registry.get("corretor.links.hit").counter().count());
+        assertEquals(1, registry.get("corretor.links.size").gauge().value());
+    }
+
+    @Test
+    void invalidate_reloadsOnNextCheck() {
+        index.isLinked(3, 100);
+        List<CorretorClienteEntity> reduced = List.of(link(10, 100));
+        when(repo.findLinksByCorretorId(3)).thenReturn(reduced);
+
+        index.invalidate(3);
+
+        assertFalse(index.isLinked(3, 200));
+        verify(repo, times(2)).findLinksByCorretorId(3);
+    }
+
+    @Test
+    void invalidationDuringLoad_isNotCached() {
+        List<CorretorClienteEntity> reduced = List.of(link(10, 100));
+        when(repo.findLinksByCorretorId(3)).thenAnswer(inv -> {
+            index.invalidate(3); // alteração commitada enquanto a carga lia a versão anterior
+            return reduced;
+        });
+
+        index.isLinked(3, 100);
+        index.isLinked(3, 100);
+
+        verify(repo, times(2)).findLinksByCorretorId(3);
+    }
+
+    @Test
+    void entryOlderThanMaxAge_isReloaded() {
+        index.isLinked(3, 100);
+        when(clock.millis()).thenReturn(60_999L);
+        index.isLinked(3, 100);
+        verify(repo, times(1)).findLinksByCorretorId(3);
+
+        // Aviso perdido sem queda detectada: a entrada vencida não é mais servida
+        when(clock.millis()).thenReturn(61_000L);
+        index.isLinked(3, 100);
+        index.isLinked(3, 100);
+
+        verify(repo, times(2)).findLinksByCorretorId(3);
+    }
+
+    @Test
+    void withoutListener_everyCheckQueries() {
+        index.setListening(false);
+
+        index.isLinked(3, 100);
+        index.isLinked(3, 100);
+
+        verify(repo, times(2)).findLinksByCorretorId(3);
+        assertEquals(0, registry.get("corretor.links.size").gauge().value());
+    }
+
+    private static CorretorClienteEntity link(int id, int clienteId) {
+        CorretorClienteEntity e = mock(CorretorClienteEntity.class);
+        when(e.getId()).thenReturn(id);
+        when(e.getIdCliente()).thenReturn(clienteId);
+        return e;
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.seguradora;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.produto.ProdutoEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.seguradora.SeguradoraEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.ProdutoPersistenceMapperImpl;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.mapper.SeguradoraPersistenceMapperImpl;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.AggregatedApoliceQueryRepository;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.seguradora.SeguradoraJpaRepository;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SeguradoraCatalogCacheTest {
+
+    SeguradoraJpaRepository jpa;
+    AggregatedApoliceQueryRepository counts;
+    Clock clock;
+    SimpleMeterRegistry registry;
+    SeguradoraCatalogCache cache;
+
+    @BeforeEach
+    void setup() {
+        jpa = mock(SeguradoraJpaRepository.class);
+        counts = mock(AggregatedApoliceQueryRepository.class);
+        when(counts.countsStamp()).thenReturn("2,100,3,100");
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L);
+        registry = new SimpleMeterRegistry();
+        SeguradoraEntity porto = seguradora(1, "Porto");
+        SeguradoraEntity vazia = seguradora(2, "Sem produtos");
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{porto, produto(10, porto, "Auto")});
+        rows.add(new Object[]{porto, produto(11, porto, "Vida")});
+        rows.add(new Object[]{vazia, null});
+        when(jpa.findAllWithProdutos()).thenReturn(rows);
+        cache = new SeguradoraCatalogCache(jpa, counts, new SeguradoraPersistenceMapperImpl(), new ProdutoPersistenceMapperImpl(),
+                registry, clock, true, 5_000);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findAll_groupsProdutosFromSingleJoin_andServesFromMemory() {
+        List<Seguradora> first = cache.findAll();
+        List<Seguradora> second = cache.findAll();
+
+        assertEquals(2, first.size());
+        assertEquals(List.of(10, 11), first.get(0).produtos().stream().map(p -> p.id().value()).toList());
+        assertEquals(1, first.get(0).produtos().get(0).seguradoraId().value());
+        assertTrue(first.get(1).produtos().isEmpty());
+        assertSame(first, second);
+        verify(jpa, times(1)).findAllWithProdutos();
+        assertEquals(1, registry.get("seguradora.catalog.miss").counter().count());
+        assertEquals(1, registry.get("seguradora.catalog.hit").counter().count());
+    }
+
+    @Test
+    void invalidate_insideTransaction_takesEffectAfterCommit() {
+        cache.findAll();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate();
+        cache.findAll();
+        verify(jpa, times(1)).findAllWithProdutos();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.findAll();
+        verify(jpa, times(2)).findAllWithProdutos();
+    }
+
+    @Test
+    void invalidationDuringLoad_isNotCached() {
+        when(jpa.findAllWithProdutos()).thenAnswer(inv -> {
+            cache.invalidate(); // alteração commitada enquanto a carga lia a versão anterior
+            return List.of();
+        });
+
+        cache.findAll();
+        cache.findAll();
+
+        verify(jpa, times(2)).findAllWithProdutos();
+    }
+
+    @Test
+    void version_changesWithCatalog_onlyWhileListening() {
+        assertTrue(cache.version().isEmpty());
+        cache.setListening(true);
+        long v = cache.version().getAsLong();
+
+        cache.findAll();
+        cache.invalidate();
+
+        assertNotEquals(v, cache.version().getAsLong());
+        cache.setListening(false);
+        assertTrue(cache.version().isEmpty());
+    }
+
+    @Test
+    void version_checksCountsAtMostOncePerInterval() {
+        cache.setListening(true);
+        long v = cache.version().getAsLong();
+        when(counts.countsStamp()).thenReturn("2,117,3,117");
+
+        // Dentro do intervalo: nenhuma leitura, mesma versão (304 segue sem ir ao banco)
+        when(clock.millis()).thenReturn(5_999L);
+        assertEquals(v, cache.version().getAsLong());
+        assertEquals(v, cache.version().getAsLong());
+        verify(counts, times(1)).countsStamp();
+
+        when(clock.millis()).thenReturn(6_000L);
+        long afterCounts = cache.version().getAsLong();
+        assertNotEquals(v, afterCounts);
+        verify(counts, times(2)).countsStamp();
+
+        // Contagens iguais na checagem seguinte: versão mantida
+        when(clock.millis()).thenReturn(11_000L);
+        assertEquals(afterCounts, cache.version().getAsLong());
+        verify(counts, times(3)).countsStamp();
+    }
+
+    @Test
+    void countsChange_keepsCatalogInMemory() {
+        cache.setListening(true);
+        cache.version();
+        cache.findAll();
+
+        when(counts.countsStamp()).thenReturn("2,117,3,117");
+        when(clock.millis()).thenReturn(10_000L);
+        cache.version();
+        cache.findAll();
+
+        verify(jpa, times(1)).findAllWithProdutos();
+    }
+
+    @Test
+    void disabled_everyReadQueries() {
+        cache = new SeguradoraCatalogCache(jpa, counts, new SeguradoraPersistenceMapperImpl(), new ProdutoPersistenceMapperImpl(),
+                new SimpleMeterRegistry(), clock, false, 5_000);
+
+        cache.findAll();
+        cache.findAll();
+
+        verify(jpa, times(2)).findAllWithProdutos();
+    }
+
+    private static SeguradoraEntity seguradora(int id, String nome) {
+        SeguradoraEntity s = new SeguradoraEntity();
+        s.setId(id);
+        s.setNome(nome);
+        return s;
+    }
+
+    private static ProdutoEntity produto(int id, SeguradoraEntity s, String nome) {
+        ProdutoEntity p = new ProdutoEntity();
+        p.setId(id);
+        p.setSeguradora(s);
+        p.setNome(nome);
+        return p;
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.apolice.ApoliceEntity;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceFilter;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class ApoliceSpecificationsTest {
+
+    Root<ApoliceEntity> root;
+    CriteriaQuery<?> query;
+    CriteriaBuilder cb;
+    final Map<String, Path> paths = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        cb = mock(CriteriaBuilder.class);
+        when(root.get(anyString())).thenAnswer(inv -> paths.computeIfAbsent(inv.getArgument(0), k -> mock(Path.class)));
+        when(cb.and(any(Predicate[].class))).thenReturn(mock(Predicate.class));
+    }
+
+    @Test
+    void emptyFilter_addsNoPredicate() {
+        ApoliceSpecifications.matching(ApoliceFilter.empty()).toPredicate(root, query, cb);
+
+        assertEquals(0, andArity());
+        verify(root, never()).get(anyString());
+    }
+
+    @Test
+    void combinedFilter_addsOnePredicatePerInformedField() {
+        LocalDate de = LocalDate.of(2025, 1, 1);
+        LocalDate ate = LocalDate.of(2025, 6, 30);
+        var filter = new ApoliceFilter(3, 4, null, "ATIVA", de, ate, null, ate);
+
+        ApoliceSpecifications.matching(filter).toPredicate(root, query, cb);
+
+        verify(cb).equal(paths.get("idSeguradora"), 3);
+        verify(cb).equal(paths.get("idProduto"), 4);
+        verify(cb).equal(paths.get("statusAtual"), "ATIVA");
+        // vigência intersecta [de, ate]: fim >= de e início <= ate
+        verify(cb).greaterThanOrEqualTo(paths.get("vigenciaFim"), de);
+        verify(cb).lessThanOrEqualTo(paths.get("vigenciaInicio"), ate);
+        verify(cb).lessThanOrEqualTo(paths.get("dataEmissao"), ate);
+        verify(cb, never()).greaterThanOrEqualTo(eq(paths.get("dataEmissao")), any(LocalDate.class));
+        assertFalse(paths.containsKey("idCorretorCliente"));
+        assertEquals(6, andArity());
+    }
+
+    @Test
+    void restrictedScope_withInlineIds_isAnInPredicate() {
+        Path idCorretorCliente = mock(Path.class);
+        paths.put("idCorretorCliente", idCorretorCliente);
+        when(idCorretorCliente.in(anyCollection())).thenReturn(mock(Predicate.class));
+        var filter = new ApoliceFilter(3, null, null, null, null, null, null, null)
+                .withScope(DataScope.corretor(9, List.of(10, 11)));
+
+        ApoliceSpecifications.matching(filter).toPredicate(root, query, cb);
+
+        verify(idCorretorCliente).in(List.of(10, 11));
+        assertEquals(2, andArity());
+        verify(query, never()).subquery(any());
+    }
+
+    @Test
+    void restrictedScope_withoutLinks_matchesNothing() {
+        var filter = ApoliceFilter.empty().withScope(DataScope.corretor(9, List.of()));
+
+        ApoliceSpecifications.matching(filter).toPredicate(root, query, cb);
+
+        verify(cb).disjunction();
+    }
+
+    @Test
+    void after_byId_isStrictlyGreaterId() {
+        ApoliceSpecifications.after(new ApoliceCursor(ApoliceSort.ID, null, 42)).toPredicate(root, query, cb);
+
+        verify(cb).greaterThan(paths.get("id"), 42);
+        verify(cb, never()).or(any(Predicate.class), any(Predicate.class));
+    }
+
+    @Test
+    void after_byVigenciaFim_breaksTiesById() {
+        LocalDate fim = LocalDate.of(2025, 12, 31);
+
+        ApoliceSpecifications.after(new ApoliceCursor(ApoliceSort.VIGENCIA_FIM, fim, 42)).toPredicate(root, query, cb);
+
+        verify(cb).greaterThan(paths.get("vigenciaFim"), fim);
+        verify(cb).equal(paths.get("vigenciaFim"), fim);
+        verify(cb).greaterThan(paths.get("id"), 42);
+        verify(cb).or(any(), any());
+    }
+
+    @Test
+    void after_withoutCursor_isConjunction() {
+        ApoliceSpecifications.after(null).toPredicate(root, query, cb);
+
+        verify(cb).conjunction();
+        verifyNoInteractions(root);
+    }
+
+    // Quantidade de predicados combinados no cb.and(...) final
+    private int andArity() {
+        ArgumentCaptor<Predicate[]> captor = ArgumentCaptor.forClass(Predicate[].class);
+        verify(cb).and(captor.capture());
+        return captor.getValue().length;
+    }
+}
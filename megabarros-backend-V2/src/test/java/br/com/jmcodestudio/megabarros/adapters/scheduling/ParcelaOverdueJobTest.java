@@ -0,0 +1,31 @@
+package br.com.jmcodestudio.megabarros.adapters.scheduling;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaOverdueResult;
+import br.com.jmcodestudio.megabarros.application.port.in.parcela.OverdueParcelasUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ParcelaOverdueJobTest {
+
+    @Test
+    void run_usesTheInjectedClockForToday_andCountsMarkedParcelas() {
+        OverdueParcelasUseCase useCase = mock(OverdueParcelasUseCase.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // 02:30 UTC ainda é o dia anterior em São Paulo
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T02:30:00Z"), ZoneId.of("America/Sao_Paulo"));
+        when(useCase.markOverdue(LocalDate.of(2025, 6, 14))).thenReturn(new ParcelaOverdueResult(3, 1));
+
+        new ParcelaOverdueJob(useCase, registry, clock).run();
+
+        verify(useCase).markOverdue(LocalDate.of(2025, 6, 14));
+        assertEquals(3.0, registry.counter("parcela.overdue.processed").count());
+    }
+}
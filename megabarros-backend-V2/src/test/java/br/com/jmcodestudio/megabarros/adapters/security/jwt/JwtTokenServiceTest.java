@@ -1,5 +1,6 @@
 package br.com.jmcodestudio.megabarros.adapters.security.jwt;
 
+import br.com.jmcodestudio.megabarros.application.port.out.TokenServicePort;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.TokenInvalidException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -44,6 +45,11 @@ class JwtTokenServiceTest {
         assertEquals(1L, claims.userId());
         assertEquals("admin@example.com", claims.email());
         assertEquals("ADMIN", claims.role());
+        assertNull(claims.corretorId());
+
+        String corretor = svc.generateAccessToken(2L, "corretor@example.com", "CORRETOR",
+                java.util.Map.of(TokenServicePort.CLAIM_CORRETOR_ID, 3), Instant.now());
+        assertEquals(3, svc.parseAndValidateAccess(corretor).corretorId());
     }
 
     @Test
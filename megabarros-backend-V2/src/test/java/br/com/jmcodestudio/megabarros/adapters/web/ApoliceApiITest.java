@@ -484,4 +484,81 @@ class ApoliceApiITest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @Order(11)
+    @WithMockUser(username = "admin.teste@example.com", roles = {"ADMIN"})
+    void searchShouldCombineFiltersAndPageByCursor() throws Exception {
+        Integer outroProdutoId = jdbc.queryForObject("""
+            INSERT INTO produto (nome_produto, tipo_produto, id_seguradora)
+            VALUES ('Produto Outro', 'VIDA', ?) RETURNING id_produto
+        """, Integer.class, seguradoraId);
+        LocalDate hoje = LocalDate.now();
+        // três no produto filtrado (vigências distintas) e uma em outro produto
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/api/apolices")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(criarApoliceJson("APO-SRC-" + i, hoje, hoje, hoje.plusMonths(13 - i),
+                                    new BigDecimal("1000.00"), new BigDecimal("10.00"), "ANUAL",
+                                    corretorClienteId, produtoId, seguradoraId)))
+                    .andExpect(status().isCreated());
+        }
+        mockMvc.perform(post("/api/apolices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(criarApoliceJson("APO-SRC-X", hoje, hoje, hoje.plusMonths(6),
+                                new BigDecimal("1000.00"), new BigDecimal("10.00"), "ANUAL",
+                                corretorClienteId, outroProdutoId, seguradoraId)))
+                .andExpect(status().isCreated());
+
+        // página 1: menor vigenciaFim primeiro (APO-SRC-3), o outro produto fica de fora
+        String page1 = mockMvc.perform(get("/api/apolices/search")
+                        .param("seguradoraId", seguradoraId.toString())
+                        .param("produtoId", produtoId.toString())
+                        .param("status", "ativa")
+                        .param("vigenciaDe", hoje.toString())
+                        .param("sort", "vigencia_fim")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].numeroApolice").value("APO-SRC-3"))
+                .andExpect(jsonPath("$.items[1].numeroApolice").value("APO-SRC-2"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = (String) objectMapper.readValue(page1, Map.class).get("nextCursor");
+
+        // página 2: continua estritamente após o cursor e encerra a paginação
+        mockMvc.perform(get("/api/apolices/search")
+                        .param("seguradoraId", seguradoraId.toString())
+                        .param("produtoId", produtoId.toString())
+                        .param("status", "ativa")
+                        .param("vigenciaDe", hoje.toString())
+                        .param("sort", "vigencia_fim")
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].numeroApolice").value("APO-SRC-1"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        // vigência encerrada antes da faixa pedida: nenhuma apólice intersecta
+        mockMvc.perform(get("/api/apolices/search")
+                        .param("produtoId", produtoId.toString())
+                        .param("vigenciaDe", hoje.plusYears(2).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @Order(12)
+    @WithMockUser(username = "admin.teste@example.com", roles = {"ADMIN"})
+    void searchShouldRejectMalformedCursorAndInvalidRanges() throws Exception {
+        mockMvc.perform(get("/api/apolices/search").param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido."));
+
+        mockMvc.perform(get("/api/apolices/search")
+                        .param("vigenciaDe", LocalDate.now().toString())
+                        .param("vigenciaAte", LocalDate.now().minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package br.com.jmcodestudio.megabarros.adapters.web;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.AggregatedApoliceQueryRepository;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.apolice.ApoliceExistenceRepository;
+import br.com.jmcodestudio.megabarros.adapters.web.support.BasePostgresITest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contagens por seguradora e por produto (V19) acompanham apolice em inserção (inclusive em lote),
+ * exclusão, troca de produto/seguradora e TRUNCATE; contagens e travas de exclusão leem só essas tabelas.
+ * O carimbo das contagens (versão do catálogo) muda com o conteúdo, em qualquer ordem de commit.
+ */
+class ApoliceContagemITest extends BasePostgresITest {
+
+    static final LocalDate EMISSAO = LocalDate.of(2025, 1, 10);
+    static final BigDecimal VALOR = new BigDecimal("1000.00");
+    static final BigDecimal COMISSAO = new BigDecimal("10.00");
+
+    @Autowired
+    ApoliceExistenceRepository existence;
+
+    @Autowired
+    AggregatedApoliceQueryRepository aggregated;
+
+    @Autowired
+    DataSource dataSource;
+
+    int cc;
+    int segA;
+    int segB;
+    int prodA1;
+    int prodA2;
+    int prodB1;
+
+    @BeforeEach
+    void setup() {
+        truncateAll();
+        cc = link(insertCorretor("Corretor"), insertCliente("Cliente", "12345678901"));
+        segA = insertSeguradora("Seg A");
+        segB = insertSeguradora("Seg B");
+        prodA1 = insertProduto("A1", segA);
+        prodA2 = insertProduto("A2", segA);
+        prodB1 = insertProduto("B1", segB);
+    }
+
+    @Test
+    void insert_countsPerSeguradoraAndProduto_includingMultiRowStatements() {
+        insertApolice("A-1", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        insertApolice("A-2", EMISSAO, VALOR, COMISSAO, cc, prodA2, segA);
+        // Um comando, várias linhas: o trigger de instrução aplica o delta agregado
+        jdbc.update("""
+                INSERT INTO apolice (numero_apolice, data_emissao, vigencia_inicio, vigencia_fim, valor,
+                                     comissao_percentual, tipo_contrato, id_corretor_cliente, id_produto, id_seguradora)
+                SELECT 'L-' || g, DATE '2025-01-10', DATE '2025-01-10', DATE '2026-01-10', 100.00, 10.00, 'ANUAL', ?, ?, ?
+                  FROM generate_series(1, 4) g
+                """, cc, prodA1, segA);
+
+        assertThat(existence.countBySeguradoraId(segA)).isEqualTo(6);
+        assertThat(existence.countByProdutoId(prodA1)).isEqualTo(5);
+        assertThat(existence.countByProdutoId(prodA2)).isEqualTo(1);
+        assertThat(existence.countBySeguradoraId(segB)).isZero();
+        assertThat(existence.existsBySeguradoraId(segA)).isTrue();
+        assertThat(existence.existsBySeguradoraId(segB)).isFalse();
+        assertThat(toMap(aggregated.countByProdutoIds(List.of(prodA1, prodA2, prodB1))))
+                .containsEntry(prodA1, 5L).containsEntry(prodA2, 1L).doesNotContainKey(prodB1);
+        assertThat(toMap(aggregated.countBySeguradoraIds(List.of(segA, segB)))).containsOnly(Map.entry(segA, 6L));
+    }
+
+    @Test
+    void delete_decrementsAndReleasesDeletionLock() {
+        int a1 = insertApolice("A-1", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        int a2 = insertApolice("A-2", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+
+        delete(a1);
+        assertThat(existence.countByProdutoId(prodA1)).isEqualTo(1);
+        assertThat(existence.existsBySeguradoraOrProdutos(segA)).isTrue();
+
+        delete(a2);
+        assertThat(existence.countBySeguradoraId(segA)).isZero();
+        assertThat(existence.existsByProdutoId(prodA1)).isFalse();
+        assertThat(existence.existsBySeguradoraOrProdutos(segA)).isFalse();
+    }
+
+    @Test
+    void update_reassigningProdutoAndSeguradora_movesCounts() {
+        int a1 = insertApolice("A-1", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        insertApolice("A-2", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+
+        // Troca de produto dentro da mesma seguradora
+        jdbc.update("UPDATE apolice SET id_produto = ? WHERE id_apolice = ?", prodA2, a1);
+        assertThat(existence.countByProdutoId(prodA1)).isEqualTo(1);
+        assertThat(existence.countByProdutoId(prodA2)).isEqualTo(1);
+        assertThat(existence.countBySeguradoraId(segA)).isEqualTo(2);
+
+        // Troca de seguradora e produto
+        jdbc.update("UPDATE apolice SET id_produto = ?, id_seguradora = ? WHERE id_apolice = ?", prodB1, segB, a1);
+        assertThat(existence.countByProdutoId(prodA2)).isZero();
+        assertThat(existence.countByProdutoId(prodB1)).isEqualTo(1);
+        assertThat(existence.countBySeguradoraId(segA)).isEqualTo(1);
+        assertThat(existence.countBySeguradoraId(segB)).isEqualTo(1);
+
+        // Sem troca de chave (valor, status): nada muda
+        jdbc.update("UPDATE apolice SET valor = valor + 1");
+        changeStatus(a1, "CANCELADA");
+        assertThat(existence.countBySeguradoraId(segA)).isEqualTo(1);
+        assertThat(existence.countBySeguradoraId(segB)).isEqualTo(1);
+    }
+
+    @Test
+    void truncate_clearsCounters() {
+        insertApolice("A-1", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        insertApolice("B-1", EMISSAO, VALOR, COMISSAO, cc, prodB1, segB);
+
+        jdbc.update("TRUNCATE TABLE apolice CASCADE");
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM apolice_contagem_seguradora", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM apolice_contagem_produto", Integer.class)).isZero();
+        assertThat(existence.existsBySeguradoraOrProdutos(segA)).isFalse();
+
+        insertApolice("A-2", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        assertThat(existence.countBySeguradoraId(segA)).isEqualTo(1);
+    }
+
+    @Test
+    void countsStamp_changesWhenOlderTransactionCommitsLast() throws Exception {
+        insertApolice("A-1", EMISSAO, VALOR, COMISSAO, cc, prodA1, segA);
+        insertApolice("B-1", EMISSAO, VALOR, COMISSAO, cc, prodB1, segB);
+
+        try (Connection antiga = dataSource.getConnection()) {
+            antiga.setAutoCommit(false);
+            // Reserva o xid agora: menor que o da escrita seguinte, mas commita depois dela
+            try (Statement st = antiga.createStatement()) {
+                st.execute("SELECT txid_current()");
+            }
+
+            insertApolice("B-2", EMISSAO, VALOR, COMISSAO, cc, prodB1, segB);
+            String antes = aggregated.countsStamp();
+            long maxXminAntes = maxXmin();
+
+            try (PreparedStatement ps = antiga.prepareStatement("""
+                    INSERT INTO apolice (numero_apolice, data_emissao, vigencia_inicio, vigencia_fim, valor,
+                                         comissao_percentual, tipo_contrato, id_corretor_cliente, id_produto, id_seguradora)
+                    VALUES ('A-2', DATE '2025-01-10', DATE '2025-01-10', DATE '2026-01-10', 100.00, 10.00, 'ANUAL', ?, ?, ?)
+                    """)) {
+                ps.setInt(1, cc);
+                ps.setInt(2, prodA1);
+                ps.setInt(3, segA);
+                ps.executeUpdate();
+            }
+            antiga.commit();
+
+            // Mesma quantidade de linhas e mesmo max(xmin): só o conteúdo denuncia a mudança
+            assertThat(maxXmin()).isEqualTo(maxXminAntes);
+            assertThat(existence.countBySeguradoraId(segA)).isEqualTo(2);
+            assertThat(aggregated.countsStamp()).isNotEqualTo(antes);
+        }
+    }
+
+    private long maxXmin() {
+        return jdbc.queryForObject("""
+                SELECT greatest((SELECT max(xmin::text::bigint) FROM apolice_contagem_seguradora),
+                                (SELECT max(xmin::text::bigint) FROM apolice_contagem_produto))
+                """, Long.class);
+    }
+
+    private void delete(int apolice) {
+        jdbc.update("DELETE FROM apolice_status WHERE id_apolice = ?", apolice);
+        jdbc.update("DELETE FROM apolice WHERE id_apolice = ?", apolice);
+    }
+
+    private static Map<Integer, Long> toMap(List<Object[]> rows) {
+        Map<Integer, Long> out = new HashMap<>();
+        for (Object[] r : rows) out.put(((Number) r[0]).intValue(), ((Number) r[1]).longValue());
+        return out;
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.jmcodestudio.megabarros.adapters.web;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.dashboard.ApoliceResumoAdapter;
+import br.com.jmcodestudio.megabarros.adapters.web.support.BasePostgresITest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * apolice_resumo_mensal (V15/V22) acompanha apolice em cada comando: inserção, mudança de valor e de mês
+ * de emissão, cancelamento, exclusão e TRUNCATE; a reconciliação corrige o que divergir.
+ */
+class ApoliceResumoITest extends BasePostgresITest {
+
+    static final LocalDate JAN = LocalDate.of(2025, 1, 1);
+    static final LocalDate FEV = LocalDate.of(2025, 2, 1);
+    static final LocalDate MAR = LocalDate.of(2025, 3, 1);
+    static final BigDecimal COMISSAO = new BigDecimal("10.00");
+
+    @Autowired
+    ApoliceResumoAdapter resumo;
+
+    int cc;
+    int produto;
+    int seguradora;
+
+    @BeforeEach
+    void setup() {
+        truncateAll();
+        cc = link(insertCorretor("Corretor"), insertCliente("Cliente", "12345678901"));
+        seguradora = insertSeguradora("Seg");
+        produto = insertProduto("Auto", seguradora);
+    }
+
+    @Test
+    void insert_accumulatesPerMonth() {
+        insertApolice("A-1", JAN.plusDays(4), new BigDecimal("1000.00"), COMISSAO, cc, produto, seguradora);
+        insertApolice("A-2", JAN.plusDays(20), new BigDecimal("500.00"), COMISSAO, cc, produto, seguradora);
+        insertApolice("A-3", FEV.plusDays(1), new BigDecimal("300.00"), COMISSAO, cc, produto, seguradora);
+
+        assertThat(valores()).containsExactly(
+                Map.entry(JAN, new BigDecimal("1500.00")),
+                Map.entry(FEV, new BigDecimal("300.00")));
+        assertThat(quantidade(JAN)).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT comissao_total FROM apolice_resumo_mensal WHERE mes = ?",
+                BigDecimal.class, Date.valueOf(JAN))).isEqualByComparingTo("150");
+    }
+
+    @Test
+    void update_valueAndEmissionDate_movesBetweenMonths() {
+        int a1 = insertApolice("A-1", JAN.plusDays(4), new BigDecimal("1000.00"), COMISSAO, cc, produto, seguradora);
+        insertApolice("A-2", JAN.plusDays(20), new BigDecimal("500.00"), COMISSAO, cc, produto, seguradora);
+
+        jdbc.update("UPDATE apolice SET valor = 1200.00 WHERE id_apolice = ?", a1);
+        assertThat(valores()).containsExactly(Map.entry(JAN, new BigDecimal("1700.00")));
+
+        jdbc.update("UPDATE apolice SET data_emissao = ? WHERE id_apolice = ?", Date.valueOf(MAR.plusDays(2)), a1);
+        assertThat(valores()).containsExactly(
+                Map.entry(JAN, new BigDecimal("500.00")),
+                Map.entry(MAR, new BigDecimal("1200.00")));
+        assertThat(quantidade(JAN)).isEqualTo(1);
+        assertThat(quantidade(MAR)).isEqualTo(1);
+    }
+
+    @Test
+    void cancelAndDelete_removeFromTotals() {
+        int a1 = insertApolice("A-1", JAN.plusDays(4), new BigDecimal("1000.00"), COMISSAO, cc, produto, seguradora);
+        int a2 = insertApolice("A-2", JAN.plusDays(20), new BigDecimal("500.00"), COMISSAO, cc, produto, seguradora);
+
+        changeStatus(a1, "CANCELADA");
+        assertThat(valores()).containsExactly(Map.entry(JAN, new BigDecimal("500.00")));
+
+        jdbc.update("DELETE FROM apolice_status WHERE id_apolice = ?", a2);
+        jdbc.update("DELETE FROM apolice WHERE id_apolice = ?", a2);
+        assertThat(valores()).isEmpty();
+        assertThat(quantidade(JAN)).isZero();
+    }
+
+    @Test
+    void truncate_clearsSummary() {
+        insertApolice("A-1", JAN.plusDays(4), new BigDecimal("1000.00"), COMISSAO, cc, produto, seguradora);
+        assertThat(valores()).isNotEmpty();
+
+        jdbc.update("TRUNCATE TABLE apolice CASCADE");
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM apolice_resumo_mensal", Integer.class)).isZero();
+        assertThat(resumo.rebuild()).isZero();
+    }
+
+    @Test
+    void rebuild_fixesDriftAndIsIdempotent() {
+        insertApolice("A-1", JAN.plusDays(4), new BigDecimal("1000.00"), COMISSAO, cc, produto, seguradora);
+        insertApolice("A-2", FEV.plusDays(1), new BigDecimal("300.00"), COMISSAO, cc, produto, seguradora);
+        assertThat(resumo.rebuild()).isZero();
+
+        // Divergência: um grupo com total errado, um sobrando e um faltando
+        jdbc.update("UPDATE apolice_resumo_mensal SET valor_total = 1.00 WHERE mes = ?", Date.valueOf(JAN));
+        jdbc.update("DELETE FROM apolice_resumo_mensal WHERE mes = ?", Date.valueOf(FEV));
+        jdbc.update("""
+                INSERT INTO apolice_resumo_mensal (mes, id_seguradora, id_produto, id_corretor, quantidade, valor_total)
+                SELECT ?, id_seguradora, id_produto, id_corretor, 1, 99.00 FROM apolice_resumo_mensal LIMIT 1
+                """, Date.valueOf(MAR));
+
+        assertThat(resumo.rebuild()).isEqualTo(3);
+        assertThat(valores()).containsExactly(
+                Map.entry(JAN, new BigDecimal("1000.00")),
+                Map.entry(FEV, new BigDecimal("300.00")));
+        assertThat(resumo.rebuild()).isZero();
+    }
+
+    private Map<LocalDate, BigDecimal> valores() {
+        Map<LocalDate, BigDecimal> out = new LinkedHashMap<>();
+        jdbc.query("""
+                SELECT mes, sum(valor_total) AS valor FROM apolice_resumo_mensal
+                 WHERE quantidade <> 0 GROUP BY mes ORDER BY mes
+                """, rs -> {
+            out.put(rs.getDate("mes").toLocalDate(), rs.getBigDecimal("valor"));
+        });
+        return out;
+    }
+
+    private long quantidade(LocalDate mes) {
+        Long q = jdbc.queryForObject("SELECT coalesce(sum(quantidade), 0) FROM apolice_resumo_mensal WHERE mes = ?",
+                Long.class, Date.valueOf(mes));
+        return q == null ? 0 : q;
+    }
+}
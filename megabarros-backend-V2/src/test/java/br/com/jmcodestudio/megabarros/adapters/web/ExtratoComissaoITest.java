@@ -0,0 +1,125 @@
+package br.com.jmcodestudio.megabarros.adapters.web;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.comissao.ExtratoComissaoAdapter;
+import br.com.jmcodestudio.megabarros.adapters.web.support.BasePostgresITest;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Meses encerrados gravados em extrato_comissao_mensal (V16) são apagados pelos triggers de V23 quando
+ * algo que eles somam muda, e a gravação seguinte recalcula a partir das parcelas.
+ */
+class ExtratoComissaoITest extends BasePostgresITest {
+
+    static final YearMonth JAN = YearMonth.of(2025, 1);
+    static final YearMonth FEV = YearMonth.of(2025, 2);
+
+    @Autowired
+    ExtratoComissaoAdapter adapter;
+
+    int corretor;
+    int outroCorretor;
+    int cc;
+    int apolice;
+
+    @BeforeEach
+    void setup() {
+        truncateAll();
+        corretor = insertCorretor("Corretor");
+        outroCorretor = insertCorretor("Outro");
+        cc = link(corretor, insertCliente("Cliente", "12345678901"));
+        int seguradora = insertSeguradora("Seg");
+        int produto = insertProduto("Auto", seguradora);
+        apolice = insertApolice("A-1", LocalDate.of(2024, 12, 1), new BigDecimal("1200.00"),
+                new BigDecimal("10.00"), cc, produto, seguradora);
+        insertParcela(apolice, 1, LocalDate.of(2025, 1, 10), new BigDecimal("100.00"), "PAGA", LocalDate.of(2025, 1, 10));
+        insertParcela(apolice, 2, LocalDate.of(2025, 2, 10), new BigDecimal("100.00"), "PAGA", LocalDate.of(2025, 2, 12));
+
+        adapter.cacheMonths(corretor, List.of(JAN, FEV));
+        assertThat(cached()).extracting(ExtratoComissaoMes::parcelasPagas).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void backDatedPayment_invalidatesOnlyItsMonth_andIsRecomputed() {
+        // Importação/correção grava um pagamento com data em janeiro, mês já gravado
+        insertParcela(apolice, 3, LocalDate.of(2025, 1, 20), new BigDecimal("50.00"), "PAGA", LocalDate.of(2025, 1, 25));
+
+        assertThat(cached()).extracting(ExtratoComissaoMes::mes).containsExactly(FEV);
+
+        adapter.cacheMonths(corretor, List.of(JAN));
+        ExtratoComissaoMes jan = cached().get(0);
+        assertThat(jan.mes()).isEqualTo(JAN);
+        assertThat(jan.parcelasPagas()).isEqualTo(2);
+        assertThat(jan.valorPago()).isEqualByComparingTo("150.00");
+        assertThat(jan.comissao()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void pendingParcelaMarkedPaidBackDated_invalidatesMonth() {
+        int parcela = insertParcela(apolice, 3, LocalDate.of(2025, 2, 20), new BigDecimal("80.00"), "PENDENTE", null);
+        assertThat(cached()).hasSize(2);
+
+        jdbc.update("UPDATE parcela_apolice SET status_pagamento = 'PAGA', data_pagamento = ? WHERE id_parcela = ?",
+                Date.valueOf(LocalDate.of(2025, 2, 28)), parcela);
+
+        assertThat(cached()).extracting(ExtratoComissaoMes::mes).containsExactly(JAN);
+    }
+
+    @Test
+    void overdueMarking_keepsCache() {
+        insertParcela(apolice, 3, LocalDate.of(2025, 2, 20), new BigDecimal("80.00"), "PENDENTE", null);
+
+        jdbc.update("UPDATE parcela_apolice SET status_pagamento = 'ATRASADA' WHERE status_pagamento = 'PENDENTE'");
+
+        assertThat(cached()).hasSize(2);
+    }
+
+    @Test
+    void deletedParcela_invalidatesMonth() {
+        jdbc.update("DELETE FROM parcela_apolice WHERE id_apolice = ? AND numero_parcela = 2", apolice);
+
+        assertThat(cached()).extracting(ExtratoComissaoMes::mes).containsExactly(JAN);
+    }
+
+    @Test
+    void commissionChange_invalidatesEveryPaidMonth() {
+        jdbc.update("UPDATE apolice SET comissao_percentual = 15.00 WHERE id_apolice = ?", apolice);
+
+        assertThat(cached()).isEmpty();
+        adapter.cacheMonths(corretor, List.of(JAN, FEV));
+        assertThat(cached()).extracting(ExtratoComissaoMes::comissao)
+                .allSatisfy(c -> assertThat(c).isEqualByComparingTo("15.00"));
+    }
+
+    @Test
+    void statusChange_keepsCache() {
+        changeStatus(apolice, "CANCELADA");
+
+        assertThat(cached()).hasSize(2);
+    }
+
+    @Test
+    void linkMovedToAnotherBroker_invalidatesBoth() {
+        adapter.cacheMonths(outroCorretor, List.of(JAN));
+        assertThat(adapter.findCachedMonths(outroCorretor, JAN, FEV)).hasSize(1);
+
+        jdbc.update("UPDATE corretor_cliente SET id_corretor = ? WHERE id_corretor_cliente = ?", outroCorretor, cc);
+
+        assertThat(cached()).isEmpty();
+        assertThat(adapter.findCachedMonths(outroCorretor, JAN, FEV)).isEmpty();
+    }
+
+    private List<ExtratoComissaoMes> cached() {
+        return adapter.findCachedMonths(corretor, JAN, FEV);
+    }
+}
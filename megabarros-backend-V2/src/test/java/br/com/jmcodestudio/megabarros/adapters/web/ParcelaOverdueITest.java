@@ -0,0 +1,83 @@
+package br.com.jmcodestudio.megabarros.adapters.web;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.apolice.ParcelaOverdueAdapter;
+import br.com.jmcodestudio.megabarros.adapters.web.support.BasePostgresITest;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasada;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parcelas vencidas de apólices canceladas não entram na inadimplência: nem são marcadas ATRASADA
+ * pelo job nem aparecem na listagem.
+ */
+class ParcelaOverdueITest extends BasePostgresITest {
+
+    static final LocalDate HOJE = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    ParcelaOverdueAdapter adapter;
+
+    int ativa;
+    int cancelada;
+
+    @BeforeEach
+    void setup() {
+        truncateAll();
+        int corretor = insertCorretor("Corretor");
+        int cc = link(corretor, insertCliente("Cliente", "12345678901"));
+        int seguradora = insertSeguradora("Seg");
+        int produto = insertProduto("Auto", seguradora);
+        BigDecimal valor = new BigDecimal("1200.00");
+        BigDecimal comissao = new BigDecimal("10.00");
+
+        ativa = insertApolice("AP-ATIVA", LocalDate.of(2025, 1, 1), valor, comissao, cc, produto, seguradora);
+        cancelada = insertApolice("AP-CANC", LocalDate.of(2025, 1, 1), valor, comissao, cc, produto, seguradora);
+        changeStatus(cancelada, "CANCELADA");
+
+        for (int apolice : new int[]{ativa, cancelada}) {
+            insertParcela(apolice, 1, LocalDate.of(2025, 2, 1), new BigDecimal("100.00"), "PAGA", LocalDate.of(2025, 2, 1));
+            insertParcela(apolice, 2, LocalDate.of(2025, 3, 1), new BigDecimal("100.00"), "PENDENTE", null);
+            insertParcela(apolice, 3, LocalDate.of(2025, 4, 1), new BigDecimal("100.00"), "PENDENTE", null);
+            insertParcela(apolice, 4, LocalDate.of(2025, 7, 1), new BigDecimal("100.00"), "PENDENTE", null);
+        }
+    }
+
+    @Test
+    void markOverdue_skipsCancelledPolicies() {
+        assertThat(jdbc.queryForObject("SELECT status_atual FROM apolice WHERE id_apolice = ?", String.class, cancelada))
+                .isEqualTo("CANCELADA");
+
+        int marcadas = adapter.markOverdueChunk(HOJE, 100);
+
+        assertThat(marcadas).isEqualTo(2);
+        assertThat(statuses(ativa)).containsExactly("PAGA", "ATRASADA", "ATRASADA", "PENDENTE");
+        assertThat(statuses(cancelada)).containsExactly("PAGA", "PENDENTE", "PENDENTE", "PENDENTE");
+        // Segunda rodada não encontra mais nada: as parcelas da cancelada não ficam sendo revisitadas como novas
+        assertThat(adapter.markOverdueChunk(HOJE, 100)).isZero();
+    }
+
+    @Test
+    void findOverdue_excludesCancelledPolicies() {
+        adapter.markOverdueChunk(HOJE, 100);
+
+        var page = adapter.findOverdue(HOJE, DataScope.all(), null, 50);
+
+        assertThat(page.items()).extracting(ParcelaAtrasada::idApolice).containsOnly(ativa);
+        assertThat(page.items()).extracting(ParcelaAtrasada::numeroParcela).containsExactly(2, 3);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private List<String> statuses(int apolice) {
+        return jdbc.queryForList(
+                "SELECT status_pagamento FROM parcela_apolice WHERE id_apolice = ? ORDER BY numero_parcela",
+                String.class, apolice);
+    }
+}
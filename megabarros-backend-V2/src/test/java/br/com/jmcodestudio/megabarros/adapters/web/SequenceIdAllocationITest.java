@@ -0,0 +1,81 @@
+package br.com.jmcodestudio.megabarros.adapters.web;
+
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.adapter.SequenceIdAllocator;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.entity.seguradora.SeguradoraEntity;
+import br.com.jmcodestudio.megabarros.adapters.persistence.jpa.repository.seguradora.SeguradoraJpaRepository;
+import br.com.jmcodestudio.megabarros.adapters.web.support.BasePostgresITest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ids vindos do Hibernate (pooled-lo, bloco em memória), do {@link SequenceIdAllocator} (blocos reservados
+ * para JDBC) e do DEFAULT da coluna compartilham a mesma sequência e nunca podem colidir.
+ */
+class SequenceIdAllocationITest extends BasePostgresITest {
+
+    @Autowired
+    SequenceIdAllocator allocator;
+
+    @Autowired
+    SeguradoraJpaRepository seguradoraRepo;
+
+    @BeforeEach
+    void setup() {
+        jdbc.execute("SET search_path TO public");
+        // Sem RESTART IDENTITY: o bloco em memória do Hibernate sobrevive entre os testes
+        jdbc.update("TRUNCATE TABLE apolice, produto, seguradora CASCADE");
+    }
+
+    @Test
+    void hibernateAllocatorAndDefault_interleaved_neverCollide() {
+        List<Integer> ids = new ArrayList<>();
+        int n = 0;
+        for (int round = 0; round < 4; round++) {
+            // Hibernate: primeira chamada abre um bloco em memória, as seguintes consomem dele
+            for (int i = 0; i < 3; i++) {
+                ids.add(seguradoraRepo.saveAndFlush(seguradora("JPA-" + n++)).getId());
+            }
+            // Bloco reservado para JDBC entre inserts do Hibernate (ultrapassa um bloco para exigir dois nextval)
+            for (Integer id : allocator.allocate("seguradora_seq", SequenceIdAllocator.BLOCK + 1)) {
+                jdbc.update("INSERT INTO seguradora (id_seguradora, nome_seguradora) VALUES (?, ?)",
+                        id, "JDBC-" + n++);
+                ids.add(id);
+            }
+            // DEFAULT da coluna: um nextval, valor isolado no início de um bloco
+            ids.add(jdbc.queryForObject("INSERT INTO seguradora (nome_seguradora) VALUES (?) RETURNING id_seguradora",
+                    Integer.class, "DEFAULT-" + n++));
+        }
+        // Hibernate termina o bloco corrente e abre outro depois das reservas JDBC
+        for (int i = 0; i < SequenceIdAllocator.BLOCK; i++) {
+            ids.add(seguradoraRepo.saveAndFlush(seguradora("JPA-" + n++)).getId());
+        }
+
+        assertThat(new HashSet<>(ids)).hasSameSizeAs(ids);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM seguradora", Integer.class)).isEqualTo(ids.size());
+    }
+
+    @Test
+    void allocator_reservesWholeBlocks_fromOneNextvalEach() {
+        long antes = jdbc.queryForObject("SELECT last_value FROM seguradora_seq", Long.class);
+
+        List<Integer> ids = allocator.allocate("seguradora_seq", SequenceIdAllocator.BLOCK * 2);
+
+        long depois = jdbc.queryForObject("SELECT last_value FROM seguradora_seq", Long.class);
+        assertThat(ids).hasSize(SequenceIdAllocator.BLOCK * 2).doesNotHaveDuplicates();
+        assertThat(depois - antes).isLessThanOrEqualTo(2L * SequenceIdAllocator.BLOCK);
+        assertThat(ids.get(SequenceIdAllocator.BLOCK - 1) - ids.get(0)).isEqualTo(SequenceIdAllocator.BLOCK - 1);
+    }
+
+    private static SeguradoraEntity seguradora(String nome) {
+        SeguradoraEntity e = new SeguradoraEntity();
+        e.setNome(nome);
+        return e;
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApoliceExportWriterTest {
+
+    final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void csv_writesHeader_andEscapesFields() throws Exception {
+        var out = new ByteArrayOutputStream();
+        var writer = new ApoliceExportWriter(out, ApoliceExportWriter.Format.CSV, objectMapper);
+
+        writer.accept(summary(1, "AP-1,\"X\""));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(ApoliceExportWriter.CSV_HEADER.trim(), lines[0]);
+        assertEquals("1,\"AP-1,\"\"X\"\"\",2025-01-01,2025-01-01,2025-12-31,1000.00,10.00,ANUAL,3,4,5,ATIVA", lines[1]);
+    }
+
+    @Test
+    void ndjson_writesOneObjectPerLine() throws Exception {
+        var out = new ByteArrayOutputStream();
+        var writer = new ApoliceExportWriter(out, ApoliceExportWriter.Format.NDJSON, objectMapper);
+
+        writer.accept(summary(1, "AP-1"));
+        writer.accept(summary(2, "AP-2"));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("AP-2", objectMapper.readTree(lines[1]).get("numeroApolice").asText());
+        assertEquals("2025-12-31", objectMapper.readTree(lines[0]).get("vigenciaFim").asText());
+    }
+
+    private static ApoliceSummary summary(int id, String numero) {
+        return new ApoliceSummary(id, numero, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                new BigDecimal("1000.00"), new BigDecimal("10.00"), "ANUAL", 3, 4, 5, "ATIVA");
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportRow;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApoliceImportReaderTest {
+
+    final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void csv_acceptsExportHeader_quotedFields_andReportsBadValuesPerLine() {
+        String csv = ApoliceExportWriter.CSV_HEADER
+                + "9,\"AP-1,\"\"X\"\"\",2025-01-01,2025-01-01,2025-12-31,1000.00,10.00,ANUAL,3,4,5,\n"
+                + "\n"
+                + ",AP-2,2025-13-01,2025-01-01,2025-12-31,1000.00,10.00,ANUAL,3,4,5,CANCELADA\n";
+
+        var rows = readAll(csv, ApoliceImportReader.Format.CSV);
+
+        assertEquals(2, rows.size());
+        var first = rows.get(0);
+        assertTrue(first.valid());
+        assertEquals(2, first.linha());
+        assertEquals("AP-1,\"X\"", first.apolice().numeroApolice());
+        assertEquals(new BigDecimal("1000.00"), first.apolice().valor());
+        assertNull(first.apolice().id());
+        assertNull(first.apolice().statusAtual());
+
+        var second = rows.get(1);
+        assertFalse(second.valid());
+        assertEquals(4, second.linha());
+        assertTrue(second.erro().contains("dataEmissao"));
+    }
+
+    @Test
+    void csv_missingRequiredColumn_isRejectedUpFront() {
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> new ApoliceImportReader(new BufferedReader(new StringReader("numeroApolice,valor\n")),
+                        ApoliceImportReader.Format.CSV, objectMapper));
+        assertTrue(ex.getMessage().contains("dataEmissao"));
+    }
+
+    @Test
+    void ndjson_readsParcelas_andKeepsGoingAfterInvalidLine() {
+        String ndjson = """
+                {"numeroApolice":"AP-1","dataEmissao":"2025-01-01","vigenciaInicio":"2025-01-01","vigenciaFim":"2025-12-31","valor":1200,"comissaoPercentual":10,"tipoContrato":"ANUAL","idCorretorCliente":3,"idProduto":4,"idSeguradora":5,"status":"ativa","parcelas":[{"numeroParcela":1,"dataVencimento":"2025-02-01","valorParcela":600}]}
+                {"numeroApolice":
+                {"numeroApolice":"AP-2","idApolice":99}
+                """;
+
+        var rows = readAll(ndjson, ApoliceImportReader.Format.NDJSON);
+
+        assertEquals(3, rows.size());
+        var a = rows.get(0).apolice();
+        assertEquals("ativa", a.statusAtual());
+        assertEquals(1, a.parcelas().size());
+        assertEquals(LocalDate.of(2025, 2, 1), a.parcelas().get(0).dataVencimento());
+        assertFalse(rows.get(1).valid());
+        assertEquals(2, rows.get(1).linha());
+        assertEquals("AP-2", rows.get(2).apolice().numeroApolice());
+    }
+
+    private List<ApoliceImportRow> readAll(String body, ApoliceImportReader.Format format) {
+        var reader = new ApoliceImportReader(new BufferedReader(new StringReader(body)), format, objectMapper);
+        List<ApoliceImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.jmcodestudio.megabarros.adapters.web.controller.seguradora;
+
+import br.com.jmcodestudio.megabarros.application.domain.produto.Produto;
+import br.com.jmcodestudio.megabarros.application.domain.produto.ProdutoId;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.SeguradoraId;
+import br.com.jmcodestudio.megabarros.application.port.in.seguradora.ListSeguradorasUseCase;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SeguradoraCatalogSnapshotTest {
+
+    ListSeguradorasUseCase listUC;
+    ApoliceQueryPort apoliceQuery;
+    SeguradoraCatalogPort catalog;
+    SeguradoraCatalogSnapshot snapshots;
+
+    @BeforeEach
+    void setup() {
+        listUC = mock(ListSeguradorasUseCase.class);
+        apoliceQuery = mock(ApoliceQueryPort.class);
+        catalog = mock(SeguradoraCatalogPort.class);
+        var porto = new SeguradoraId(1);
+        when(listUC.listAll()).thenReturn(List.of(
+                new Seguradora(porto, "Porto", List.of(new Produto(new ProdutoId(10), porto, "Auto", "AUTO")))));
+        when(apoliceQuery.countBySeguradoraIds(anyList())).thenReturn(Map.of(1, 5L));
+        when(apoliceQuery.countByProdutoIds(anyList())).thenReturn(Map.of(10, 5L));
+        when(catalog.version()).thenReturn(OptionalLong.of(1));
+        snapshots = new SeguradoraCatalogSnapshot(listUC, apoliceQuery, catalog, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void current_rendersOnce_whileVersionIsUnchanged() {
+        var first = snapshots.current();
+        var second = snapshots.current();
+
+        assertSame(first, second);
+        String body = new String(first.body(), StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"nomeSeguradora\":\"Porto\""));
+        assertTrue(body.contains("\"apoliceCount\":5"));
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        verify(listUC, times(1)).listAll();
+        verify(apoliceQuery, times(1)).countByProdutoIds(anyList());
+    }
+
+    @Test
+    void current_rerenders_whenVersionChanges_andEtagFollowsContent() {
+        var first = snapshots.current();
+        when(catalog.version()).thenReturn(OptionalLong.of(2));
+        var sameContent = snapshots.current();
+        when(catalog.version()).thenReturn(OptionalLong.of(3));
+        when(apoliceQuery.countByProdutoIds(anyList())).thenReturn(Map.of(10, 6L));
+        var changed = snapshots.current();
+
+        verify(listUC, times(3)).listAll();
+        assertEquals(first.etag(), sameContent.etag());
+        assertNotEquals(first.etag(), changed.etag());
+    }
+
+    @Test
+    void current_withoutVersion_rendersEveryCall() {
+        when(catalog.version()).thenReturn(OptionalLong.empty());
+
+        snapshots.current();
+        snapshots.current();
+
+        verify(listUC, times(2)).listAll();
+    }
+
+    @Test
+    void matches_handlesListsWildcardAndWeakPrefix() {
+        var snap = snapshots.current();
+
+        assertTrue(snap.matches(snap.etag()));
+        assertTrue(snap.matches("\"outro\", W/" + snap.etag()));
+        assertTrue(snap.matches("*"));
+        assertFalse(snap.matches("\"outro\""));
+        assertFalse(snap.matches(null));
+    }
+}
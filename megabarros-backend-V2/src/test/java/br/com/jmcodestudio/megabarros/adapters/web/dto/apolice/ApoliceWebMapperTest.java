@@ -0,0 +1,64 @@
+package br.com.jmcodestudio.megabarros.adapters.web.dto.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApoliceWebMapperTest {
+
+    final ApoliceWebMapper mapper = Mappers.getMapper(ApoliceWebMapper.class);
+
+    @Test
+    void cursor_roundTrip_byId() {
+        var cursor = new ApoliceCursor(ApoliceSort.ID, null, 42);
+
+        String encoded = mapper.encodeCursor(cursor);
+
+        assertFalse(encoded.contains("|"));
+        assertEquals(cursor, mapper.decodeCursor(encoded));
+    }
+
+    @Test
+    void cursor_roundTrip_byVigenciaFim() {
+        var cursor = new ApoliceCursor(ApoliceSort.VIGENCIA_FIM, LocalDate.of(2025, 12, 31), 7);
+
+        assertEquals(cursor, mapper.decodeCursor(mapper.encodeCursor(cursor)));
+    }
+
+    @Test
+    void cursor_nullOrBlank_meansFirstPage() {
+        assertNull(mapper.encodeCursor(null));
+        assertNull(mapper.decodeCursor(null));
+        assertNull(mapper.decodeCursor("  "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ID||",               // sem id
+            "ID||abc",            // id não numérico
+            "NOME||1",            // ordenação desconhecida
+            "VIGENCIA_FIM||1",    // VIGENCIA_FIM exige data
+            "VIGENCIA_FIM|2025-13-01|1",
+            "ID"                  // campos faltando
+    })
+    void cursor_malformedPayload_isRejected(String raw) {
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> mapper.decodeCursor(encoded));
+        assertEquals("Cursor inválido.", ex.getMessage());
+    }
+
+    @Test
+    void cursor_notBase64_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> mapper.decodeCursor("%%%não-é-base64%%%"));
+    }
+}
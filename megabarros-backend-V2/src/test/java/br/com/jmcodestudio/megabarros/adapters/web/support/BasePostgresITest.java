@@ -0,0 +1,129 @@
+package br.com.jmcodestudio.megabarros.adapters.web.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+// Testes de persistência (triggers, sequências, SQL) contra o schema real das migrations
+@Testcontainers
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class BasePostgresITest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("megabarros_test")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.properties.hibernate.default_schema", () -> "public");
+        registry.add("spring.flyway.schemas", () -> "public");
+        registry.add("spring.flyway.defaultSchema", () -> "public");
+
+        // JWT
+        registry.add("JWT_ISSUER", () -> "megabarros-v2");
+        registry.add("JWT_AUDIENCE", () -> "megabarros-frontend");
+        registry.add("JWT_SECRET", () -> "test-secret-32-bytes-minimum-1234567890");
+        registry.add("JWT_ACCESS_EXP_SECONDS", () -> "3600");
+        registry.add("JWT_REFRESH_EXP_SECONDS", () -> "1209600");
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbc;
+
+    protected void truncateAll() {
+        jdbc.execute("SET search_path TO public");
+        jdbc.update("""
+            TRUNCATE TABLE
+                contato,
+                apolice_cobertura,
+                parcela_apolice,
+                apolice_status,
+                apolice,
+                corretor_cliente,
+                corretor,
+                cliente_endereco,
+                beneficiario,
+                cliente,
+                produto,
+                seguradora,
+                refresh_token,
+                usuario
+            RESTART IDENTITY CASCADE
+        """);
+    }
+
+    protected int insertCorretor(String nome) {
+        return jdbc.queryForObject("INSERT INTO corretor (nome_corretor, uf) VALUES (?, 'SP') RETURNING id_corretor",
+                Integer.class, nome);
+    }
+
+    protected int insertCliente(String nome, String cpfCnpj) {
+        return jdbc.queryForObject("INSERT INTO cliente (nome_cliente, cpf_cnpj) VALUES (?, ?) RETURNING id_cliente",
+                Integer.class, nome, cpfCnpj);
+    }
+
+    protected int link(int corretorId, int clienteId) {
+        return jdbc.queryForObject("""
+            INSERT INTO corretor_cliente (id_corretor, id_cliente) VALUES (?, ?) RETURNING id_corretor_cliente
+        """, Integer.class, corretorId, clienteId);
+    }
+
+    protected int insertSeguradora(String nome) {
+        return jdbc.queryForObject("INSERT INTO seguradora (nome_seguradora) VALUES (?) RETURNING id_seguradora",
+                Integer.class, nome);
+    }
+
+    protected int insertProduto(String nome, int seguradoraId) {
+        return jdbc.queryForObject("""
+            INSERT INTO produto (nome_produto, tipo_produto, id_seguradora) VALUES (?, 'AUTO', ?) RETURNING id_produto
+        """, Integer.class, nome, seguradoraId);
+    }
+
+    // Apólice ATIVA (status inicial aberto; a trigger da V10 preenche status_atual)
+    protected int insertApolice(String numero, LocalDate emissao, BigDecimal valor, BigDecimal comissao,
+                                int corretorClienteId, int produtoId, int seguradoraId) {
+        int id = jdbc.queryForObject("""
+            INSERT INTO apolice (numero_apolice, data_emissao, vigencia_inicio, vigencia_fim, valor,
+                                 comissao_percentual, tipo_contrato, id_corretor_cliente, id_produto, id_seguradora)
+            VALUES (?, ?, ?, ?, ?, ?, 'ANUAL', ?, ?, ?) RETURNING id_apolice
+        """, Integer.class, numero, Date.valueOf(emissao), Date.valueOf(emissao), Date.valueOf(emissao.plusYears(1)),
+                valor, comissao, corretorClienteId, produtoId, seguradoraId);
+        jdbc.update("INSERT INTO apolice_status (id_apolice, status) VALUES (?, 'ATIVA')", id);
+        return id;
+    }
+
+    // Fecha o status aberto e abre o novo, como o cancelamento faz
+    protected void changeStatus(int apoliceId, String status) {
+        jdbc.update("UPDATE apolice_status SET data_fim = now() WHERE id_apolice = ? AND data_fim IS NULL", apoliceId);
+        jdbc.update("INSERT INTO apolice_status (id_apolice, status) VALUES (?, ?)", apoliceId, status);
+    }
+
+    protected int insertParcela(int apoliceId, int numero, LocalDate vencimento, BigDecimal valor,
+                                String status, LocalDate pagamento) {
+        return jdbc.queryForObject("""
+            INSERT INTO parcela_apolice (id_apolice, numero_parcela, data_vencimento, valor_parcela,
+                                         status_pagamento, data_pagamento)
+            VALUES (?, ?, ?, ?, ?, ?) RETURNING id_parcela
+        """, Integer.class, apoliceId, numero, Date.valueOf(vencimento), valor, status,
+                pagamento == null ? null : Date.valueOf(pagamento));
+    }
+}
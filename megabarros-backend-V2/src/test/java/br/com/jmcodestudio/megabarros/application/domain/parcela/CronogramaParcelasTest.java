@@ -0,0 +1,65 @@
+package br.com.jmcodestudio.megabarros.application.domain.parcela;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CronogramaParcelasTest {
+
+    @Test
+    void gerar_putsRemainderOnLastByDefault_andSumsToTotal() {
+        var c = new CronogramaParcelas(3, LocalDate.of(2025, 1, 10), null, null);
+
+        var ps = c.gerar(new ApoliceId(7), new BigDecimal("100.00"), "PENDENTE");
+
+        assertEquals(3, ps.size());
+        assertEquals(new BigDecimal("33.33"), ps.get(0).valorParcela());
+        assertEquals(new BigDecimal("33.34"), ps.get(2).valorParcela());
+        assertEquals(new BigDecimal("100.00"), ps.stream().map(Parcela::valorParcela).reduce(BigDecimal.ZERO, BigDecimal::add));
+        assertEquals(LocalDate.of(2025, 3, 10), ps.get(2).dataVencimento());
+        assertEquals(3, ps.get(2).numeroParcela());
+        assertEquals(7, ps.get(0).apoliceId().value());
+        assertEquals("PENDENTE", ps.get(0).statusPagamento());
+    }
+
+    @Test
+    void gerar_firstRounding_andMonthEndDoesNotDrift() {
+        var c = new CronogramaParcelas(4, LocalDate.of(2025, 1, 31), Periodicidade.MENSAL, RegraArredondamento.PRIMEIRA);
+
+        var ps = c.gerar(new ApoliceId(1), new BigDecimal("1000.01"), "PENDENTE");
+
+        assertEquals(new BigDecimal("250.01"), ps.get(0).valorParcela());
+        assertEquals(new BigDecimal("250.00"), ps.get(3).valorParcela());
+        assertEquals(LocalDate.of(2025, 2, 28), ps.get(1).dataVencimento());
+        assertEquals(LocalDate.of(2025, 3, 31), ps.get(2).dataVencimento());
+    }
+
+    @Test
+    void gerar_usesPeriodicityInMonths() {
+        var c = new CronogramaParcelas(2, LocalDate.of(2025, 1, 15), Periodicidade.SEMESTRAL, null);
+
+        var ps = c.gerar(new ApoliceId(1), new BigDecimal("10"), "PENDENTE");
+
+        assertEquals(LocalDate.of(2025, 7, 15), ps.get(1).dataVencimento());
+        assertEquals(new BigDecimal("5.00"), ps.get(1).valorParcela());
+    }
+
+    @Test
+    void rejectsInvalidQuantityAndNonPositiveValue() {
+        assertThrows(IllegalArgumentException.class, () -> new CronogramaParcelas(0, LocalDate.now(), null, null));
+        assertThrows(IllegalArgumentException.class, () -> new CronogramaParcelas(CronogramaParcelas.MAX_PARCELAS + 1, LocalDate.now(), null, null));
+        var c = new CronogramaParcelas(2, LocalDate.now(), null, null);
+        assertThrows(IllegalArgumentException.class, () -> c.gerar(new ApoliceId(1), BigDecimal.ZERO, "PENDENTE"));
+    }
+
+    @Test
+    void rejectsValueBelowOneCentPerParcela() {
+        var c = new CronogramaParcelas(12, LocalDate.now(), null, null);
+        assertThrows(IllegalArgumentException.class, () -> c.gerar(new ApoliceId(1), new BigDecimal("0.05"), "PENDENTE"));
+        assertEquals(12, c.gerar(new ApoliceId(1), new BigDecimal("0.12"), "PENDENTE").size());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.jmcodestudio.megabarros.application.usecase;
 
 import br.com.jmcodestudio.megabarros.application.port.in.AuthenticateUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.*;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.InvalidCredentialsException;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.TooManyAttemptsException;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ class AuthenticateUseCaseImplTest {
     AuditLogPort audit;
     RequestMetadataPort req;
     LoginRateLimiterPort limiter;
+    CorretorQueryPort corretorQuery;
 
     AuthenticateUseCaseImpl useCase;
 
@@ -35,8 +37,9 @@ class AuthenticateUseCaseImplTest {
         audit = mock(AuditLogPort.class);
         req = mock(RequestMetadataPort.class);
         limiter = mock(LoginRateLimiterPort.class);
+        corretorQuery = mock(CorretorQueryPort.class);
 
-        useCase = new AuthenticateUseCaseImpl(usuarios, hasher, tokens, refreshStore, audit, req, limiter);
+        useCase = new AuthenticateUseCaseImpl(usuarios, hasher, tokens, refreshStore, audit, req, limiter, corretorQuery);
     }
 
     @Test
@@ -61,6 +64,25 @@ class AuthenticateUseCaseImplTest {
         verify(refreshStore).persist(eq(1L), anyString(), eq("jti-new"), any(Instant.class));
         verify(limiter).recordSuccess(anyString());
         verify(audit, atLeastOnce()).record(any());
+        verifyNoInteractions(corretorQuery);
+    }
+
+    @Test
+    void login_corretor_carriesCorretorIdClaim() {
+        when(req.ip()).thenReturn("127.0.0.1");
+        when(limiter.allow(anyString())).thenReturn(true);
+
+        var user = new UsuarioRepositoryPort.UsuarioRecord(2L,"Corretor","corretor@example.com","hash","CORRETOR",true,false);
+        when(usuarios.findByEmail("corretor@example.com")).thenReturn(Optional.of(user));
+        when(hasher.matches("Admin@123", "hash")).thenReturn(true);
+        when(corretorQuery.findCorretorIdByUsuario(2L, "corretor@example.com")).thenReturn(3);
+        when(tokens.generateRefreshToken(eq(2L), any(Instant.class)))
+                .thenReturn(new TokenServicePort.GeneratedRefresh("refresh", "jti", Instant.now().plusSeconds(100)));
+
+        useCase.login("corretor@example.com","Admin@123");
+
+        verify(tokens).generateAccessToken(eq(2L), eq("corretor@example.com"), eq("CORRETOR"),
+                eq(Map.of("iss", "megabarros-v2", TokenServicePort.CLAIM_CORRETOR_ID, 3)), any(Instant.class));
     }
 
     @Test
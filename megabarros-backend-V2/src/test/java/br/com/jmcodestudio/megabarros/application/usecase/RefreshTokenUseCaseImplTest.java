@@ -3,6 +3,7 @@ package br.com.jmcodestudio.megabarros.application.usecase;
 import br.com.jmcodestudio.megabarros.application.port.in.AuthenticateUseCase;
 import br.com.jmcodestudio.megabarros.application.port.in.RefreshTokenUseCase;
 import br.com.jmcodestudio.megabarros.application.port.out.*;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
 import br.com.jmcodestudio.megabarros.application.usecase.exception.TokenInvalidException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,7 +32,7 @@ class RefreshTokenUseCaseImplTest {
         audit = mock(AuditLogPort.class);
         req = mock(RequestMetadataPort.class);
 
-        useCase = new RefreshTokenUseCaseImpl(tokens, refreshStore, usuarios, audit, req);
+        useCase = new RefreshTokenUseCaseImpl(tokens, refreshStore, usuarios, audit, req, mock(CorretorQueryPort.class));
     }
 
     @Test
@@ -0,0 +1,73 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCursor;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApolicePage;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceSort;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApolicePortfolioPort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApolicePortfolioUseCaseImplTest {
+
+    ApolicePortfolioPort port;
+    DataScopeResolver scopeResolver;
+    CurrentUserPort currentUser;
+    ApolicePortfolioUseCaseImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ApolicePortfolioPort.class);
+        scopeResolver = mock(DataScopeResolver.class);
+        currentUser = mock(CurrentUserPort.class);
+        when(port.findPortfolio(any(), any(), any(), any(), anyInt())).thenReturn(new ApolicePage<>(List.of(), null));
+        useCase = new ApolicePortfolioUseCaseImpl(port, scopeResolver, currentUser);
+    }
+
+    @Test
+    void corretor_resolvesOwnIdOnce_andNormalizesFilter() {
+        when(currentUser.role()).thenReturn("CORRETOR");
+        when(scopeResolver.corretorId()).thenReturn(3);
+
+        useCase.portfolio(null, " ativa ", null, null, 0);
+
+        verify(scopeResolver, times(1)).corretorId();
+        verify(port).findPortfolio(3, "ATIVA", ApoliceSort.ID, null, PageSizes.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void corretor_cannotReadAnotherPortfolio() {
+        when(currentUser.role()).thenReturn("CORRETOR");
+        when(scopeResolver.corretorId()).thenReturn(3);
+
+        assertThrows(AccessDeniedException.class, () -> useCase.portfolio(7, null, ApoliceSort.ID, null, 10));
+        verifyNoInteractions(port);
+    }
+
+    @Test
+    void admin_mustInformCorretor_andLimitIsClamped() {
+        when(currentUser.role()).thenReturn("ADMIN");
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.portfolio(null, null, ApoliceSort.ID, null, 10));
+
+        useCase.portfolio(7, "", ApoliceSort.VIGENCIA_FIM, null, 10_000);
+        verify(port).findPortfolio(7, null, ApoliceSort.VIGENCIA_FIM, null, PageSizes.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void cursor_mustMatchSort() {
+        when(currentUser.role()).thenReturn("ADMIN");
+        var after = new ApoliceCursor(ApoliceSort.ID, null, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.portfolio(7, null, ApoliceSort.VIGENCIA_FIM, after, 10));
+    }
+}
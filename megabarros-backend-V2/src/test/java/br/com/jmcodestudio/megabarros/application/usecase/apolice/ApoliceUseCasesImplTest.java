@@ -0,0 +1,169 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCobertura;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceId;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceStatus;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Beneficiario;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.CronogramaParcelas;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApoliceUseCasesImplTest {
+
+    ApoliceRepositoryPort repo;
+    CurrentUserPort currentUser;
+    ApoliceUseCasesImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        repo = mock(ApoliceRepositoryPort.class);
+        currentUser = mock(CurrentUserPort.class);
+        when(currentUser.role()).thenReturn("ADMIN");
+        useCase = new ApoliceUseCasesImpl(repo, currentUser, mock(DataScopeResolver.class));
+    }
+
+    @Test
+    void cancel_locksApoliceBeforeWritingStatuses() {
+        ApoliceId id = new ApoliceId(7);
+        var aberto = new ApoliceStatus(70, id, "ATIVA", LocalDateTime.of(2025, 1, 1, 0, 0), null);
+        when(repo.lockCurrentStatus(id)).thenReturn(Optional.of(aberto));
+
+        useCase.cancel(id, "teste");
+
+        InOrder order = inOrder(repo);
+        order.verify(repo).lockCurrentStatus(id);
+        order.verify(repo).addStatus(argThat(s -> Integer.valueOf(70).equals(s.id()) && s.dataFim() != null));
+        order.verify(repo).addStatus(argThat(s -> s.id() == null && "CANCELADA".equals(s.status())));
+        verify(repo, never()).findCurrentStatus(any());
+    }
+
+    @Test
+    void generateSchedule_locksApoliceBeforeCheckingExistingParcelas() {
+        ApoliceId id = new ApoliceId(7);
+        when(repo.lockById(id)).thenReturn(true);
+        when(repo.findById(id)).thenReturn(Optional.of(apolice(id, List.of(), List.of())));
+        when(repo.saveParcelas(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        var saved = useCase.generateSchedule(id, new CronogramaParcelas(3, LocalDate.of(2025, 1, 10), null, null))
+                .orElseThrow();
+
+        assertEquals(3, saved.size());
+        InOrder order = inOrder(repo);
+        order.verify(repo).lockById(id);
+        order.verify(repo).findById(id);
+        order.verify(repo).saveParcelas(anyList());
+    }
+
+    @Test
+    void generateSchedule_unknownApolice_isEmpty_withoutLoading() {
+        when(repo.lockById(any())).thenReturn(false);
+
+        assertTrue(useCase.generateSchedule(new ApoliceId(7), new CronogramaParcelas(3, LocalDate.of(2025, 1, 10), null, null)).isEmpty());
+        verify(repo, never()).findById(any());
+        verify(repo, never()).saveParcelas(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addCoberturas_savesAllInOneBatch_boundToTheApolice() {
+        ApoliceId id = new ApoliceId(7);
+        when(repo.existsById(id)).thenReturn(true);
+        when(repo.saveCoberturas(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        var saved = useCase.addCoberturas(id, List.of(cobertura(1), cobertura(2), cobertura(3))).orElseThrow();
+
+        assertEquals(3, saved.size());
+        assertTrue(saved.stream().allMatch(c -> id.equals(c.apoliceId()) && c.id() == null));
+        verify(repo, times(1)).saveCoberturas(anyList());
+        verify(repo, never()).saveCobertura(any());
+        verify(repo, never()).findById(any());
+    }
+
+    @Test
+    void addCoberturas_unknownApolice_isEmpty() {
+        when(repo.existsById(any())).thenReturn(false);
+
+        assertTrue(useCase.addCoberturas(new ApoliceId(7), List.of(cobertura(1))).isEmpty());
+        verify(repo, never()).saveCoberturas(anyList());
+    }
+
+    @Test
+    void addCoberturas_repeatedCobertura_isRejectedBeforeAnyQuery() {
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> useCase.addCoberturas(new ApoliceId(7), List.of(cobertura(1), cobertura(1))));
+
+        assertTrue(ex.getMessage().contains("repetida"));
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void addBeneficiarios_percentualOutOfRange_isRejected() {
+        var b = new Beneficiario(null, null, null, "Maria", null, new BigDecimal("120"));
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.addBeneficiarios(new ApoliceId(7), List.of(b)));
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void removeCoberturas_deduplicatesIds_andDeletesInOneCall() {
+        ApoliceId id = new ApoliceId(7);
+        when(repo.deleteCoberturas(id, List.of(71, 72))).thenReturn(2);
+
+        assertEquals(2, useCase.removeCoberturas(id, List.of(71, 72, 71)));
+        verify(repo, times(1)).deleteCoberturas(id, List.of(71, 72));
+        verify(repo, never()).deleteCoberturaById(any());
+    }
+
+    @Test
+    void bulkOperations_deniedForCorretor() {
+        when(currentUser.role()).thenReturn("CORRETOR");
+
+        assertThrows(AccessDeniedException.class, () -> useCase.addCoberturas(new ApoliceId(7), List.of(cobertura(1))));
+        assertThrows(AccessDeniedException.class, () -> useCase.removeBeneficiarios(new ApoliceId(7), List.of(1)));
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_persistsCoberturasAndBeneficiariosOfTheRequest() {
+        Apolice req = apolice(null, List.of(cobertura(1), cobertura(2)),
+                List.of(new Beneficiario(null, null, null, "Maria", null, new BigDecimal("100"))));
+        when(repo.create(any(), any())).thenReturn(apolice(new ApoliceId(9), List.of(), List.of()));
+        when(repo.saveCoberturas(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(repo.saveBeneficiarios(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        Apolice created = useCase.create(req);
+
+        assertEquals(2, created.coberturas().size());
+        assertEquals(new ApoliceId(9), created.coberturas().get(0).apoliceId());
+        assertEquals(new ApoliceId(9), created.beneficiarios().get(0).apoliceId());
+        verify(repo, times(1)).saveCoberturas(anyList());
+        verify(repo, times(1)).saveBeneficiarios(anyList());
+    }
+
+    private static ApoliceCobertura cobertura(int idCobertura) {
+        return new ApoliceCobertura(null, null, idCobertura, new BigDecimal("5000.00"));
+    }
+
+    private static Apolice apolice(ApoliceId id, List<ApoliceCobertura> coberturas, List<Beneficiario> beneficiarios) {
+        return new Apolice(id, "AP-1", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1),
+                new BigDecimal("1000.00"), new BigDecimal("10"), "NOVO", 1, 1, 1, "ATIVA",
+                List.of(), coberturas, beneficiarios);
+    }
+}
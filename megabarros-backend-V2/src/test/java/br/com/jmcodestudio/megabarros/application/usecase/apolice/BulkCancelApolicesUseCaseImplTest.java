@@ -0,0 +1,77 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceCancelSelection;
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.RequestMetadataPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceBulkCancelPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BulkCancelApolicesUseCaseImplTest {
+
+    ApoliceBulkCancelPort port;
+    CurrentUserPort currentUser;
+    BulkCancelApolicesUseCaseImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ApoliceBulkCancelPort.class);
+        currentUser = mock(CurrentUserPort.class);
+        when(currentUser.role()).thenReturn("ADMIN");
+        when(currentUser.userId()).thenReturn(1L);
+        useCase = new BulkCancelApolicesUseCaseImpl(port, currentUser, mock(RequestMetadataPort.class), 2);
+    }
+
+    @Test
+    void cancelBulk_walksChunksByKeyset_andPassesOneAuditEntryPerChunk() {
+        var sel = new ApoliceCancelSelection(null, 4, null);
+        when(port.findCancellableIds(any(), eq(0), eq(2))).thenReturn(List.of(1, 2));
+        when(port.findCancellableIds(any(), eq(2), eq(2))).thenReturn(List.of(5));
+        when(port.cancelChunk(eq(List.of(1, 2)), any(), any())).thenReturn(2);
+        when(port.cancelChunk(eq(List.of(5)), any(), any())).thenReturn(1);
+
+        var result = useCase.cancelBulk(sel, "produto descontinuado");
+
+        assertEquals(3, result.canceladas());
+        assertEquals(2, result.lotes());
+        assertEquals(0, result.ignoradas());
+        // Último lote menor que o tamanho: não consulta de novo
+        verify(port, times(2)).findCancellableIds(any(), anyInt(), anyInt());
+        ArgumentCaptor<AuditLogPort.Entry> entries = ArgumentCaptor.forClass(AuditLogPort.Entry.class);
+        verify(port, times(2)).cancelChunk(anyList(), any(), entries.capture());
+        var first = entries.getAllValues().get(0);
+        assertEquals("APOLICE_BULK_CANCEL", first.action());
+        assertEquals(1, first.metadata().get("firstId"));
+        assertEquals(2, first.metadata().get("lastId"));
+        assertEquals("produto descontinuado", first.metadata().get("reason"));
+    }
+
+    @Test
+    void cancelBulk_byIds_reportsIgnored() {
+        var sel = new ApoliceCancelSelection(List.of(3, 1, 3, 9), null, null);
+        when(port.findCancellableIds(any(), eq(0), eq(2))).thenReturn(List.of(1));
+        when(port.cancelChunk(eq(List.of(1)), any(), any())).thenReturn(1);
+
+        var result = useCase.cancelBulk(sel, null);
+
+        assertEquals(1, result.canceladas());
+        assertEquals(2, result.ignoradas());
+    }
+
+    @Test
+    void cancelBulk_requiresSelection_andDeniesCorretor() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.cancelBulk(new ApoliceCancelSelection(List.of(), null, null), null));
+        when(currentUser.role()).thenReturn("CORRETOR");
+        assertThrows(AccessDeniedException.class, () -> useCase.cancelBulk(new ApoliceCancelSelection(List.of(1), null, null), null));
+        verifyNoInteractions(port);
+    }
+}
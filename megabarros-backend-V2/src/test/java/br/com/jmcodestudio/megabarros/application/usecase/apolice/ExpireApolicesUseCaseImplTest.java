@@ -0,0 +1,64 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.port.out.AuditLogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceExpiryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExpireApolicesUseCaseImplTest {
+
+    static final LocalDate HOJE = LocalDate.of(2025, 3, 10);
+
+    ApoliceExpiryPort port;
+    AuditLogPort audit;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ApoliceExpiryPort.class);
+        audit = mock(AuditLogPort.class);
+        when(port.oldestPending(HOJE)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void expireDue_stopsOnShortChunk_andAuditsEachChunk() {
+        when(port.expireChunk(eq(HOJE), eq(2), any())).thenReturn(2, 1);
+
+        var result = new ExpireApolicesUseCaseImpl(port, audit, 2, 10).expireDue(HOJE);
+
+        assertEquals(3, result.vencidas());
+        assertEquals(2, result.lotes());
+        assertNull(result.pendenteMaisAntiga());
+        verify(port, times(2)).expireChunk(any(), anyInt(), any());
+        verify(audit, times(2)).record(argThat(e -> e.action().equals("APOLICE_EXPIRE") && e.userId() == null));
+    }
+
+    @Test
+    void expireDue_respectsMaxChunks_andReportsBacklog() {
+        when(port.expireChunk(eq(HOJE), eq(2), any())).thenReturn(2);
+        when(port.oldestPending(HOJE)).thenReturn(Optional.of(LocalDate.of(2025, 3, 1)));
+
+        var result = new ExpireApolicesUseCaseImpl(port, audit, 2, 3).expireDue(HOJE);
+
+        assertEquals(6, result.vencidas());
+        assertEquals(3, result.lotes());
+        assertEquals(LocalDate.of(2025, 3, 1), result.pendenteMaisAntiga());
+    }
+
+    @Test
+    void expireDue_nothingDue_noAudit() {
+        when(port.expireChunk(any(), anyInt(), any())).thenReturn(0);
+
+        var result = new ExpireApolicesUseCaseImpl(port, audit, 500, 100).expireDue(HOJE);
+
+        assertEquals(0, result.vencidas());
+        assertEquals(0, result.lotes());
+        verifyNoInteractions(audit);
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.apolice.Apolice;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportReferences;
+import br.com.jmcodestudio.megabarros.application.domain.apolice.ApoliceImportRow;
+import br.com.jmcodestudio.megabarros.application.domain.parcela.Parcela;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceImportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImportApolicesUseCaseImplTest {
+
+    ApoliceImportPort port;
+    CurrentUserPort currentUser;
+    ImportApolicesUseCaseImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ApoliceImportPort.class);
+        currentUser = mock(CurrentUserPort.class);
+        when(currentUser.username()).thenReturn("admin@example.com");
+        when(currentUser.role()).thenReturn("ADMIN");
+        when(port.loadReferences()).thenReturn(new ApoliceImportReferences(Map.of(4, 5), Set.of(5), Set.of(3)));
+        when(port.findExistingNumeros(anyCollection())).thenReturn(Set.of());
+        useCase = new ImportApolicesUseCaseImpl(port, currentUser, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importAll_writesInChunks_andLoadsReferencesOnce() {
+        var rows = IntStream.rangeClosed(1, 5).mapToObj(i -> ApoliceImportRow.of(i, apolice("AP-" + i, 4, 5))).toList();
+
+        var result = useCase.importAll(rows.iterator());
+
+        assertEquals(5, result.total());
+        assertEquals(5, result.importadas());
+        assertEquals(0, result.rejeitadas());
+        verify(port, times(1)).loadReferences();
+        ArgumentCaptor<List<Apolice>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(port, times(3)).insertChunk(chunks.capture());
+        assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals("ATIVA", chunks.getAllValues().get(0).get(0).statusAtual());
+    }
+
+    @Test
+    void importAll_reportsPerRowErrors_withoutStoppingValidRows() {
+        when(port.findExistingNumeros(anyCollection())).thenReturn(Set.of("AP-DB"));
+        var rows = List.of(
+                ApoliceImportRow.of(2, apolice("AP-1", 4, 5)),
+                ApoliceImportRow.invalid(3, "JSON inválido"),
+                ApoliceImportRow.of(4, apolice("AP-2", 99, 5)),
+                ApoliceImportRow.of(5, apolice("AP-3", 4, 6)),
+                ApoliceImportRow.of(6, apolice("AP-1", 4, 5)),
+                ApoliceImportRow.of(7, apolice("AP-DB", 4, 5)));
+
+        var result = useCase.importAll(rows.iterator());
+
+        assertEquals(6, result.total());
+        assertEquals(1, result.importadas());
+        assertEquals(5, result.rejeitadas());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), result.erros().stream().map(e -> e.linha()).sorted().toList());
+        assertFalse(result.errosTruncados());
+    }
+
+    @Test
+    void importAll_failedChunk_rejectsOnlyItsRows() {
+        doThrow(new IllegalStateException("Lote rejeitado pelo banco"))
+                .doNothing()
+                .when(port).insertChunk(anyList());
+        var rows = IntStream.rangeClosed(1, 3).mapToObj(i -> ApoliceImportRow.of(i, apolice("AP-" + i, 4, 5))).toList();
+
+        var result = useCase.importAll(rows.iterator());
+
+        assertEquals(1, result.importadas());
+        assertEquals(2, result.rejeitadas());
+    }
+
+    @Test
+    void importAll_deniedForCorretor() {
+        when(currentUser.role()).thenReturn("CORRETOR");
+        assertThrows(AccessDeniedException.class, () -> useCase.importAll(List.<ApoliceImportRow>of().iterator()));
+        verifyNoInteractions(port);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importAll_normalizesStatuses_beforeWriting() {
+        var row = withStatus(apolice("AP-1", 4, 5), " vencida ",
+                List.of(parcela(1, " paga", LocalDate.of(2025, 2, 10)), parcela(2, null, null)));
+
+        var result = useCase.importAll(List.of(ApoliceImportRow.of(1, row)).iterator());
+
+        assertEquals(1, result.importadas());
+        ArgumentCaptor<List<Apolice>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(port).insertChunk(chunk.capture());
+        Apolice gravada = chunk.getValue().get(0);
+        assertEquals("VENCIDA", gravada.statusAtual());
+        assertEquals(List.of("PAGA", "PENDENTE"), gravada.parcelas().stream().map(Parcela::statusPagamento).toList());
+    }
+
+    @Test
+    void importAll_rejectsUnknownStatuses_andPaidWithoutDate() {
+        var rows = List.of(
+                ApoliceImportRow.of(1, withStatus(apolice("AP-1", 4, 5), "FOO", List.of())),
+                ApoliceImportRow.of(2, withStatus(apolice("AP-2", 4, 5), "ATIVA",
+                        List.of(parcela(1, "quitada", LocalDate.of(2025, 2, 10))))),
+                ApoliceImportRow.of(3, withStatus(apolice("AP-3", 4, 5), "ATIVA",
+                        List.of(parcela(1, "PAGA", null)))),
+                ApoliceImportRow.of(4, withStatus(apolice("AP-4", 4, 5), "ativa", List.of())));
+
+        var result = useCase.importAll(rows.iterator());
+
+        assertEquals(1, result.importadas());
+        assertEquals(3, result.rejeitadas());
+        assertTrue(result.erros().get(0).mensagem().contains("FOO"));
+        assertTrue(result.erros().get(1).mensagem().contains("QUITADA"));
+        assertTrue(result.erros().get(2).mensagem().contains("sem data de pagamento"));
+    }
+
+    private static Apolice withStatus(Apolice a, String status, List<Parcela> parcelas) {
+        return new Apolice(a.id(), a.numeroApolice(), a.dataEmissao(), a.vigenciaInicio(), a.vigenciaFim(), a.valor(),
+                a.comissaoPercentual(), a.tipoContrato(), a.idCorretorCliente(), a.idProduto(), a.idSeguradora(),
+                status, parcelas, List.of(), List.of());
+    }
+
+    private static Parcela parcela(int numero, String status, LocalDate pagamento) {
+        return new Parcela(null, null, numero, LocalDate.of(2025, numero + 1, 10), new BigDecimal("500.00"), status, pagamento);
+    }
+
+    private static Apolice apolice(String numero, int produto, int seguradora) {
+        return new Apolice(null, numero, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                new BigDecimal("1000.00"), new BigDecimal("10.00"), "ANUAL", 3, produto, seguradora,
+                null, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.jmcodestudio.megabarros.application.usecase.apolice;
+
+import br.com.jmcodestudio.megabarros.application.domain.parcela.ParcelaAtrasadaPage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ParcelaOverduePort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OverdueParcelasUseCaseImplTest {
+
+    static final LocalDate HOJE = LocalDate.of(2025, 3, 10);
+
+    ParcelaOverduePort port;
+    DataScopeResolver scopeResolver;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ParcelaOverduePort.class);
+        scopeResolver = mock(DataScopeResolver.class);
+        when(scopeResolver.current()).thenReturn(DataScope.all());
+    }
+
+    @Test
+    void markOverdue_loopsUntilShortChunk() {
+        when(port.markOverdueChunk(HOJE, 3)).thenReturn(3, 3, 1);
+
+        var result = new OverdueParcelasUseCaseImpl(port, scopeResolver, 3, 10).markOverdue(HOJE);
+
+        assertEquals(7, result.atrasadas());
+        assertEquals(3, result.lotes());
+        verify(port, times(3)).markOverdueChunk(any(), anyInt());
+    }
+
+    @Test
+    void markOverdue_respectsMaxChunks() {
+        when(port.markOverdueChunk(HOJE, 3)).thenReturn(3);
+
+        var result = new OverdueParcelasUseCaseImpl(port, scopeResolver, 3, 2).markOverdue(HOJE);
+
+        assertEquals(6, result.atrasadas());
+        assertEquals(2, result.lotes());
+    }
+
+    @Test
+    void listOverdue_clampsPageSize() {
+        when(port.findOverdue(any(), any(), any(), anyInt())).thenReturn(new ParcelaAtrasadaPage(List.of(), null));
+        var useCase = new OverdueParcelasUseCaseImpl(port, scopeResolver, 1000, 100);
+
+        useCase.listOverdue(HOJE, null, 0);
+        useCase.listOverdue(HOJE, null, 10_000);
+
+        verify(port).findOverdue(HOJE, DataScope.all(), null, PageSizes.DEFAULT_PAGE_SIZE);
+        verify(port).findOverdue(HOJE, DataScope.all(), null, PageSizes.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void listOverdue_passesCorretorScopeToQuery() {
+        when(scopeResolver.current()).thenReturn(DataScope.corretor(3, List.of(5, 6)));
+        when(port.findOverdue(any(), any(), any(), anyInt())).thenReturn(new ParcelaAtrasadaPage(List.of(), null));
+
+        new OverdueParcelasUseCaseImpl(port, scopeResolver, 1000, 100).listOverdue(HOJE, null, 10);
+
+        verify(port).findOverdue(HOJE, DataScope.corretor(3, List.of(5, 6)), null, 10);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jmcodestudio.megabarros.application.usecase.cliente;
+
+import br.com.jmcodestudio.megabarros.application.domain.cliente.Cliente;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteId;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteMatch;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClientePage;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchCursor;
+import br.com.jmcodestudio.megabarros.application.domain.cliente.ClienteSearchPage;
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.cliente.ClienteSearchPort;
+import br.com.jmcodestudio.megabarros.application.usecase.PageSizes;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClienteSearchUseCaseTest {
+
+    ClienteSearchPort searchPort;
+    DataScopeResolver scopeResolver;
+    ClienteUseCasesImpl useCase;
+    ClienteRepositoryPort repo;
+    // Cliente só precisa do id do corretor: sem lista inline de vínculos
+    DataScope scope = DataScope.corretor(3, null);
+
+    @BeforeEach
+    void setup() {
+        searchPort = mock(ClienteSearchPort.class);
+        scopeResolver = mock(DataScopeResolver.class);
+        when(scopeResolver.corretorId()).thenReturn(3);
+        CurrentUserPort currentUser = mock(CurrentUserPort.class);
+        when(currentUser.role()).thenReturn("CORRETOR");
+        repo = mock(ClienteRepositoryPort.class);
+        ClienteSearchPage empty = new ClienteSearchPage(List.of(), null);
+        when(searchPort.findByDocumento(any(), any(), any())).thenReturn(empty);
+        when(searchPort.searchText(any(), any(), any(), anyInt())).thenReturn(empty);
+        useCase = new ClienteUseCasesImpl(repo, currentUser,
+                scopeResolver, mock(ApoliceQueryPort.class), searchPort);
+    }
+
+    @Test
+    void formattedCpf_goesToExactLookup() {
+        useCase.search(" 111.222.333-44 ", null, 10);
+
+        verify(searchPort).findByDocumento("11122233344", "111.222.333-44", scope);
+        verify(searchPort, never()).searchText(any(), any(), any(), anyInt());
+        verify(scopeResolver, never()).current();
+    }
+
+    @Test
+    void text_isLowercased_withScopeCursorAndClampedLimit() {
+        ClienteSearchCursor after = new ClienteSearchCursor(ClienteMatch.PREFIXO, "maria", 7);
+
+        useCase.search(" Maria ", after, 10_000);
+
+        verify(searchPort).searchText("maria", scope, after, PageSizes.MAX_PAGE_SIZE);
+        verify(scopeResolver, never()).current();
+    }
+
+    @Test
+    void getById_andPage_resolveOnlyCorretorId() {
+        when(repo.findById(new ClienteId(5), scope)).thenReturn(Optional.of(mock(Cliente.class)));
+        when(repo.findPage(scope, null, PageSizes.DEFAULT_PAGE_SIZE)).thenReturn(new ClientePage(List.of(), null));
+
+        assertTrue(useCase.getById(5).isPresent());
+        useCase.search(null, 0);
+
+        verify(repo).findPage(scope, null, PageSizes.DEFAULT_PAGE_SIZE);
+        verify(scopeResolver, never()).current();
+    }
+
+    @Test
+    void shortTerm_isRejected_withoutQuery() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.search("ab", null, 10));
+        assertThrows(IllegalArgumentException.class, () -> useCase.search(null, null, 10));
+        verifyNoInteractions(searchPort);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.jmcodestudio.megabarros.application.usecase.comissao;
+
+import br.com.jmcodestudio.megabarros.application.domain.comissao.ExtratoComissaoMes;
+import br.com.jmcodestudio.megabarros.application.domain.comissao.PeriodoExtrato;
+import br.com.jmcodestudio.megabarros.application.domain.corretor.Corretor;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.comissao.ExtratoComissaoPort;
+import br.com.jmcodestudio.megabarros.application.usecase.scope.DataScopeResolver;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExtratoComissaoUseCaseImplTest {
+
+    static final YearMonth JAN = YearMonth.of(2020, 1);
+    static final YearMonth FEV = YearMonth.of(2020, 2);
+    static final YearMonth MAR = YearMonth.of(2020, 3);
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2020-04-10T12:00:00Z"), ZoneOffset.UTC);
+
+    ExtratoComissaoPort port;
+    CorretorRepositoryPort corretorRepo;
+    DataScopeResolver scopeResolver;
+    CurrentUserPort currentUser;
+    ExtratoComissaoUseCaseImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        port = mock(ExtratoComissaoPort.class);
+        corretorRepo = mock(CorretorRepositoryPort.class);
+        scopeResolver = mock(DataScopeResolver.class);
+        currentUser = mock(CurrentUserPort.class);
+        when(currentUser.role()).thenReturn("ADMIN");
+        when(corretorRepo.findById(any())).thenReturn(Optional.of(mock(Corretor.class)));
+        useCase = new ExtratoComissaoUseCaseImpl(port, corretorRepo, scopeResolver, currentUser, CLOCK);
+    }
+
+    @Test
+    void extrato_usesCachedMonths_computesAndCachesMissingClosedMonths() {
+        when(port.findCachedMonths(7, JAN, MAR)).thenReturn(List.of(mes(JAN, 2, "100.00", "10.00")));
+        // Fevereiro sem pagamentos: não volta da consulta, mas entra zerado no extrato e no cache
+        when(port.computeMonths(7, FEV, MAR)).thenReturn(List.of(mes(MAR, 1, "50.00", "5.00")));
+
+        var extrato = useCase.extrato(7, new PeriodoExtrato(JAN, MAR)).orElseThrow();
+
+        assertEquals(List.of(JAN, FEV, MAR), extrato.meses().stream().map(ExtratoComissaoMes::mes).toList());
+        assertEquals(0, extrato.meses().get(1).parcelasPagas());
+        assertEquals(3, extrato.total().parcelasPagas());
+        assertEquals(0, new BigDecimal("15.00").compareTo(extrato.total().comissao()));
+        verify(port).cacheMonths(7, List.of(FEV, MAR));
+    }
+
+    @Test
+    void extrato_allCached_skipsComputation() {
+        when(port.findCachedMonths(7, JAN, FEV)).thenReturn(List.of(mes(JAN, 1, "1.00", "0.10"), mes(FEV, 1, "1.00", "0.10")));
+
+        useCase.extrato(7, new PeriodoExtrato(JAN, FEV));
+
+        verify(port, never()).computeMonths(any(), any(), any());
+        verify(port, never()).cacheMonths(any(), any());
+    }
+
+    @Test
+    void extrato_currentMonthByClock_isNotCached() {
+        YearMonth abril = YearMonth.of(2020, 4);
+        when(port.computeMonths(7, MAR, abril)).thenReturn(List.of());
+
+        useCase.extrato(7, new PeriodoExtrato(MAR, abril));
+
+        // Março já encerrou pelo relógio injetado; abril ainda está aberto
+        verify(port).cacheMonths(7, List.of(MAR));
+    }
+
+    @Test
+    void corretor_cannotReadAnotherCorretorsStatement() {
+        when(currentUser.role()).thenReturn("CORRETOR");
+        when(scopeResolver.corretorId()).thenReturn(3);
+
+        assertThrows(AccessDeniedException.class, () -> useCase.extrato(7, new PeriodoExtrato(JAN, null)));
+        assertTrue(useCase.checkAccess(3));
+    }
+
+    @Test
+    void periodo_validation() {
+        assertThrows(IllegalArgumentException.class, () -> new PeriodoExtrato(null, JAN));
+        assertThrows(IllegalArgumentException.class, () -> new PeriodoExtrato(FEV, JAN));
+        assertThrows(IllegalArgumentException.class, () -> new PeriodoExtrato(JAN, JAN.plusMonths(PeriodoExtrato.MAX_MESES)));
+        assertEquals(1, new PeriodoExtrato(JAN, null).meses());
+    }
+
+    private static ExtratoComissaoMes mes(YearMonth m, long parcelas, String valor, String comissao) {
+        return new ExtratoComissaoMes(m, parcelas, new BigDecimal(valor), new BigDecimal(comissao));
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.jmcodestudio.megabarros.application.usecase.dashboard;
+
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardDimensao;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardFiltro;
+import br.com.jmcodestudio.megabarros.application.domain.dashboard.DashboardLinha;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.dashboard.ApoliceResumoPort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardUseCaseImplTest {
+
+    @Test
+    void load_sumsTotalOverGroups() {
+        var port = mock(ApoliceResumoPort.class);
+        when(port.aggregate(any(), any())).thenReturn(List.of(
+                new DashboardLinha(YearMonth.of(2025, 1), null, null, null, 3, new BigDecimal("3000.00"), new BigDecimal("300.000000")),
+                new DashboardLinha(YearMonth.of(2025, 2), null, null, null, 1, new BigDecimal("1200.50"), new BigDecimal("60.025000"))));
+        var useCase = new DashboardUseCaseImpl(port, mock(CurrentUserPort.class));
+
+        var dashboard = useCase.load(new DashboardFiltro(null, null, null, null, null), EnumSet.of(DashboardDimensao.MES));
+
+        assertEquals(2, dashboard.linhas().size());
+        assertEquals(4, dashboard.total().quantidade());
+        assertEquals(0, new BigDecimal("4200.50").compareTo(dashboard.total().valorTotal()));
+        assertEquals(0, new BigDecimal("360.025").compareTo(dashboard.total().comissaoTotal()));
+        assertNull(dashboard.total().mes());
+    }
+
+    @Test
+    void filtro_rejectsInvertedPeriod() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DashboardFiltro(YearMonth.of(2025, 5), YearMonth.of(2025, 1), null, null, null));
+    }
+}
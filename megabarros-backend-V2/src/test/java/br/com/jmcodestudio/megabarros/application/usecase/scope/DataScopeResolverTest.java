@@ -0,0 +1,83 @@
+package br.com.jmcodestudio.megabarros.application.usecase.scope;
+
+import br.com.jmcodestudio.megabarros.application.domain.scope.DataScope;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorClienteQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.corretor.CorretorQueryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DataScopeResolverTest {
+
+    CurrentUserPort currentUser;
+    CorretorQueryPort corretorQuery;
+    CorretorClienteQueryPort corretorClienteQuery;
+    DataScopeResolver resolver;
+
+    @BeforeEach
+    void setup() {
+        currentUser = mock(CurrentUserPort.class);
+        corretorQuery = mock(CorretorQueryPort.class);
+        corretorClienteQuery = mock(CorretorClienteQueryPort.class);
+        resolver = new DataScopeResolver(currentUser, corretorQuery, corretorClienteQuery, 2);
+    }
+
+    @Test
+    void adminAndUsuario_areUnrestricted_withoutLookup() {
+        when(currentUser.role()).thenReturn("ADMIN");
+        assertFalse(resolver.current().restricted());
+        when(currentUser.role()).thenReturn("USUARIO");
+        assertFalse(resolver.current().restricted());
+        verifyNoInteractions(corretorQuery, corretorClienteQuery);
+    }
+
+    @Test
+    void corretor_isRestrictedToOwnLinks_withIdFromToken() {
+        asCorretor(3);
+        when(corretorClienteQuery.findIdsByCorretorId(3, 3)).thenReturn(List.of(5, 6));
+
+        assertEquals(DataScope.corretor(3, List.of(5, 6)), resolver.current());
+        verifyNoInteractions(corretorQuery);
+    }
+
+    @Test
+    void tokenWithoutClaim_resolvesCorretorByUsuario() {
+        asCorretor(null);
+        when(currentUser.userId()).thenReturn(10L);
+        when(currentUser.username()).thenReturn("c@example.com");
+        when(corretorQuery.findCorretorIdByUsuario(10L, "c@example.com")).thenReturn(3);
+
+        assertEquals(3, resolver.corretorId());
+    }
+
+    @Test
+    void corretor_withLargePortfolio_fallsBackToSubquery() {
+        asCorretor(3);
+        when(corretorClienteQuery.findIdsByCorretorId(3, 3)).thenReturn(List.of(5, 6, 7));
+
+        DataScope scope = resolver.current();
+        assertTrue(scope.restricted());
+        assertFalse(scope.hasInlineIds());
+        assertFalse(scope.isEmpty());
+    }
+
+    @Test
+    void corretor_withoutCadastro_seesNothing() {
+        asCorretor(null);
+        when(corretorQuery.findCorretorIdByUsuario(any(), any())).thenReturn(null);
+
+        assertTrue(resolver.current().isEmpty());
+        verifyNoInteractions(corretorClienteQuery);
+    }
+
+    private void asCorretor(Integer corretorId) {
+        when(currentUser.role()).thenReturn("CORRETOR");
+        when(currentUser.corretorId()).thenReturn(corretorId);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.jmcodestudio.megabarros.application.usecase.seguradora;
+
+import br.com.jmcodestudio.megabarros.application.domain.produto.Produto;
+import br.com.jmcodestudio.megabarros.application.domain.produto.ProdutoId;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.Seguradora;
+import br.com.jmcodestudio.megabarros.application.domain.seguradora.SeguradoraId;
+import br.com.jmcodestudio.megabarros.application.port.out.CurrentUserPort;
+import br.com.jmcodestudio.megabarros.application.port.out.apolice.ApoliceQueryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.produto.ProdutoRepositoryPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraCatalogPort;
+import br.com.jmcodestudio.megabarros.application.port.out.seguradora.SeguradoraRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SeguradoraUseCasesImplTest {
+
+    SeguradoraRepositoryPort seguradoraRepo;
+    ProdutoRepositoryPort produtoRepo;
+    ApoliceQueryPort apoliceQuery;
+    SeguradoraCatalogPort catalog;
+    SeguradoraUseCasesImpl useCase;
+
+    @BeforeEach
+    void setup() {
+        seguradoraRepo = mock(SeguradoraRepositoryPort.class);
+        produtoRepo = mock(ProdutoRepositoryPort.class);
+        apoliceQuery = mock(ApoliceQueryPort.class);
+        catalog = mock(SeguradoraCatalogPort.class);
+        CurrentUserPort currentUser = mock(CurrentUserPort.class);
+        when(currentUser.role()).thenReturn("ADMIN");
+        useCase = new SeguradoraUseCasesImpl(seguradoraRepo, produtoRepo, apoliceQuery, currentUser, catalog);
+    }
+
+    @Test
+    void create_savesAllProdutosInOneCall() {
+        when(seguradoraRepo.save(any())).thenReturn(new Seguradora(new SeguradoraId(7), "Porto", List.of()));
+        when(produtoRepo.saveAll(anyList())).thenAnswer(inv -> {
+            List<Produto> ps = inv.getArgument(0);
+            return IntStream.range(0, ps.size())
+                    .mapToObj(i -> new Produto(new ProdutoId(100 + i), ps.get(i).seguradoraId(), ps.get(i).nome(), ps.get(i).tipo()))
+                    .toList();
+        });
+        List<Produto> produtos = IntStream.range(0, 300)
+                .mapToObj(i -> new Produto(null, null, "P" + i, "AUTO"))
+                .toList();
+
+        Seguradora created = useCase.create(new Seguradora(null, "Porto", produtos));
+
+        assertEquals(300, created.produtos().size());
+        assertEquals(7, created.produtos().get(0).seguradoraId().value());
+        verify(produtoRepo, times(1)).saveAll(anyList());
+        verify(produtoRepo, never()).save(any());
+        verify(catalog).invalidate();
+    }
+
+    @Test
+    void delete_checksOnceAndDeletesProdutosInBulk() {
+        var id = new SeguradoraId(7);
+        when(apoliceQuery.existsBySeguradoraOrProdutos(id)).thenReturn(false);
+
+        useCase.delete(id);
+
+        verify(apoliceQuery, times(1)).existsBySeguradoraOrProdutos(id);
+        verify(apoliceQuery, never()).existsByProdutoId(any());
+        verify(produtoRepo).deleteBySeguradoraId(id);
+        verify(produtoRepo, never()).deleteById(any());
+        verify(seguradoraRepo).deleteById(id);
+        verify(catalog).invalidate();
+    }
+
+    @Test
+    void delete_withApolices_conflictsWithoutDeleting() {
+        var id = new SeguradoraId(7);
+        when(apoliceQuery.existsBySeguradoraOrProdutos(id)).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> useCase.delete(id));
+
+        verifyNoInteractions(produtoRepo);
+        verify(seguradoraRepo, never()).deleteById(any());
+        verify(catalog, never()).invalidate();
+    }
+}